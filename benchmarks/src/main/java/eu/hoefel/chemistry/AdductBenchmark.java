@@ -0,0 +1,55 @@
+package eu.hoefel.chemistry;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the batch calculation of m/z values of several adducts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdductBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    public List<Adduct> adducts = List.of(Adduct.M_PLUS_H, Adduct.M_PLUS_NA, Adduct.M_PLUS_NH4, Adduct.M_MINUS_H);
+    public double[] masses;
+    public double[] mz;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        masses = random.doubles(size, 50, 1500).toArray();
+        mz = new double[size * adducts.size()];
+    }
+
+    @Benchmark
+    public double[] batch() {
+        Adduct.mz(masses, adducts, mz);
+        return mz;
+    }
+
+    @Benchmark
+    public double[] single() {
+        Adduct.M_PLUS_H.mz(masses, mz);
+        return mz;
+    }
+}
@@ -0,0 +1,45 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the usual JMH command line options,
+ * but always attaches the allocation profiler ({@code -prof gc}), such that
+ * allocation regressions show up next to the timings.
+ */
+final class Benchmarks {
+
+    private Benchmarks() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Runs the benchmarks.
+     * 
+     * @param args the JMH command line options, e.g. a regex of the benchmarks to
+     *             run
+     * @throws CommandLineOptionException if the options cannot be parsed
+     * @throws RunnerException            if the benchmarks fail
+     * @throws IOException                if the help cannot be printed
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        if (cli.shouldList()) {
+            new Runner(cli).list();
+            return;
+        }
+
+        new Runner(new OptionsBuilder().parent(cli).addProfiler(GCProfiler.class).build()).run();
+    }
+}
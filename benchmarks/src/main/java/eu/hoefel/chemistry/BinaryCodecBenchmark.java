@@ -0,0 +1,198 @@
+package eu.hoefel.chemistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for encoding and decoding compositions and molecule information
+ * with the binary codec, against formulas as text and a naive encoding of the
+ * molecule information via {@link DataOutputStream#writeUTF(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BinaryCodecBenchmark {
+
+    private static final int SIZE = 1000;
+
+    public List<Composition> compositions;
+    public List<MoleculeInfo> infos;
+    public ByteBuffer buffer;
+    public byte[] encodedCompositions;
+    public byte[] encodedFormulas;
+    public byte[] encodedInfos;
+    public byte[] naiveInfos;
+
+    @Setup
+    public void setup() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        compositions = new ArrayList<>(SIZE);
+        infos = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            int c = 5 + random.nextInt(40);
+            Composition composition = Composition.parse("C%dH%dN%dO%dS%d".formatted(c, c + random.nextInt(c + 2),
+                    random.nextInt(6), random.nextInt(10), random.nextInt(2)));
+            compositions.add(composition);
+
+            List<String> names = new ArrayList<>();
+            String stem = "compound-" + Integer.toString(random.nextInt(1 << 30), 36);
+            for (int j = 0; j < 10; j++) {
+                names.add(stem + (j % 2 == 0 ? " hydrochloride " : " sodium salt ") + j);
+            }
+            StringBuilder key = new StringBuilder();
+            for (int j = 0; j < BinaryCodec.INCHI_KEY_LENGTH; j++) {
+                key.append(j == 14 || j == 25 ? '-' : (char) ('A' + random.nextInt(26)));
+            }
+            infos.add(new MoleculeInfo(stem, composition.toString(), true, key.toString(),
+                    Map.copyOf(composition.toMap()), composition.mass(), stem + "-iupac-name", List.copyOf(names)));
+        }
+
+        buffer = ByteBuffer.allocate(1 << 22);
+        encodedCompositions = encodeCompositions();
+        encodedFormulas = encodeFormulas();
+        encodedInfos = encodeInfos();
+        naiveInfos = encodeInfosNaive();
+    }
+
+    @Benchmark
+    public byte[] encodeCompositions() {
+        buffer.clear();
+        for (Composition composition : compositions) {
+            BinaryCodec.write(composition, buffer);
+        }
+        return bytes(buffer.flip());
+    }
+
+    @Benchmark
+    public byte[] encodeFormulas() {
+        buffer.clear();
+        for (Composition composition : compositions) {
+            byte[] formula = composition.toString().getBytes(StandardCharsets.UTF_8);
+            buffer.put((byte) formula.length).put(formula);
+        }
+        return bytes(buffer.flip());
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public int decodeCompositions() {
+        ByteBuffer in = ByteBuffer.wrap(encodedCompositions);
+        int atoms = 0;
+        while (in.hasRemaining()) {
+            atoms += BinaryCodec.readComposition(in).atoms();
+        }
+        return atoms;
+    }
+
+    @Benchmark
+    public int decodeFormulas() {
+        ByteBuffer in = ByteBuffer.wrap(encodedFormulas);
+        int atoms = 0;
+        while (in.hasRemaining()) {
+            int length = in.get();
+            atoms += Composition.parse(new String(in.array(), in.position(), length, StandardCharsets.UTF_8)).atoms();
+            in.position(in.position() + length);
+        }
+        return atoms;
+    }
+
+    @Benchmark
+    public byte[] encodeInfos() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (MoleculeInfo info : infos) {
+            BinaryCodec.write(info, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeInfosNaive() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (MoleculeInfo info : infos) {
+            out.writeUTF(info.name());
+            out.writeUTF(info.formula());
+            out.writeBoolean(info.isValid());
+            out.writeUTF(info.key());
+            out.writeInt(info.components().size());
+            for (Map.Entry<Nuclide, Integer> component : info.components().entrySet()) {
+                out.writeUTF(((Element) component.getKey()).name());
+                out.writeInt(component.getValue());
+            }
+            out.writeDouble(info.mass());
+            out.writeUTF(info.iupac());
+            out.writeInt(info.names().size());
+            for (String name : info.names()) {
+                out.writeUTF(name);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public int decodeInfos() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encodedInfos));
+        int names = 0;
+        for (int i = 0; i < SIZE; i++) {
+            names += BinaryCodec.readMoleculeInfo(in).names().size();
+        }
+        return names;
+    }
+
+    @Benchmark
+    public int decodeInfosNaive() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(naiveInfos));
+        int names = 0;
+        for (int i = 0; i < SIZE; i++) {
+            String name = in.readUTF();
+            String formula = in.readUTF();
+            boolean isValid = in.readBoolean();
+            String key = in.readUTF();
+            int size = in.readInt();
+            Map<Nuclide, Integer> components = new HashMap<>();
+            for (int j = 0; j < size; j++) {
+                components.put(Element.valueOf(in.readUTF()), in.readInt());
+            }
+            double mass = in.readDouble();
+            String iupac = in.readUTF();
+            String[] synonyms = new String[in.readInt()];
+            for (int j = 0; j < synonyms.length; j++) {
+                synonyms[j] = in.readUTF();
+            }
+            names += new MoleculeInfo(name, formula, isValid, key, Map.copyOf(components), mass, iupac,
+                    List.of(synonyms)).names().size();
+        }
+        return names;
+    }
+}
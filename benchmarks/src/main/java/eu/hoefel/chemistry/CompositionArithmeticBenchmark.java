@@ -0,0 +1,101 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for neutral losses and polymer mass ladders via composition
+ * arithmetic, against the same arithmetic on maps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CompositionArithmeticBenchmark {
+
+    private static final int SIZE = 10000;
+
+    private static final int LADDER = 1000;
+
+    public List<Composition> compositions;
+    public List<Map<Nuclide, Integer>> maps;
+    public Composition water = Composition.parse("H2O");
+    public Composition glucose = Composition.parse("C6H12O6");
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        compositions = new ArrayList<>(SIZE);
+        maps = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            int c = 5 + random.nextInt(40);
+            Composition composition = Composition.parse("C%dH%dN%dO%dS%d".formatted(c, c + random.nextInt(c + 2),
+                    random.nextInt(6), 1 + random.nextInt(10), random.nextInt(2)));
+            compositions.add(composition);
+            maps.add(composition.toMap());
+        }
+    }
+
+    @Benchmark
+    public double neutralLoss() {
+        double mass = 0;
+        for (Composition composition : compositions) {
+            mass += composition.minus(water).mass(MassMode.MONOISOTOPIC);
+        }
+        return mass;
+    }
+
+    @Benchmark
+    public double neutralLossMap() {
+        Map<Nuclide, Integer> loss = water.toMap();
+        double mass = 0;
+        for (Map<Nuclide, Integer> map : maps) {
+            Map<Nuclide, Integer> result = new HashMap<>(map);
+            loss.forEach((nuclide, count) -> result.merge(nuclide, -count, Integer::sum));
+            result.values().removeIf(count -> count == 0);
+            mass += Composition.of(result).mass(MassMode.MONOISOTOPIC);
+        }
+        return mass;
+    }
+
+    @Benchmark
+    public double ladder() {
+        Composition.Builder builder = new Composition.Builder(glucose);
+        double mass = 0;
+        for (int n = 2; n <= LADDER; n++) {
+            mass += builder.add(glucose).subtract(water).mass(MassMode.MONOISOTOPIC);
+        }
+        return mass;
+    }
+
+    @Benchmark
+    public double ladderMap() {
+        Map<Nuclide, Integer> result = new HashMap<>(glucose.toMap());
+        Map<Nuclide, Integer> unit = glucose.toMap();
+        Map<Nuclide, Integer> loss = water.toMap();
+        double mass = 0;
+        for (int n = 2; n <= LADDER; n++) {
+            unit.forEach((nuclide, count) -> result.merge(nuclide, count, Integer::sum));
+            loss.forEach((nuclide, count) -> result.merge(nuclide, -count, Integer::sum));
+            mass += Composition.of(result).mass(MassMode.MONOISOTOPIC);
+        }
+        return mass;
+    }
+}
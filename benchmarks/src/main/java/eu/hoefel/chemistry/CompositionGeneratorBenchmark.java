@@ -0,0 +1,54 @@
+package eu.hoefel.chemistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the enumeration of the compositions matching a mass, sequential
+ * and parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositionGeneratorBenchmark {
+
+    @Param({ "C0-100 H0-200 N0-10 O0-20 S0-5" })
+    public String bounds;
+
+    @Param({ "500", "1000" })
+    public double mass;
+
+    @Param({ "5" })
+    public double ppm;
+
+    public CompositionGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = CompositionGenerator.of(bounds).withRdbe(0, 100).withValenceRules(true);
+    }
+
+    @Benchmark
+    public long sequential() {
+        return generator.generate(mass, ppm).count();
+    }
+
+    @Benchmark
+    public long parallel() {
+        return generator.count(mass, ppm);
+    }
+}
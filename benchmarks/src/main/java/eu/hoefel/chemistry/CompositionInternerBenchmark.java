@@ -0,0 +1,83 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for interning a library with many duplicate compositions, against
+ * a {@link ConcurrentHashMap} as interner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CompositionInternerBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    /** The number of distinct compositions. */
+    @Param({ "100000" })
+    public int distinct;
+
+    public List<Composition> compositions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Composition> library = new ArrayList<>(distinct);
+        for (int i = 0; i < distinct; i++) {
+            int c = 5 + random.nextInt(40);
+            library.add(Composition.parse("C%dH%dN%dO%dS%d".formatted(c, c + random.nextInt(c + 2),
+                    random.nextInt(6), random.nextInt(10), random.nextInt(2))));
+        }
+
+        // equal, but not identical compositions
+        compositions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            compositions.add(Composition.of(library.get(random.nextInt(distinct)).toMap()));
+        }
+    }
+
+    @Benchmark
+    public CompositionInterner intern() {
+        CompositionInterner interner = new CompositionInterner();
+        for (Composition composition : compositions) {
+            interner.intern(composition);
+        }
+        return interner;
+    }
+
+    @Benchmark
+    public CompositionInterner internParallel() {
+        CompositionInterner interner = new CompositionInterner();
+        compositions.parallelStream().forEach(interner::intern);
+        return interner;
+    }
+
+    @Benchmark
+    public ConcurrentHashMap<Composition, Composition> internBaseline() {
+        ConcurrentHashMap<Composition, Composition> interner = new ConcurrentHashMap<>();
+        for (Composition composition : compositions) {
+            interner.putIfAbsent(composition, composition);
+        }
+        return interner;
+    }
+}
@@ -0,0 +1,96 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the bulk masses of a screening library with the Vector API and
+ * the scalar fallback, against the masses per composition and the masses via
+ * the boxed maps as used by {@link MoleculeInfo}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx2g", "--add-modules=jdk.incubator.vector" })
+public class CompositionMatrixBenchmark {
+
+    private static final List<Element> ELEMENTS = List.of(Element.C, Element.H, Element.N, Element.O,
+            Element.S, Element.P, Element.F, Element.Cl, Element.Br);
+
+    @Param({ "1000000" })
+    public int size;
+
+    public CompositionMatrix matrix;
+    public List<Composition> compositions;
+    public List<Map<Nuclide, Integer>> maps;
+    public double[] masses;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[size * ELEMENTS.size()];
+        for (int i = 0; i < size; i++) {
+            int c = 5 + random.nextInt(40);
+            counts[i * ELEMENTS.size()] = c;
+            counts[i * ELEMENTS.size() + 1] = c + random.nextInt(c + 2);
+            for (int j = 2; j < ELEMENTS.size(); j++) {
+                counts[i * ELEMENTS.size() + j] = random.nextInt(j < 4 ? 8 : 2);
+            }
+        }
+        matrix = CompositionMatrix.of(ELEMENTS, counts);
+
+        compositions = new ArrayList<>(size);
+        maps = new ArrayList<>(size);
+        for (int r = 0; r < size; r++) {
+            Composition composition = matrix.composition(r);
+            compositions.add(composition);
+            maps.add(composition.toMap());
+        }
+        masses = new double[size];
+    }
+
+    @Benchmark
+    public double[] vector() {
+        matrix.masses(MassMode.MONOISOTOPIC, masses, CompositionMatrix.VECTORIZED);
+        return masses;
+    }
+
+    @Benchmark
+    public double[] scalar() {
+        matrix.masses(MassMode.MONOISOTOPIC, masses, false);
+        return masses;
+    }
+
+    @Benchmark
+    public double[] compositions() {
+        for (int r = 0; r < size; r++) {
+            masses[r] = compositions.get(r).mass(MassMode.MONOISOTOPIC);
+        }
+        return masses;
+    }
+
+    @Benchmark
+    public double[] maps() {
+        for (int r = 0; r < size; r++) {
+            masses[r] = MoleculeInfo.calculateMass(maps.get(r));
+        }
+        return masses;
+    }
+}
@@ -0,0 +1,97 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the query "contains Cl and Br, no metals, at most 20 C" via
+ * the presence masks, against iterating the entries of the component maps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CompositionQueryBenchmark {
+
+    private static final Element[] OPTIONAL = { Element.N, Element.O, Element.S, Element.Cl, Element.Br, Element.F,
+            Element.Na, Element.K, Element.Fe };
+
+    @Param({ "1000000" })
+    public int size;
+
+    public List<Composition> compositions;
+    public List<Map<Nuclide, Integer>> maps;
+    public CompositionQuery query = CompositionQuery.ALL.containing(Element.Cl, Element.Br)
+                                                        .excluding(element -> element.category().isMetal())
+                                                        .withCount(Element.C, 0, 20);
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        compositions = new ArrayList<>(size);
+        maps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder formula = new StringBuilder();
+            int c = 1 + random.nextInt(40);
+            formula.append('C').append(c).append('H').append(c + random.nextInt(c + 2));
+            for (Element element : OPTIONAL) {
+                if (random.nextInt(3) == 0) formula.append(element.name()).append(1 + random.nextInt(3));
+            }
+            Composition composition = Composition.parse(formula.toString());
+            compositions.add(composition);
+            maps.add(composition.toMap());
+        }
+    }
+
+    @Benchmark
+    public long query() {
+        long count = 0;
+        for (Composition composition : compositions) {
+            if (query.test(composition)) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long queryParallel() {
+        return query.count(compositions);
+    }
+
+    @Benchmark
+    public long queryBaseline() {
+        long count = 0;
+        for (Map<Nuclide, Integer> map : maps) {
+            boolean chlorine = false;
+            boolean bromine = false;
+            boolean matches = true;
+            for (Map.Entry<Nuclide, Integer> entry : map.entrySet()) {
+                Element element = entry.getKey().element();
+                if (element.category().isMetal() || element == Element.C && entry.getValue() > 20) {
+                    matches = false;
+                    break;
+                }
+                chlorine |= element == Element.Cl;
+                bromine |= element == Element.Br;
+            }
+            if (matches && chlorine && bromine) count++;
+        }
+        return count;
+    }
+}
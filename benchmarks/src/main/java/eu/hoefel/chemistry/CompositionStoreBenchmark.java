@@ -0,0 +1,121 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for appending, computing the masses of and filtering compositions
+ * in an off-heap store, against the same operations on compositions and on
+ * boxed maps on the heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CompositionStoreBenchmark {
+
+    private static final List<Element> COLUMNS = List.of(Element.C, Element.H, Element.N, Element.O,
+            Element.S, Element.P);
+
+    @Param({ "1000000" })
+    public int size;
+
+    public int[] counts;
+    public CompositionStore store;
+    public List<Composition> compositions;
+    public List<Map<Nuclide, Integer>> maps;
+    public double[] masses;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        counts = new int[size * COLUMNS.size()];
+        for (int i = 0; i < size; i++) {
+            int c = 5 + random.nextInt(40);
+            counts[i * COLUMNS.size()] = c;
+            counts[i * COLUMNS.size() + 1] = c + random.nextInt(c + 2);
+            for (int j = 2; j < COLUMNS.size(); j++) {
+                counts[i * COLUMNS.size() + j] = random.nextInt(j < 4 ? 8 : 2);
+            }
+        }
+
+        store = append();
+        compositions = new ArrayList<>(size);
+        maps = new ArrayList<>(size);
+        for (long r = 0; r < size; r++) {
+            Composition composition = store.composition(r);
+            compositions.add(composition);
+            maps.add(composition.toMap());
+        }
+        masses = new double[size];
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+    }
+
+    @Benchmark
+    public CompositionStore append() {
+        CompositionStore appended = CompositionStore.allocate(COLUMNS);
+        int[] row = new int[COLUMNS.size()];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(counts, i * row.length, row, 0, row.length);
+            appended.append(row);
+        }
+        return appended;
+    }
+
+    @Benchmark
+    public double[] masses() {
+        store.masses(MassMode.MONOISOTOPIC, 0, masses);
+        return masses;
+    }
+
+    @Benchmark
+    public double[] massesCompositions() {
+        for (int r = 0; r < size; r++) {
+            masses[r] = compositions.get(r).mass(MassMode.MONOISOTOPIC);
+        }
+        return masses;
+    }
+
+    @Benchmark
+    public double[] massesMaps() {
+        for (int r = 0; r < size; r++) {
+            masses[r] = MoleculeInfo.calculateMass(maps.get(r));
+        }
+        return masses;
+    }
+
+    @Benchmark
+    public long filter() {
+        return store.filter(MassMode.MONOISOTOPIC, 400, 401).count();
+    }
+
+    @Benchmark
+    public long filterCompositions() {
+        return compositions.stream()
+                           .mapToDouble(composition -> composition.mass(MassMode.MONOISOTOPIC))
+                           .filter(mass -> mass >= 400 && mass <= 401)
+                           .count();
+    }
+}
@@ -0,0 +1,135 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the CACTUS resolver, serving canned molecule information
+ * over HTTP on the loopback interface. Unknown names are answered with 404, just
+ * as the real resolver does.
+ */
+final class FakeResolver implements AutoCloseable {
+
+    /**
+     * The canned information for a molecule.
+     * 
+     * @param formula the chemical formula, e.g. "H2O"
+     * @param key     the standard InChI key (without the "InChIKey=" prefix)
+     * @param iupac   the IUPAC name
+     * @param names   the synonymous names
+     */
+    record Entry(String formula, String key, String iupac, List<String> names) {}
+
+    /** Some well-known molecules with their real data. */
+    static final Map<String, Entry> KNOWN = Map.of(
+            "water",              new Entry("H2O",         "XLYOFNOQVPJJNP-UHFFFAOYSA-N", "oxidane", List.of("water", "H2O")),
+            "ethanol",            new Entry("C2H6O",       "LFQSCWFLJHTTHZ-UHFFFAOYSA-N", "ethanol", List.of("ethanol", "alcohol")),
+            "caffeine",           new Entry("C8H10N4O2",   "RYYVLZVUVIJVGH-UHFFFAOYSA-N", "1,3,7-trimethylpurine-2,6-dione", List.of("caffeine", "guaranine")),
+            "glucose",            new Entry("C6H12O6",     "WQZGKKKJIJFFOK-GASJEMHNSA-N", "(3R,4S,5S,6R)-6-(hydroxymethyl)oxane-2,3,4,5-tetrol", List.of("glucose", "dextrose")),
+            "aspirin",            new Entry("C9H8O4",      "BSYNRYMUTXBXSQ-UHFFFAOYSA-N", "2-acetyloxybenzoic acid", List.of("aspirin", "acetylsalicylic acid")),
+            "hydroxychloroquine", new Entry("C18H26ClN3O", "XXSMGPRMXLTPCZ-UHFFFAOYSA-N", "2-[4-[(7-chloroquinolin-4-yl)amino]pentyl-ethylamino]ethanol", List.of("hydroxychloroquine")),
+            "benzene",            new Entry("C6H6",        "UHOVQNZJYSORNB-UHFFFAOYSA-N", "benzene", List.of("benzene", "benzol")),
+            "methane",            new Entry("CH4",         "VNWKTOKETHGBQD-UHFFFAOYSA-N", "methane", List.of("methane", "marsh gas")),
+            "acetone",            new Entry("C3H6O",       "CSCPPACGZOOCGX-UHFFFAOYSA-N", "propan-2-one", List.of("acetone", "propanone")),
+            "chalk",              new Entry("CCaO3",       "VTYYLEPIZMXCLO-UHFFFAOYSA-L", "calcium carbonate", List.of("chalk", "calcium carbonate")));
+
+    private final Map<String, String> responses = new LinkedHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+
+    /**
+     * Starts a new resolver on an ephemeral port.
+     * 
+     * @param entries       the molecules to serve
+     * @param latencyMillis the artificial latency of each response, to mimic the
+     *                      network
+     */
+    FakeResolver(Map<String, Entry> entries, long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        entries.forEach((name, entry) -> {
+            String key = "InChIKey=" + entry.key();
+            responses.put("/" + name + MoleculeInfo.CHEMICAL_FORMULA_TARGET, entry.formula());
+            responses.put("/" + name + MoleculeInfo.STD_IN_CH_I_TARGET, key);
+            responses.put("/" + key + MoleculeInfo.CHEMICAL_FORMULA_TARGET, entry.formula());
+            responses.put("/" + key + MoleculeInfo.IUPAC_NAME, entry.iupac());
+            responses.put("/" + key + MoleculeInfo.NAMES, String.join("\n", entry.names()));
+        });
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the fake resolver", e);
+        }
+        // platform threads, as the clients may pin all carrier threads while waiting for us
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Gets the base URL, as expected by {@link MoleculeInfo#RESOLVER_PROPERTY}.
+     * 
+     * @return the base URL
+     */
+    String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Points the library to this resolver. Needs to be called before the first
+     * molecule gets created.
+     * 
+     * @return this resolver
+     */
+    FakeResolver install() {
+        System.setProperty(MoleculeInfo.RESOLVER_PROPERTY, url());
+        if (!MoleculeInfo.REF_URL.equals(url())) {
+            throw new IllegalStateException("The resolver was already fixed to " + MoleculeInfo.REF_URL);
+        }
+        return this;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            String response = responses.get(exchange.getRequestURI().getPath());
+            if (response == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
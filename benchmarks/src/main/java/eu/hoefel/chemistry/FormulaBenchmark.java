@@ -0,0 +1,61 @@
+package eu.hoefel.chemistry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the parsing of the formulas as returned by the resolver and
+ * the subsequent mass computation, as well as for the local {@link Composition}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FormulaBenchmark {
+
+    @Param({ "H2O", "C8H10N4O2", "C18H26ClN3O", "C254H377N65O75S6" })
+    public String formula;
+
+    public Map<Nuclide, Integer> components;
+    public Composition composition;
+
+    @Setup
+    public void setup() {
+        components = MoleculeInfo.parseFormula(formula);
+        composition = Composition.parse(formula);
+    }
+
+    @Benchmark
+    public Map<Nuclide, Integer> parseFormula() {
+        return MoleculeInfo.parseFormula(formula);
+    }
+
+    @Benchmark
+    public double calculateMass() {
+        return MoleculeInfo.calculateMass(components);
+    }
+
+    @Benchmark
+    public Composition parseComposition() {
+        return Composition.parse(formula);
+    }
+
+    @Benchmark
+    public double[] compositionMasses() {
+        return composition.masses();
+    }
+}
@@ -0,0 +1,89 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for sorting compositions into Hill order and joining their Hill
+ * formulas, against building the formulas as strings and sorting these.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class HillBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    public List<Composition> compositions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        compositions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int c = random.nextInt(40);
+            compositions.add(Composition.parse("C%dH%dN%dO%dS%dCl%d".formatted(c, c + random.nextInt(c + 2),
+                    random.nextInt(6), random.nextInt(10), random.nextInt(2), random.nextInt(3))));
+        }
+    }
+
+    @Benchmark
+    public List<Composition> sortRadix() {
+        List<Composition> sorted = new ArrayList<>(compositions);
+        Composition.sortHill(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Composition> sortComparator() {
+        List<Composition> sorted = new ArrayList<>(compositions);
+        sorted.sort(Composition.HILL_ORDER);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<String> sortStrings() {
+        List<String> formulas = new ArrayList<>(compositions.size());
+        for (Composition composition : compositions) {
+            formulas.add(composition.toString());
+        }
+        formulas.sort(null);
+        return formulas;
+    }
+
+    @Benchmark
+    public int joinHill() {
+        StringBuilder sb = new StringBuilder();
+        for (Composition composition : compositions) {
+            sb.append(composition.hill()).append('\n');
+        }
+        return sb.length();
+    }
+
+    @Benchmark
+    public int joinStrings() {
+        StringBuilder sb = new StringBuilder();
+        for (Composition composition : compositions) {
+            sb.append(composition.toString()).append('\n');
+        }
+        return sb.length();
+    }
+}
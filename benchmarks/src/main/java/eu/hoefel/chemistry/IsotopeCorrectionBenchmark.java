@@ -0,0 +1,84 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the natural abundance correction of the isotopologue
+ * abundances of many samples of central carbon metabolites.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsotopeCorrectionBenchmark {
+
+    private static final List<String> METABOLITES = List.of("C3H4O3", "C3H7NO2", "C4H6O5", "C5H9NO4", "C6H8O7",
+            "C6H12O6", "C6H13O9P", "C7H15O10P", "C10H16N5O13P3", "C21H36N7O16P3S");
+
+    @Param({ "100" })
+    public int samples;
+
+    public List<Composition> compositions;
+    public List<IsotopeCorrection> corrections;
+    public List<double[]> measured;
+    public List<double[]> corrected;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        compositions = METABOLITES.stream().map(Composition::parse).toList();
+        corrections = new ArrayList<>();
+        measured = new ArrayList<>();
+        corrected = new ArrayList<>();
+        for (Composition composition : compositions) {
+            IsotopeCorrection correction = IsotopeCorrection.of(composition, Label.C13);
+            corrections.add(correction);
+            double[] m = random.doubles(samples * correction.isotopologues()).toArray();
+            measured.add(m);
+            corrected.add(new double[m.length]);
+        }
+    }
+
+    @Benchmark
+    public List<double[]> correct() {
+        for (int j = 0; j < corrections.size(); j++) {
+            IsotopeCorrection correction = corrections.get(j);
+            correction.correct(measured.get(j), corrected.get(j), samples);
+        }
+        return corrected;
+    }
+
+    @Benchmark
+    public List<double[]> correctAll() {
+        IsotopeCorrection.correctAll(corrections, measured, corrected);
+        return corrected;
+    }
+
+    @Benchmark
+    public IsotopeCorrection cachedLookup() {
+        return IsotopeCorrection.of(compositions.get(5), Label.C13);
+    }
+
+    @Benchmark
+    public IsotopeCorrection build() {
+        // a fresh tracer (not cached) to measure the construction of the matrix
+        return IsotopeCorrection.of(compositions.get(5), new Label(Isotope.C.C13, 0.5 + 0.5 * Math.random()));
+    }
+}
@@ -0,0 +1,58 @@
+package eu.hoefel.chemistry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the isotope pattern calculation, from small molecules to
+ * proteins, for a single composition and for a batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IsotopePatternBenchmark {
+
+    @Param({ "C8H10N4O2", "C254H377N65O75S6", "C2000H3200N550O600S20" })
+    public String formula;
+
+    @Param({ "COARSE", "FINE" })
+    public IsotopePatternCalculator.Mode mode;
+
+    public Composition composition;
+    public IsotopePatternCalculator calculator;
+    public List<Composition> batch;
+
+    @Setup
+    public void setup() {
+        composition = Composition.parse(formula);
+        calculator = mode == IsotopePatternCalculator.Mode.COARSE ? IsotopePatternCalculator.COARSE
+                : IsotopePatternCalculator.FINE;
+        batch = Collections.nCopies(64, composition);
+    }
+
+    @Benchmark
+    public IsotopePattern calculate() {
+        return calculator.calculate(composition);
+    }
+
+    @Benchmark
+    public List<IsotopePattern> calculateAll() {
+        return calculator.calculateAll(batch);
+    }
+}
@@ -0,0 +1,70 @@
+package eu.hoefel.chemistry;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the Kendrick mass defects and the homologous series of many
+ * peaks, against a scalar baseline using {@link Math#round(double)} (which
+ * converts to long and therefore is not vectorized).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class KendrickBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    public int size;
+
+    public KendrickCalculator calculator = KendrickCalculator.CH2;
+    public double[] masses;
+    public double[] defects;
+    public int[] groups;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        masses = new double[size];
+        for (int i = 0; i < size; i++) {
+            masses[i] = 150 + 850 * random.nextDouble();
+        }
+        defects = new double[size];
+        groups = new int[size];
+    }
+
+    @Benchmark
+    public double[] defects() {
+        calculator.defects(masses, defects);
+        return defects;
+    }
+
+    @Benchmark
+    public double[] defectsBaseline() {
+        double factor = calculator.factor();
+        for (int i = 0; i < masses.length; i++) {
+            double kendrick = masses[i] * factor;
+            defects[i] = Math.round(kendrick) - kendrick;
+        }
+        return defects;
+    }
+
+    @Benchmark
+    public int series() {
+        return calculator.series(masses, 1e-3, groups);
+    }
+}
@@ -0,0 +1,77 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the masses and isotope patterns of all 13C label states of
+ * metabolites, reusing the unlabelled composition vs. calculating each labelled
+ * composition from scratch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabellingBenchmark {
+
+    @Param({ "C6H12O6", "C21H27N7O14P2", "C63H88CoN14O14P" })
+    public String formula;
+
+    @Param({ "COARSE", "FINE" })
+    public IsotopePatternCalculator.Mode mode;
+
+    public Composition composition;
+    public IsotopePatternCalculator calculator;
+
+    @Setup
+    public void setup() {
+        composition = Composition.parse(formula);
+        calculator = mode == IsotopePatternCalculator.Mode.COARSE ? IsotopePatternCalculator.COARSE
+                : IsotopePatternCalculator.FINE;
+    }
+
+    @Benchmark
+    public List<IsotopePattern> patterns() {
+        return calculator.calculateLabelled(composition, Label.C13);
+    }
+
+    @Benchmark
+    public List<IsotopePattern> patternsFromScratch() {
+        int n = composition.count(Element.C);
+        List<IsotopePattern> patterns = new ArrayList<>(n + 1);
+        for (int k = 0; k <= n; k++) {
+            patterns.add(calculator.calculate(composition.label(Isotope.C.C13, k)));
+        }
+        return patterns;
+    }
+
+    @Benchmark
+    public double[] masses() {
+        return Label.C13.masses(composition, MassMode.MONOISOTOPIC);
+    }
+
+    @Benchmark
+    public double[] massesFromScratch() {
+        int n = composition.count(Element.C);
+        double[] masses = new double[n + 1];
+        for (int k = 0; k <= n; k++) {
+            masses[k] = composition.label(Isotope.C.C13, k).mass(MassMode.MONOISOTOPIC);
+        }
+        return masses;
+    }
+}
@@ -0,0 +1,82 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the lookup of peaks in a mass index of about 10<sup>6</sup>
+ * CHNO compositions, one by one and in bulk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MassIndexBenchmark {
+
+    @Param({ "100000" })
+    public int peaks;
+
+    @Param({ "5" })
+    public double ppm;
+
+    public MassIndex<Composition> index;
+    public double[] masses;
+    public int[] from;
+    public int[] to;
+
+    @Setup
+    public void setup() {
+        List<Composition> compositions = new ArrayList<>();
+        for (int c = 1; c <= 100; c++) {
+            for (int h = 0; h <= 2 * c + 2; h += 2) {
+                for (int n = 0; n <= 4; n++) {
+                    for (int o = 0; o <= 9; o++) {
+                        compositions.add(Composition.parse("C" + c + "H" + h + "N" + n + "O" + o));
+                    }
+                }
+            }
+        }
+        index = MassIndex.of(compositions, MassMode.MONOISOTOPIC);
+
+        SplittableRandom random = new SplittableRandom(42);
+        masses = new double[peaks];
+        for (int i = 0; i < peaks; i++) {
+            masses[i] = random.nextDouble(50, 1500);
+        }
+        Arrays.sort(masses);
+        from = new int[peaks];
+        to = new int[peaks];
+    }
+
+    @Benchmark
+    public int[] queryEach() {
+        for (int i = 0; i < masses.length; i++) {
+            from[i] = index.from(masses[i], ppm);
+            to[i] = index.to(masses[i], ppm);
+        }
+        return to;
+    }
+
+    @Benchmark
+    public int[] queryBulk() {
+        index.query(masses, ppm, from, to);
+        return to;
+    }
+}
@@ -0,0 +1,85 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for evaluating blend recipes, i.e. the average molar mass and the
+ * carbon mass fraction of mixtures where one component changes at a time, via
+ * incremental updates against building each mixture from scratch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class MixtureBenchmark {
+
+    private static final int RECIPES = 1000;
+
+    public Mixture blend;
+    public int[] components;
+    public double[] fractions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Composition> compounds = new ArrayList<>();
+        double[] initial = new double[20];
+        for (int i = 0; i < initial.length; i++) {
+            int c = 1 + random.nextInt(20);
+            compounds.add(Composition.parse("C%dH%dO%dN%d".formatted(c, 2 * c + 2, random.nextInt(4),
+                    random.nextInt(2))));
+            initial[i] = random.nextDouble();
+        }
+        blend = Mixture.ofMassFractions(compounds, initial);
+
+        components = new int[RECIPES];
+        fractions = new double[RECIPES];
+        for (int i = 0; i < RECIPES; i++) {
+            components[i] = random.nextInt(initial.length);
+            fractions[i] = random.nextDouble(0.2);
+        }
+    }
+
+    @Benchmark
+    public double incremental() {
+        Mixture mixture = blend;
+        double sum = 0;
+        for (int i = 0; i < RECIPES; i++) {
+            mixture = mixture.withMassFraction(components[i], fractions[i]);
+            sum += mixture.mass() + mixture.massFraction(Element.C);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double rebuild() {
+        Mixture mixture = blend;
+        double sum = 0;
+        for (int i = 0; i < RECIPES; i++) {
+            double[] massFractions = mixture.massFractions();
+            double others = 1 - massFractions[components[i]];
+            for (int j = 0; j < massFractions.length; j++) {
+                massFractions[j] = j == components[i] ? fractions[i] : massFractions[j] * (1 - fractions[i]) / others;
+            }
+            mixture = Mixture.ofMassFractions(mixture.components(), massFractions);
+            sum += mixture.mass() + mixture.massFraction(Element.C);
+        }
+        return sum;
+    }
+}
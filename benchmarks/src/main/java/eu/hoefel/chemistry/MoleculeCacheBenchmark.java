@@ -0,0 +1,67 @@
+package eu.hoefel.chemistry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the creation of (cached) molecules under contention. The
+ * molecules are resolved against a {@link FakeResolver} on the loopback
+ * interface and the cache gets warmed up before measuring, so only cache hits
+ * are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoleculeCacheBenchmark {
+
+    public FakeResolver resolver;
+    public String[] names;
+
+    @Setup
+    public void setup() {
+        resolver = new FakeResolver(FakeResolver.KNOWN, 0).install();
+        names = FakeResolver.KNOWN.keySet().toArray(String[]::new);
+        for (String name : names) {
+            new Molecule(name);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        resolver.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Molecule hitSingleThreaded() {
+        return new Molecule(names[ThreadLocalRandom.current().nextInt(names.length)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Molecule hitContended() {
+        return new Molecule(names[ThreadLocalRandom.current().nextInt(names.length)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public double hitContendedMass() {
+        return new Molecule(names[ThreadLocalRandom.current().nextInt(names.length)]).mass();
+    }
+}
@@ -0,0 +1,188 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Load test for the creation of molecules from many threads against a
+ * {@link FakeResolver}. Reports throughput, latency percentiles, the carrier
+ * thread pinning of virtual threads and the heap growth.
+ * <p>
+ * The options are given as {@code key=value} pairs:
+ * <ul>
+ * <li>{@code mode}: {@code virtual} or {@code platform} (default
+ * {@code virtual}), the cache is shared, so use one JVM per mode</li>
+ * <li>{@code threads}: the number of threads (default 1000)</li>
+ * <li>{@code requests}: the number of molecules per thread (default 200)</li>
+ * <li>{@code hot}: the number of hot names (default 100)</li>
+ * <li>{@code zipf}: the Zipf exponent of the hot names (default 1.1)</li>
+ * <li>{@code tail}: the number of names in the long tail (default 50000)</li>
+ * <li>{@code tailFraction}: the fraction of long tail requests (default
+ * 0.1)</li>
+ * <li>{@code invalidFraction}: the fraction of invalid names (default
+ * 0.02)</li>
+ * <li>{@code latency}: the latency of the resolver in ms (default 5)</li>
+ * <li>{@code seed}: the seed of the name sequence (default 42)</li>
+ * </ul>
+ */
+final class MoleculeLoadTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private MoleculeLoadTest() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Runs the load test.
+     * 
+     * @param args the options as {@code key=value} pairs
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            if (kv.length != 2) throw new IllegalArgumentException("Expected key=value, but got " + arg);
+            options.put(kv[0], kv[1]);
+        }
+
+        String mode = options.getOrDefault("mode", "virtual");
+        if (!"virtual".equals(mode) && !"platform".equals(mode)) {
+            throw new IllegalArgumentException("Expected mode=virtual or mode=platform, but got mode=" + mode);
+        }
+        boolean virtual = "virtual".equals(mode);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "1000"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "200"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        var names = new NameDistribution(Integer.parseInt(options.getOrDefault("hot", "100")),
+                Double.parseDouble(options.getOrDefault("zipf", "1.1")),
+                Integer.parseInt(options.getOrDefault("tail", "50000")),
+                Double.parseDouble(options.getOrDefault("tailFraction", "0.1")),
+                Double.parseDouble(options.getOrDefault("invalidFraction", "0.02")));
+
+        try (var resolver = new FakeResolver(names.entries(), Long.parseLong(options.getOrDefault("latency", "5")));
+                var recording = new Recording()) {
+            resolver.install();
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+            long[][] latencies = new long[threads][requests];
+            LongAdder failures = new LongAdder();
+            List<Future<?>> futures = new ArrayList<>(threads);
+            long start = System.nanoTime();
+            try (ExecutorService executor = virtual ? Executors.newVirtualThreadPerTaskExecutor()
+                    : Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    long[] threadLatencies = latencies[t];
+                    SplittableRandom random = new SplittableRandom(seed + t);
+                    futures.add(executor.submit(() -> run(names, random, threadLatencies, failures)));
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            // a thread that died early would leave its remaining latencies at 0
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Load test thread failed", e.getCause());
+                }
+            }
+
+            System.gc();
+            long heapAfter = memory.getHeapMemoryUsage().getUsed();
+            recording.stop();
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf(Locale.ENGLISH, "mode:       %s threads%n", virtual ? "virtual" : "platform");
+            System.out.printf(Locale.ENGLISH, "requests:   %d (%d failed)%n", all.length, failures.sum());
+            System.out.printf(Locale.ENGLISH, "throughput: %.1f molecules/s%n", all.length / (elapsed / 1e9));
+            System.out.printf(Locale.ENGLISH, "latency:    p50=%.3fms p99=%.3fms p999=%.3fms max=%.3fms%n",
+                    percentile(all, 0.5), percentile(all, 0.99), percentile(all, 0.999), all[all.length - 1] / 1e6);
+            System.out.printf(Locale.ENGLISH, "heap:       %+.1f MiB (%.1f MiB -> %.1f MiB)%n",
+                    (heapAfter - heapBefore) / 1048576.0, heapBefore / 1048576.0, heapAfter / 1048576.0);
+            reportPinning(recording);
+        }
+    }
+
+    private static void run(NameDistribution names, SplittableRandom random, long[] latencies, LongAdder failures) {
+        for (int i = 0; i < latencies.length; i++) {
+            String name = names.next(random);
+            long start = System.nanoTime();
+            try {
+                new Molecule(name);
+            } catch (RuntimeException e) {
+                failures.increment();
+            }
+            latencies[i] = System.nanoTime() - start;
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static void reportPinning(Recording recording) {
+        try {
+            Path file = Files.createTempFile("loadtest", ".jfr");
+            try {
+                recording.dump(file);
+                long count = 0;
+                Duration total = Duration.ZERO;
+                Map<String, Long> frames = new HashMap<>();
+                for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                    if (!PINNED_EVENT.equals(event.getEventType().getName())) continue;
+
+                    count++;
+                    total = total.plus(event.getDuration());
+                    if (event.getStackTrace() != null) {
+                        event.getStackTrace().getFrames().stream()
+                             .filter(RecordedFrame::isJavaFrame)
+                             .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName())
+                             .filter(m -> m.startsWith("eu.hoefel"))
+                             .findFirst()
+                             .ifPresent(m -> frames.merge(m, 1L, Long::sum));
+                    }
+                }
+
+                System.out.printf(Locale.ENGLISH, "pinning:    %d events, %.3fms in total%n", count, total.toNanos() / 1e6);
+                frames.entrySet().stream()
+                      .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                      .limit(5)
+                      .forEach(e -> System.out.printf(Locale.ENGLISH, "            %6d at %s%n", e.getValue(), e.getKey()));
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot evaluate the pinning events", e);
+        }
+    }
+}
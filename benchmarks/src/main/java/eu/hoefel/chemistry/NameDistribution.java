@@ -0,0 +1,111 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A reproducible distribution of molecule names, as seen by a typical service:
+ * a small set of hot names drawn from a Zipf distribution, a long tail of
+ * rarely requested names and some invalid names.
+ */
+final class NameDistribution {
+
+    private final String[] hot;
+    private final double[] hotCdf;
+    private final String[] tail;
+    private final double tailFraction;
+    private final double invalidFraction;
+
+    /**
+     * Creates a new distribution.
+     * 
+     * @param hotNames        the number of hot names
+     * @param zipfExponent    the exponent of the Zipf distribution of the hot
+     *                        names, e.g. 1.1
+     * @param tailNames       the number of names in the long tail
+     * @param tailFraction    the fraction of requests going to the long tail
+     * @param invalidFraction the fraction of requests with invalid names
+     */
+    NameDistribution(int hotNames, double zipfExponent, int tailNames, double tailFraction, double invalidFraction) {
+        List<String> known = List.copyOf(FakeResolver.KNOWN.keySet());
+        hot = new String[hotNames];
+        for (int i = 0; i < hotNames; i++) {
+            hot[i] = i < known.size() ? known.get(i) : "hot" + i;
+        }
+
+        hotCdf = new double[hotNames];
+        double sum = 0;
+        for (int i = 0; i < hotNames; i++) {
+            sum += 1 / Math.pow(i + 1, zipfExponent);
+            hotCdf[i] = sum;
+        }
+        for (int i = 0; i < hotNames; i++) {
+            hotCdf[i] /= sum;
+        }
+
+        tail = new String[tailNames];
+        for (int i = 0; i < tailNames; i++) {
+            tail[i] = "tail" + i;
+        }
+
+        this.tailFraction = tailFraction;
+        this.invalidFraction = invalidFraction;
+    }
+
+    /**
+     * Gets the entries the resolver needs to know about, i.e. everything but the
+     * invalid names.
+     * 
+     * @return the resolvable molecules
+     */
+    Map<String, FakeResolver.Entry> entries() {
+        Map<String, FakeResolver.Entry> entries = new LinkedHashMap<>();
+        for (String name : hot) {
+            entries.put(name, FakeResolver.KNOWN.getOrDefault(name, synthetic(name)));
+        }
+        for (String name : tail) {
+            entries.put(name, synthetic(name));
+        }
+        return entries;
+    }
+
+    /**
+     * Draws the next name.
+     * 
+     * @param random the source of randomness
+     * @return the name
+     */
+    String next(SplittableRandom random) {
+        double u = random.nextDouble();
+        if (u < invalidFraction) {
+            return "invalid" + random.nextInt(1_000_000);
+        } else if (u < invalidFraction + tailFraction && tail.length > 0) {
+            return tail[random.nextInt(tail.length)];
+        }
+
+        int i = Arrays.binarySearch(hotCdf, random.nextDouble());
+        return hot[Math.min(hot.length - 1, i < 0 ? -i - 1 : i)];
+    }
+
+    /**
+     * Creates a plausible, but made up, molecule.
+     * 
+     * @param name the name of the molecule
+     * @return the molecule information
+     */
+    private static FakeResolver.Entry synthetic(String name) {
+        int h = name.hashCode() & Integer.MAX_VALUE;
+        String formula = "C" + (1 + h % 40) + "H" + (2 + h % 77) + "N" + (1 + h % 5) + "O" + (1 + h % 9);
+
+        char[] key = new char[14];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (char) ('A' + h % 26);
+            h = h / 26 + 7 * i;
+        }
+
+        return new FakeResolver.Entry(formula, new String(key) + "-UHFFFAOYSA-N", name, List.of(name));
+    }
+}
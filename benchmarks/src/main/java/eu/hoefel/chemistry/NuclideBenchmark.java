@@ -0,0 +1,65 @@
+package eu.hoefel.chemistry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the lookup of elements and isotopes. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NuclideBenchmark {
+
+    /** Symbols, full names, isotopes and misses, from cheap to expensive. */
+    @Param({ "H", "Og", "carbon", "He3", "deuterium", "Og295", "water" })
+    public String name;
+
+    @Param({ "1", "59", "118" })
+    public int atomicNumber;
+
+    public Element element;
+
+    @Setup
+    public void setup() {
+        element = Element.withAtomicNumber(atomicNumber);
+    }
+
+    @Benchmark
+    public Element elementParseName() {
+        return Element.parseName(name);
+    }
+
+    @Benchmark
+    public Isotope isotopeParseName() {
+        return Isotope.parseName(name);
+    }
+
+    @Benchmark
+    public Nuclide nuclideNamed() {
+        return Nuclide.isNuclide(name) ? Nuclide.named(name) : null;
+    }
+
+    @Benchmark
+    public Element elementWithAtomicNumber() {
+        return Element.withAtomicNumber(atomicNumber);
+    }
+
+    @Benchmark
+    public List<Isotope> isotopeOfElement() {
+        return Isotope.ofElement(element);
+    }
+}
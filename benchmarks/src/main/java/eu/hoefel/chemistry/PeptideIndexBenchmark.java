@@ -0,0 +1,95 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the digestion of a random proteome of human size (about 20k
+ * proteins of 550 residues on average) and for the lookup of peptide masses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class PeptideIndexBenchmark {
+
+    private static final String AMINO_ACIDS = "ACDEFGHIKLMNPQRSTVWY";
+
+    @Param({ "20000" })
+    public int proteins;
+
+    public Path fasta;
+    public Digestion digestion = Digestion.of(Protease.TRYPSIN);
+    public PeptideIndex index;
+    public double[] queries;
+    public int[] from;
+    public int[] to;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        fasta = Files.createTempFile("proteome", ".fasta");
+        try (Writer writer = Files.newBufferedWriter(fasta)) {
+            for (int p = 0; p < proteins; p++) {
+                writer.write(">sp|P%05d|PROT%d_HUMAN Protein %d%n".formatted(p, p, p));
+                int length = 100 + random.nextInt(900);
+                for (int i = 0; i < length; i++) {
+                    writer.write(AMINO_ACIDS.charAt(random.nextInt(AMINO_ACIDS.length())));
+                    if (i % 60 == 59) writer.write('\n');
+                }
+                writer.write('\n');
+            }
+        }
+
+        index = PeptideIndex.of(fasta, digestion, SequenceCalculator.peptide(), MassMode.MONOISOTOPIC);
+        queries = new double[100_000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = 700 + 4000 * random.nextDouble();
+        }
+        Arrays.sort(queries);
+        from = new int[queries.length];
+        to = new int[queries.length];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(fasta);
+    }
+
+    @Benchmark
+    public PeptideIndex index() {
+        return PeptideIndex.of(fasta, digestion, SequenceCalculator.peptide(), MassMode.MONOISOTOPIC);
+    }
+
+    @Benchmark
+    public int[] query() {
+        index.query(queries, 10, from, to);
+        return to;
+    }
+
+    @Benchmark
+    public int count() {
+        return index.count(queries[queries.length / 2], 10);
+    }
+}
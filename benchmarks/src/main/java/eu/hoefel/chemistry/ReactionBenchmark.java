@@ -0,0 +1,74 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for balancing a database of combustion reactions, sequentially
+ * and in parallel, and including the parsing of the reactions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ReactionBenchmark {
+
+    @Param({ "100000" })
+    public int size;
+
+    public List<String> formulas;
+    public List<Reaction> reactions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        formulas = new ArrayList<>(size);
+        reactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int c = 1 + random.nextInt(40);
+            String reaction = "C%dH%dN%dO%dS%d + O2 -> CO2 + H2O + NO2 + SO2".formatted(c, 2 + 2 * random.nextInt(c),
+                    1 + random.nextInt(6), random.nextInt(3), 1 + random.nextInt(2));
+            formulas.add(reaction);
+            reactions.add(Reaction.parse(reaction));
+        }
+    }
+
+    @Benchmark
+    public List<Reaction> balance() {
+        List<Reaction> balanced = new ArrayList<>(reactions.size());
+        for (Reaction reaction : reactions) {
+            balanced.add(reaction.isBalanced() ? reaction : reaction.balance());
+        }
+        return balanced;
+    }
+
+    @Benchmark
+    public List<Reaction> balanceParallel() {
+        return Reaction.balance(reactions);
+    }
+
+    @Benchmark
+    public List<Reaction> parseAndBalance() {
+        List<Reaction> balanced = new ArrayList<>(formulas.size());
+        for (String formula : formulas) {
+            balanced.add(Reaction.parse(formula).balance());
+        }
+        return balanced;
+    }
+}
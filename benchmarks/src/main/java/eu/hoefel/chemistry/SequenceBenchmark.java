@@ -0,0 +1,76 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the mass and composition calculation of random peptides.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmark {
+
+    private static final String AMINO_ACIDS = "ACDEFGHIKLMNPQRSTVWY";
+
+    @Param({ "10000" })
+    public int size;
+
+    @Param({ "15" })
+    public int length;
+
+    public SequenceCalculator calculator = SequenceCalculator.peptide().withFixedModification('C', "+C2H3NO")
+                                                             .withVariableModification('m', 'M', "+O");
+    public List<String> peptides;
+    public double[] masses;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        peptides = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(AMINO_ACIDS.charAt(random.nextInt(AMINO_ACIDS.length())));
+            }
+            peptides.add(sb.toString());
+        }
+        masses = new double[size];
+    }
+
+    @Benchmark
+    public double[] masses() {
+        for (int i = 0; i < size; i++) {
+            masses[i] = calculator.mass(peptides.get(i), MassMode.MONOISOTOPIC);
+        }
+        return masses;
+    }
+
+    @Benchmark
+    public double[] massesParallel() {
+        calculator.masses(peptides, MassMode.MONOISOTOPIC, masses);
+        return masses;
+    }
+
+    @Benchmark
+    public Composition composition() {
+        return calculator.composition(peptides.get(0));
+    }
+}
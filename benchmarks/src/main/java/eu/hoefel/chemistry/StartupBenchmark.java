@@ -0,0 +1,73 @@
+package eu.hoefel.chemistry;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the first call into the nuclide API in a fresh JVM, i.e.
+ * including the class initialization. Besides the time, the number of classes
+ * loaded by the call is reported (as "classes"). Note that JMH sums the latter
+ * over all forks.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LoadedClasses {
+
+        private ClassLoadingMXBean mx;
+        private long before;
+
+        public long classes;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            mx = ManagementFactory.getClassLoadingMXBean();
+            before = mx.getTotalLoadedClassCount();
+        }
+
+        void record() {
+            classes = mx.getTotalLoadedClassCount() - before;
+        }
+    }
+
+    @Benchmark
+    public Element firstElementNamed(LoadedClasses loaded) {
+        Element element = Element.named("Fe");
+        loaded.record();
+        return element;
+    }
+
+    @Benchmark
+    public Isotope firstIsotopeNamed(LoadedClasses loaded) {
+        Isotope isotope = Isotope.named("Fe56");
+        loaded.record();
+        return isotope;
+    }
+
+    @Benchmark
+    public boolean firstIsNuclide(LoadedClasses loaded) {
+        boolean isNuclide = Nuclide.isNuclide("water");
+        loaded.record();
+        return isNuclide;
+    }
+}
@@ -0,0 +1,232 @@
+package eu.hoefel.chemistry;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An adduct ion, i.e. the description of how an ion is formed from a neutral
+ * compound M, e.g. "[M+H]+" or "[2M-H2O+Na]+". The mass to charge ratio of the
+ * ion is
+ * <p>
+ * m/z = (n&middot;M + m<sub>gain</sub> - m<sub>loss</sub> -
+ * z&middot;m<sub>e</sub>) / |z|,
+ * <p>
+ * with the multimer count n, the charge z and the electron mass
+ * m<sub>e</sub>.
+ *
+ * @param name     the name, e.g. "[M+H]+"
+ * @param multimer the number of neutral molecules, e.g. 2 for "[2M+H]+"
+ * @param gain     the atoms gained
+ * @param loss     the atoms lost
+ * @param charge   the charge in elementary charges, not 0
+ */
+public record Adduct(String name, int multimer, Composition gain, Composition loss, int charge) {
+
+    /** The pattern of an adduct, e.g. "[2M-H2O+H]+" or "[M+2H]2+". */
+    private static final Pattern ADDUCT = Pattern.compile("\\[(\\d*)M((?:[+-][^+\\-\\]]+)*)\\](\\d*)([+-])");
+
+    /** The pattern of a single gain or loss, e.g. "+2H". */
+    private static final Pattern TERM = Pattern.compile("([+-])([^+-]+)");
+
+    /** The electron mass in Da (CODATA 2018). */
+    public static final double ELECTRON_MASS = 5.48579909065e-4;
+
+    /** The protonated molecule. */
+    public static final Adduct M_PLUS_H = parse("[M+H]+");
+
+    /** The sodium adduct. */
+    public static final Adduct M_PLUS_NA = parse("[M+Na]+");
+
+    /** The potassium adduct. */
+    public static final Adduct M_PLUS_K = parse("[M+K]+");
+
+    /** The ammonium adduct. */
+    public static final Adduct M_PLUS_NH4 = parse("[M+NH4]+");
+
+    /** The doubly protonated molecule. */
+    public static final Adduct M_PLUS_2H = parse("[M+2H]2+");
+
+    /** The deprotonated molecule. */
+    public static final Adduct M_MINUS_H = parse("[M-H]-");
+
+    /** The chloride adduct. */
+    public static final Adduct M_PLUS_CL = parse("[M+Cl]-");
+
+    /** The formate adduct. */
+    public static final Adduct M_PLUS_HCOO = parse("[M+HCOO]-");
+
+    /**
+     * Creates the adduct.
+     *
+     * @param name     the name, e.g. "[M+H]+", not {@code null}
+     * @param multimer the number of neutral molecules, positive
+     * @param gain     the atoms gained, not {@code null}
+     * @param loss     the atoms lost, not {@code null}
+     * @param charge   the charge in elementary charges, not 0
+     * @throws NullPointerException     if {@code name}, {@code gain} or
+     *                                  {@code loss} is {@code null}
+     * @throws IllegalArgumentException if {@code multimer} is not positive or
+     *                                  {@code charge} is 0
+     */
+    public Adduct {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(gain);
+        Objects.requireNonNull(loss);
+        if (multimer < 1) throw new IllegalArgumentException("The multimer count needs to be positive, but was " + multimer);
+        if (charge == 0) throw new IllegalArgumentException("An adduct ion needs to be charged");
+    }
+
+    /**
+     * Parses the given adduct in the usual notation, e.g. "[M+H]+", "[M+2H]2+",
+     * "[2M+Na]+" or "[M-H2O+H]+".
+     *
+     * @param adduct the adduct, not {@code null}
+     * @return the adduct
+     * @throws NullPointerException     if {@code adduct} is {@code null}
+     * @throws IllegalArgumentException if {@code adduct} cannot be parsed
+     */
+    public static Adduct parse(String adduct) {
+        Matcher matcher = ADDUCT.matcher(adduct.strip());
+        if (!matcher.matches()) throw new IllegalArgumentException("Cannot parse the adduct '" + adduct + "'");
+
+        int multimer = matcher.group(1).isEmpty() ? 1 : Integer.parseInt(matcher.group(1));
+        StringBuilder gain = new StringBuilder();
+        StringBuilder loss = new StringBuilder();
+        Matcher term = TERM.matcher(matcher.group(2));
+        while (term.find()) {
+            // hydrate separators sum up the terms, "2H" is parsed as H2
+            StringBuilder target = "+".equals(term.group(1)) ? gain : loss;
+            if (!target.isEmpty()) target.append('.');
+            target.append(term.group(2));
+        }
+
+        int charge = matcher.group(3).isEmpty() ? 1 : Integer.parseInt(matcher.group(3));
+        if ("-".equals(matcher.group(4))) charge = -charge;
+
+        return new Adduct(adduct.strip(), multimer, Composition.parse(gain.toString()),
+                Composition.parse(loss.toString()), charge);
+    }
+
+    /**
+     * Gets the mass added to the neutral molecules, including the electrons.
+     *
+     * @param mode the mass mode, not {@code null}
+     * @return the mass shift in Da
+     * @throws NullPointerException if {@code mode} is {@code null}
+     */
+    public double massShift(MassMode mode) {
+        return gain.mass(mode) - loss.mass(mode) - charge * ELECTRON_MASS;
+    }
+
+    /**
+     * Gets the mass to charge ratio of the ion formed from a neutral molecule with
+     * the given (monoisotopic) mass.
+     *
+     * @param mass the mass of the neutral molecule in Da
+     * @return the m/z
+     */
+    public double mz(double mass) {
+        return (multimer * mass + massShift(MassMode.MONOISOTOPIC)) / Math.abs(charge);
+    }
+
+    /**
+     * Gets the mass to charge ratio of the ion formed from the given compound.
+     *
+     * @param compound the compound, not {@code null}
+     * @param mode     the mass mode, not {@code null}
+     * @return the m/z
+     * @throws NullPointerException if {@code compound} or {@code mode} is
+     *                              {@code null}
+     */
+    public double mz(ChemicalCompound compound, MassMode mode) {
+        return (multimer * compound.mass(mode) + massShift(mode)) / Math.abs(charge);
+    }
+
+    /**
+     * Gets the (monoisotopic) mass of the neutral molecule from the mass to charge
+     * ratio of the ion, i.e. the inverse of {@link #mz(double)}.
+     *
+     * @param mz the m/z
+     * @return the mass of the neutral molecule in Da
+     */
+    public double neutralMass(double mz) {
+        return (mz * Math.abs(charge) - massShift(MassMode.MONOISOTOPIC)) / multimer;
+    }
+
+    /**
+     * Gets the composition of the ion formed from the given neutral molecule, e.g.
+     * "C6H11O5" for glucose and "[M-H2O+H]+" (use {@link Composition#hill(int)}
+     * with the charge of the adduct for its formula).
+     *
+     * @param molecule the composition of the neutral molecule, not {@code null}
+     * @return the composition of the ion
+     * @throws NullPointerException     if {@code molecule} is {@code null}
+     * @throws IllegalArgumentException if the molecules do not contain the lost
+     *                                  atoms
+     */
+    public Composition ion(Composition molecule) {
+        return new Composition.Builder(molecule).multiply(multimer).add(gain).subtract(loss).build();
+    }
+
+    /**
+     * Calculates the mass to charge ratios of the ions formed from the neutral
+     * molecules with the given (monoisotopic) masses.
+     *
+     * @param masses the masses of the neutral molecules in Da, not {@code null}
+     * @param mz     the array to store the m/z in, at least as long as
+     *               {@code masses}
+     * @throws NullPointerException      if any of the arrays is {@code null}
+     * @throws IndexOutOfBoundsException if {@code mz} is too short
+     */
+    public void mz(double[] masses, double[] mz) {
+        Objects.checkFromIndexSize(0, masses.length, mz.length);
+
+        double factor = (double) multimer / Math.abs(charge);
+        double offset = massShift(MassMode.MONOISOTOPIC) / Math.abs(charge);
+        for (int i = 0; i < masses.length; i++) {
+            mz[i] = factor * masses[i] + offset;
+        }
+    }
+
+    /**
+     * Calculates the mass to charge ratios of the ions formed by each of the
+     * adducts from the neutral molecules with the given (monoisotopic) masses.
+     * The m/z of the i-th mass and the j-th adduct is stored at
+     * {@code i * adducts.size() + j}, i.e. the adducts of one molecule are
+     * adjacent.
+     *
+     * @param masses  the masses of the neutral molecules in Da, not {@code null}
+     * @param adducts the adducts, not {@code null}
+     * @param mz      the array to store the m/z in, at least
+     *                {@code masses.length * adducts.size()} long
+     * @throws NullPointerException      if any argument is {@code null}
+     * @throws IndexOutOfBoundsException if {@code mz} is too short
+     */
+    public static void mz(double[] masses, List<Adduct> adducts, double[] mz) {
+        int n = adducts.size();
+        Objects.checkFromIndexSize(0, Math.multiplyExact(masses.length, n), mz.length);
+
+        double[] factors = new double[n];
+        double[] offsets = new double[n];
+        for (int j = 0; j < n; j++) {
+            Adduct adduct = adducts.get(j);
+            factors[j] = (double) adduct.multimer() / Math.abs(adduct.charge());
+            offsets[j] = adduct.massShift(MassMode.MONOISOTOPIC) / Math.abs(adduct.charge());
+        }
+
+        for (int i = 0; i < masses.length; i++) {
+            double mass = masses[i];
+            int base = i * n;
+            for (int j = 0; j < n; j++) {
+                mz[base + j] = factors[j] * mass + offsets[j];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,525 @@
+package eu.hoefel.chemistry;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A compact binary encoding of compositions and molecule information, e.g. for
+ * shipping cached data between services or to disk. All integers are encoded as
+ * unsigned variable length integers (7 bits per byte, least significant group
+ * first), so e.g. water takes 5 bytes.
+ * <p>
+ * A composition is encoded as its number of nuclides followed by each nuclide
+ * and its count. A nuclide is encoded as the (zigzag encoded) difference of its
+ * key to the key of the previous nuclide, where the key is twice the atomic
+ * number minus 2 for elements and plus 1 for isotopes, followed by the mass
+ * number for isotopes.
+ * Hence, the encoding does not depend on the nuclide data table.
+ * <p>
+ * Strings are encoded as their UTF-8 length followed by the UTF-8 bytes,
+ * written directly from the characters. Standard InChI keys are packed into 16
+ * bytes (25 letters in base 26) and lists of synonyms are front coded, i.e.
+ * each name is encoded as the length of the prefix it shares with the previous
+ * name followed by the rest.
+ * <p>
+ * The methods for {@link ByteBuffer byte buffers} write and read the bare
+ * encoding, starting at the current position. The methods for
+ * {@link DataOutput} and {@link DataInput} prefix each record by its length.
+ */
+public final class BinaryCodec {
+
+    /** The length of a standard InChI key, e.g. "XLYOFNOQVPJJNP-UHFFFAOYSA-N". */
+    static final int INCHI_KEY_LENGTH = 27;
+
+    /** The positions of the 25 letters in a standard InChI key. */
+    private static final int[] INCHI_KEY_LETTERS = IntStream.range(0, INCHI_KEY_LENGTH)
+                                                            .filter(i -> i != 14 && i != 25)
+                                                            .toArray();
+
+    /** The number of letters packed into the first long, as 26<sup>13</sup> &lt; 2<sup>63</sup>. */
+    private static final int PACKED_LETTERS = 13;
+
+    /** The flag of valid molecules. */
+    private static final int VALID = 1;
+
+    /** The flag of empty keys. */
+    private static final int KEY_EMPTY = 0;
+
+    /** The flag of standard InChI keys, packed into 16 bytes. */
+    private static final int KEY_PACKED = 2;
+
+    /** The flag of other keys, encoded as strings. */
+    private static final int KEY_STRING = 4;
+
+    private static final int KEY_MASK = 6;
+
+    private BinaryCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the size of the encoding of the given composition in bytes.
+     *
+     * @param composition the composition, not {@code null}
+     * @return the size in bytes
+     * @throws NullPointerException if {@code composition} is {@code null}
+     */
+    public static int size(Composition composition) {
+        int size = varintSize(composition.size());
+        int previous = 0;
+        for (int i = 0; i < composition.size(); i++) {
+            int id = composition.id(i);
+            int key = key(id);
+            size += varintSize(zigzag(key - previous)) + varintSize(composition.count(i));
+            if (Nuclides.isIsotope(id)) size += varintSize(NuclideTable.massNumber(Nuclides.index(id)));
+            previous = key;
+        }
+        return size;
+    }
+
+    /**
+     * Writes the given composition.
+     *
+     * @param composition the composition, not {@code null}
+     * @param out         the buffer to write to, not {@code null}
+     * @throws NullPointerException            if any argument is {@code null}
+     * @throws java.nio.BufferOverflowException if the buffer is too small, cf.
+     *                                         {@link #size(Composition)}
+     */
+    public static void write(Composition composition, ByteBuffer out) {
+        putVarint(out, composition.size());
+        int previous = 0;
+        for (int i = 0; i < composition.size(); i++) {
+            int id = composition.id(i);
+            int key = key(id);
+            putVarint(out, zigzag(key - previous));
+            if (Nuclides.isIsotope(id)) putVarint(out, NuclideTable.massNumber(Nuclides.index(id)));
+            putVarint(out, composition.count(i));
+            previous = key;
+        }
+    }
+
+    /**
+     * Writes the given composition, prefixed by its length.
+     *
+     * @param composition the composition, not {@code null}
+     * @param out         the output to write to, not {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IOException          if the output cannot be written
+     */
+    public static void write(Composition composition, DataOutput out) throws IOException {
+        int size = size(composition);
+        ByteBuffer buffer = ByteBuffer.allocate(varintSize(size) + size);
+        putVarint(buffer, size);
+        write(composition, buffer);
+        out.write(buffer.array());
+    }
+
+    /**
+     * Reads a composition.
+     *
+     * @param in the buffer to read from, not {@code null}
+     * @return the composition
+     * @throws NullPointerException             if {@code in} is {@code null}
+     * @throws IllegalArgumentException         if the encoding is invalid or
+     *                                          contains an unknown nuclide
+     * @throws java.nio.BufferUnderflowException if the buffer ends prematurely
+     */
+    public static Composition readComposition(ByteBuffer in) {
+        int size = getVarint(in);
+        if (size > in.remaining()) throw new IllegalArgumentException("Invalid number of nuclides: " + size);
+
+        int[] ids = new int[size];
+        int[] counts = new int[size];
+        int key = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = getVarint(in);
+            key += (delta >>> 1) ^ -(delta & 1);
+            int atomicNumber = (key >>> 1) + 1;
+            if (key < 0 || atomicNumber > Nuclides.ELEMENTS) throw new IllegalArgumentException("Invalid atomic number: " + atomicNumber);
+
+            if ((key & 1) == 0) {
+                ids[i] = Nuclides.elementId(atomicNumber);
+            } else {
+                int massNumber = getVarint(in);
+                int index = NuclideTable.indexOf(atomicNumber, massNumber);
+                if (index < 0) {
+                    throw new IllegalArgumentException("The nuclide data table does not contain the isotope with Z=%d and A=%d"
+                            .formatted(atomicNumber, massNumber));
+                }
+                ids[i] = Nuclides.isotopeId(index);
+            }
+            counts[i] = getVarint(in);
+        }
+        return Composition.of(ids, counts, size);
+    }
+
+    /**
+     * Reads a composition written via {@link #write(Composition, DataOutput)}.
+     *
+     * @param in the input to read from, not {@code null}
+     * @return the composition
+     * @throws NullPointerException     if {@code in} is {@code null}
+     * @throws IllegalArgumentException if the encoding is invalid or contains an
+     *                                  unknown nuclide
+     * @throws IOException              if the input cannot be read
+     */
+    public static Composition readComposition(DataInput in) throws IOException {
+        ByteBuffer buffer = readRecord(in);
+        Composition composition = readComposition(buffer);
+        checkConsumed(buffer);
+        return composition;
+    }
+
+    /**
+     * Gets the size of the encoding of the given molecule information in bytes.
+     *
+     * @param info the molecule information
+     * @return the size in bytes
+     */
+    static int size(MoleculeInfo info) {
+        return size(info, info.composition());
+    }
+
+    private static int size(MoleculeInfo info, Composition components) {
+        String key = info.key();
+        int size = 1 + stringSize(info.name(), 0) + stringSize(info.formula(), 0)
+                + (key.isEmpty() ? 0 : isPackable(key) ? 16 : stringSize(key, 0))
+                + size(components) + Double.BYTES + stringSize(info.iupac(), 0);
+
+        List<String> names = info.names();
+        size += varintSize(names.size());
+        String previous = "";
+        for (String name : names) {
+            int prefix = prefix(previous, name);
+            size += varintSize(prefix) + stringSize(name, prefix);
+            previous = name;
+        }
+        return size;
+    }
+
+    /**
+     * Writes the given molecule information.
+     *
+     * @param info the molecule information
+     * @param out  the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer is too small, cf.
+     *                                         {@link #size(MoleculeInfo)}
+     */
+    static void write(MoleculeInfo info, ByteBuffer out) {
+        write(info, info.composition(), out);
+    }
+
+    private static void write(MoleculeInfo info, Composition components, ByteBuffer out) {
+        String key = info.key();
+        int keyFlag = key.isEmpty() ? KEY_EMPTY : isPackable(key) ? KEY_PACKED : KEY_STRING;
+        out.put((byte) ((info.isValid() ? VALID : 0) | keyFlag));
+
+        putString(out, info.name(), 0);
+        putString(out, info.formula(), 0);
+        if (keyFlag == KEY_PACKED) {
+            putLong(out, pack(key, 0, PACKED_LETTERS));
+            putLong(out, pack(key, PACKED_LETTERS, INCHI_KEY_LETTERS.length));
+        } else if (keyFlag == KEY_STRING) {
+            putString(out, key, 0);
+        }
+        write(components, out);
+        putLong(out, Double.doubleToRawLongBits(info.mass()));
+        putString(out, info.iupac(), 0);
+
+        List<String> names = info.names();
+        putVarint(out, names.size());
+        String previous = "";
+        for (String name : names) {
+            int prefix = prefix(previous, name);
+            putVarint(out, prefix);
+            putString(out, name, prefix);
+            previous = name;
+        }
+    }
+
+    /**
+     * Writes the given molecule information, prefixed by its length.
+     *
+     * @param info the molecule information
+     * @param out  the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    static void write(MoleculeInfo info, DataOutput out) throws IOException {
+        Composition components = info.composition();
+        int size = size(info, components);
+        ByteBuffer buffer = ByteBuffer.allocate(varintSize(size) + size);
+        putVarint(buffer, size);
+        write(info, components, buffer);
+        out.write(buffer.array());
+    }
+
+    /**
+     * Reads molecule information.
+     *
+     * @param in the buffer to read from
+     * @return the molecule information
+     * @throws IllegalArgumentException          if the encoding is invalid
+     * @throws java.nio.BufferUnderflowException if the buffer ends prematurely
+     */
+    static MoleculeInfo readMoleculeInfo(ByteBuffer in) {
+        int flags = in.get();
+        if ((flags & ~(VALID | KEY_MASK)) != 0 || (flags & KEY_MASK) == KEY_MASK) {
+            throw new IllegalArgumentException("Invalid flags: " + flags);
+        }
+
+        String name = getString(in);
+        String formula = getString(in);
+        String key = switch (flags & KEY_MASK) {
+            case KEY_PACKED -> unpack(getLong(in), getLong(in));
+            case KEY_STRING -> getString(in);
+            default -> "";
+        };
+        Composition components = readComposition(in);
+        double mass = Double.longBitsToDouble(getLong(in));
+        String iupac = getString(in);
+
+        int size = getVarint(in);
+        if (size > in.remaining()) throw new IllegalArgumentException("Invalid number of names: " + size);
+        String[] names = new String[size];
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            int prefix = getVarint(in);
+            if (prefix > builder.length()) throw new IllegalArgumentException("Invalid prefix length: " + prefix);
+            builder.setLength(prefix);
+            names[i] = builder.append(getString(in)).toString();
+        }
+
+        return new MoleculeInfo(name, formula, (flags & VALID) != 0, key, Map.copyOf(components.toMap()), mass,
+                iupac, List.of(names), components);
+    }
+
+    /**
+     * Reads molecule information written via
+     * {@link #write(MoleculeInfo, DataOutput)}.
+     *
+     * @param in the input to read from
+     * @return the molecule information
+     * @throws IllegalArgumentException if the encoding is invalid
+     * @throws IOException              if the input cannot be read
+     */
+    static MoleculeInfo readMoleculeInfo(DataInput in) throws IOException {
+        ByteBuffer buffer = readRecord(in);
+        MoleculeInfo info = readMoleculeInfo(buffer);
+        checkConsumed(buffer);
+        return info;
+    }
+
+    /** Gets the key of the given id, cf. the class documentation. */
+    private static int key(int id) {
+        return 2 * (Nuclides.atomicNumber(id) - 1) + (Nuclides.isIsotope(id) ? 1 : 0);
+    }
+
+    /** Maps small negative and positive values to small non-negative values. */
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /** Reads a record prefixed by its length. */
+    private static ByteBuffer readRecord(DataInput in) throws IOException {
+        int length = 0;
+        for (int shift = 0;; shift += 7) {
+            if (shift > 28) throw new IllegalArgumentException("Invalid record length");
+            int b = in.readByte();
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) break;
+        }
+        if (length < 0) throw new IllegalArgumentException("Invalid record length: " + length);
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static void checkConsumed(ByteBuffer buffer) {
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("The record has %d unread bytes".formatted(buffer.remaining()));
+        }
+    }
+
+    /**
+     * Gets the number of bytes of the given value as variable length integer.
+     *
+     * @param value the (non-negative) value
+     * @return the number of bytes, from 1 to 5
+     */
+    static int varintSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Writes the given value as variable length integer.
+     *
+     * @param out   the buffer to write to
+     * @param value the (non-negative) value
+     */
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads a variable length integer.
+     *
+     * @param in the buffer to read from
+     * @return the (non-negative) value
+     * @throws IllegalArgumentException if the value is too long or negative
+     */
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift <= 28; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) throw new IllegalArgumentException("Invalid variable length integer: " + value);
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid variable length integer, more than 5 bytes");
+    }
+
+    /** Writes the value in little endian order, independent of the order of the buffer. */
+    private static void putLong(ByteBuffer out, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            out.put((byte) (value >>> (8 * i)));
+        }
+    }
+
+    /** Reads a value in little endian order, independent of the order of the buffer. */
+    private static long getLong(ByteBuffer in) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value |= (in.get() & 0xFFL) << (8 * i);
+        }
+        return value;
+    }
+
+    /** Gets the size of the encoding of the string from the given index on. */
+    private static int stringSize(String s, int from) {
+        int length = utf8Length(s, from);
+        return varintSize(length) + length;
+    }
+
+    /** Gets the UTF-8 length of the string from the given index on, with '?' for unpaired surrogates. */
+    private static int utf8Length(String s, int from) {
+        int length = s.length() - from;
+        for (int i = from; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) continue;
+
+            if (c < 0x800) {
+                length += 1;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 2;
+                i++;
+            }
+        }
+        return length;
+    }
+
+    /** Writes the string from the given index on, as UTF-8 length and bytes. */
+    private static void putString(ByteBuffer out, String s, int from) {
+        putVarint(out, utf8Length(s, from));
+        for (int i = from; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                out.put((byte) '?');
+            }
+        }
+    }
+
+    /** Reads a string, decoding directly from the backing array if there is one. */
+    private static String getString(ByteBuffer in) {
+        int length = getVarint(in);
+        if (length > in.remaining()) throw new IllegalArgumentException("Invalid string length: " + length);
+
+        String s;
+        if (in.hasArray()) {
+            s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+
+    /** Gets the length of the common prefix, without splitting surrogate pairs. */
+    private static int prefix(String previous, String name) {
+        int n = Math.min(previous.length(), name.length());
+        int i = 0;
+        while (i < n && previous.charAt(i) == name.charAt(i)) i++;
+        if (i > 0 && Character.isHighSurrogate(name.charAt(i - 1))) i--;
+        return i;
+    }
+
+    /** Checks whether the key is a standard InChI key. */
+    private static boolean isPackable(String key) {
+        if (key.length() != INCHI_KEY_LENGTH || key.charAt(14) != '-' || key.charAt(25) != '-') return false;
+        for (int i = 0; i < INCHI_KEY_LENGTH; i++) {
+            char c = key.charAt(i);
+            if (i != 14 && i != 25 && (c < 'A' || c > 'Z')) return false;
+        }
+        return true;
+    }
+
+    /** Packs the letters from {@code from} to {@code to} (exclusive) of the key in base 26. */
+    private static long pack(String key, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 26 + (key.charAt(INCHI_KEY_LETTERS[i]) - 'A');
+        }
+        return value;
+    }
+
+    /** Unpacks a standard InChI key, cf. {@link #pack(String, int, int)}. */
+    private static String unpack(long first, long second) {
+        char[] key = new char[INCHI_KEY_LENGTH];
+        key[14] = '-';
+        key[25] = '-';
+        unpack(first, key, 0, PACKED_LETTERS);
+        unpack(second, key, PACKED_LETTERS, INCHI_KEY_LETTERS.length);
+        return new String(key);
+    }
+
+    private static void unpack(long value, char[] key, int from, int to) {
+        if (value < 0) throw new IllegalArgumentException("Invalid packed InChI key");
+        for (int i = to - 1; i >= from; i--) {
+            key[INCHI_KEY_LETTERS[i]] = (char) ('A' + value % 26);
+            value /= 26;
+        }
+        if (value != 0) throw new IllegalArgumentException("Invalid packed InChI key");
+    }
+}
@@ -4,7 +4,8 @@ import java.util.Set;
 
 /**
  * All of the {@link Element elements}, {@link Isotope isotopes},
- * {@link Molecule molecules} and non-pure compounds.
+ * {@link Molecule molecules} and non-pure compounds, i.e.
+ * {@link Mixture mixtures}.
  */
 public interface ChemicalCompound {
 
@@ -16,6 +17,20 @@ public interface ChemicalCompound {
      */
     public double mass();
 
+    /**
+     * Gets the mass in the given mode. The default implementation delegates to
+     * the {@link Composition} of the compound.
+     * 
+     * @param mode the mass mode, not {@code null}
+     * @return the mass in u
+     * @throws NullPointerException     if {@code mode} is {@code null}
+     * @throws IllegalArgumentException if the composition of the compound is not
+     *                                  known
+     */
+    public default double mass(MassMode mode) {
+        return Composition.of(this).mass(mode);
+    }
+
     /**
      * Gets the {@link Nuclide}s occuring in the compound.
      * 
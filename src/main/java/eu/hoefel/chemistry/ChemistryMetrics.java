@@ -0,0 +1,299 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lightweight instrumentation of the caches and the remote lookups used by this
+ * library. Recording is disabled by default and can be enabled by setting the
+ * system property {@value #ENABLED_PROPERTY} to {@code true} on startup. If
+ * disabled, all recording methods return immediately, such that the overhead is
+ * negligible. The current state can be polled via {@link #snapshot()}, which
+ * can be flattened for exporting via {@link Snapshot#toMap()}.
+ * <p>
+ * Independent of this, JFR events are emitted around each remote fetch
+ * ({@code eu.hoefel.chemistry.MoleculeFetch}) and each formula parse
+ * ({@code eu.hoefel.chemistry.FormulaParse}). These are controlled, as usual,
+ * via the JFR settings.
+ */
+public final class ChemistryMetrics {
+
+    /** The system property that enables recording if set to {@code true}. */
+    public static final String ENABLED_PROPERTY = "eu.hoefel.chemistry.metrics";
+
+    /** Whether metrics get recorded. Final, such that the JIT can fold it. */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** The number of latency buckets, i.e. up to 2<sup>31</sup>&micro;s. */
+    private static final int BUCKETS = 32;
+
+    private static final ConcurrentMap<String, CacheCounters> caches = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, EndpointCounters> endpoints = new ConcurrentHashMap<>();
+    private static final LongAdder inFlightFetches = new LongAdder();
+
+    private record CacheCounters(LongAdder hits, LongAdder misses, LongAdder evictions, LongSupplier size) {
+        CacheCounters(LongSupplier size) {
+            this(new LongAdder(), new LongAdder(), new LongAdder(), size);
+        }
+    }
+
+    private record EndpointCounters(LongAdder requests, LongAdder errors, AtomicLongArray latencies) {
+        EndpointCounters() {
+            this(new LongAdder(), new LongAdder(), new AtomicLongArray(BUCKETS));
+        }
+    }
+
+    /**
+     * The state of a cache at the time of the snapshot.
+     *
+     * @param hits      the number of lookups that were served from the cache
+     * @param misses    the number of lookups that were not served from the cache
+     * @param evictions the number of entries removed to bound the cache size
+     * @param size      the number of entries at the time of the snapshot
+     */
+    public record CacheStats(long hits, long misses, long evictions, long size) {
+
+        /**
+         * Gets the ratio of hits to all lookups.
+         *
+         * @return the hit ratio, or {@link Double#NaN NaN} if there were no lookups
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? Double.NaN : hits / (double) lookups;
+        }
+    }
+
+    /**
+     * The state of a remote endpoint at the time of the snapshot.
+     *
+     * @param requests  the number of requests (including the failed ones)
+     * @param errors    the number of failed requests
+     * @param latencies the latency histogram, where bucket <i>i</i> counts the
+     *                  requests that took less than 2<sup>i</sup>&micro;s (and at
+     *                  least 2<sup>i-1</sup>&micro;s)
+     */
+    public record EndpointStats(long requests, long errors, long[] latencies) {
+
+        /**
+         * Creates the endpoint stats.
+         *
+         * @param requests  the number of requests (including the failed ones)
+         * @param errors    the number of failed requests
+         * @param latencies the latency histogram, not {@code null}
+         * @throws NullPointerException if {@code latencies} is {@code null}
+         */
+        public EndpointStats {
+            latencies = latencies.clone();
+        }
+
+        @Override
+        public long[] latencies() {
+            return latencies.clone();
+        }
+
+        /**
+         * Gets an upper bound for the requested latency percentile.
+         *
+         * @param percentile the percentile, e.g. 0.99
+         * @return the upper bound of the histogram bucket containing the percentile
+         *         in milliseconds, or {@link Double#NaN NaN} if no requests were
+         *         recorded
+         */
+        public double percentile(double percentile) {
+            long total = Arrays.stream(latencies).sum();
+            if (total == 0) return Double.NaN;
+
+            long threshold = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < latencies.length; i++) {
+                seen += latencies[i];
+                if (seen >= threshold) return (1L << i) / 1e3;
+            }
+            return (1L << (latencies.length - 1)) / 1e3;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EndpointStats other && requests == other.requests && errors == other.errors
+                    && Arrays.equals(latencies, other.latencies);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requests, errors, Arrays.hashCode(latencies));
+        }
+
+        @Override
+        public String toString() {
+            return "EndpointStats[requests=%d, errors=%d, p50=%sms, p99=%sms]".formatted(requests, errors,
+                    percentile(0.5), percentile(0.99));
+        }
+    }
+
+    /**
+     * A point-in-time view on all recorded metrics.
+     *
+     * @param caches          the cache metrics by cache name
+     * @param inFlightFetches the number of currently running remote fetches
+     * @param endpoints       the endpoint metrics by endpoint
+     */
+    public record Snapshot(Map<String, CacheStats> caches, long inFlightFetches, Map<String, EndpointStats> endpoints) {
+
+        /**
+         * Creates the snapshot.
+         *
+         * @param caches          the cache metrics by cache name, not {@code null}
+         * @param inFlightFetches the number of currently running remote fetches
+         * @param endpoints       the endpoint metrics by endpoint, not {@code null}
+         * @throws NullPointerException if {@code caches} or {@code endpoints} is
+         *                              {@code null}
+         */
+        public Snapshot {
+            caches = Map.copyOf(caches);
+            endpoints = Map.copyOf(endpoints);
+        }
+
+        /**
+         * Flattens the snapshot, e.g. for exporting it to a monitoring system. The
+         * keys look like "cache.molecule.hits" or "endpoint./formula.p99".
+         *
+         * @return the flattened metrics, sorted by key
+         */
+        public Map<String, Number> toMap() {
+            Map<String, Number> ret = new TreeMap<>();
+            caches.forEach((name, stats) -> {
+                ret.put("cache." + name + ".hits", stats.hits());
+                ret.put("cache." + name + ".misses", stats.misses());
+                ret.put("cache." + name + ".evictions", stats.evictions());
+                ret.put("cache." + name + ".size", stats.size());
+            });
+            ret.put("fetch.inflight", inFlightFetches);
+            endpoints.forEach((name, stats) -> {
+                ret.put("endpoint." + name + ".requests", stats.requests());
+                ret.put("endpoint." + name + ".errors", stats.errors());
+                ret.put("endpoint." + name + ".p50", stats.percentile(0.5));
+                ret.put("endpoint." + name + ".p99", stats.percentile(0.99));
+                ret.put("endpoint." + name + ".p999", stats.percentile(0.999));
+            });
+            return ret;
+        }
+    }
+
+    private ChemistryMetrics() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks whether metrics get recorded.
+     *
+     * @return true if {@value #ENABLED_PROPERTY} was set to {@code true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Gets the current state of all metrics. Note that the individual values are
+     * not captured atomically with respect to each other.
+     *
+     * @return the snapshot of the current state
+     */
+    public static Snapshot snapshot() {
+        Map<String, CacheStats> cacheStats = new LinkedHashMap<>();
+        caches.forEach((name, c) -> cacheStats.put(name, new CacheStats(c.hits().sum(), c.misses().sum(),
+                c.evictions().sum(), c.size().getAsLong())));
+
+        Map<String, EndpointStats> endpointStats = new LinkedHashMap<>();
+        endpoints.forEach((name, e) -> {
+            long[] latencies = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                latencies[i] = e.latencies().get(i);
+            }
+            endpointStats.put(name, new EndpointStats(e.requests().sum(), e.errors().sum(), latencies));
+        });
+
+        return new Snapshot(cacheStats, inFlightFetches.sum(), endpointStats);
+    }
+
+    /** Resets all counters (but keeps the registered caches). */
+    public static void reset() {
+        caches.replaceAll((name, c) -> new CacheCounters(c.size()));
+        endpoints.clear();
+    }
+
+    /**
+     * Registers a cache, such that it shows up in the snapshots even before the
+     * first lookup.
+     *
+     * @param cache the name of the cache
+     * @param size  the supplier of the current number of entries
+     */
+    static void registerCache(String cache, LongSupplier size) {
+        caches.putIfAbsent(cache, new CacheCounters(size));
+    }
+
+    /**
+     * Records a cache hit.
+     *
+     * @param cache the name of the (registered) cache
+     */
+    static void cacheHit(String cache) {
+        if (ENABLED) caches.get(cache).hits().increment();
+    }
+
+    /**
+     * Records a cache miss.
+     *
+     * @param cache the name of the (registered) cache
+     */
+    static void cacheMiss(String cache) {
+        if (ENABLED) caches.get(cache).misses().increment();
+    }
+
+    /**
+     * Records a cache eviction.
+     *
+     * @param cache the name of the (registered) cache
+     */
+    static void cacheEviction(String cache) {
+        if (ENABLED) caches.get(cache).evictions().increment();
+    }
+
+    /** Records the start of a remote fetch. */
+    static void fetchStarted() {
+        if (ENABLED) inFlightFetches.increment();
+    }
+
+    /** Records the end of a remote fetch, independent of its success. */
+    static void fetchFinished() {
+        if (ENABLED) inFlightFetches.decrement();
+    }
+
+    /**
+     * Records a request to a remote endpoint.
+     *
+     * @param endpoint the endpoint, e.g. "/formula"
+     * @param nanos    the time the request took in nanoseconds
+     * @param success  false if the request failed
+     */
+    static void request(String endpoint, long nanos, boolean success) {
+        if (!ENABLED) return;
+
+        EndpointCounters counters = endpoints.computeIfAbsent(endpoint, e -> new EndpointCounters());
+        counters.requests().increment();
+        if (!success) counters.errors().increment();
+
+        long micros = Math.max(0, nanos / 1_000);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counters.latencies().incrementAndGet(bucket);
+    }
+}
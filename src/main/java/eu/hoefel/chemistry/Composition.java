@@ -0,0 +1,1067 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable elemental (and isotopic) composition, e.g. parsed from a
+ * chemical formula. In contrast to a {@link Molecule}, a composition is purely
+ * local, i.e. it does not require a connection to a resolver. The nuclides and
+ * their counts are stored in primitive arrays, sorted by atomic number (an
+ * element sorts before its isotopes).
+ */
+public final class Composition implements ChemicalCompound {
+
+    /** The empty composition. */
+    public static final Composition EMPTY = new Composition(new int[0], new int[0]);
+
+    /**
+     * Orders compositions like their {@link #hill() Hill formulas} in formula
+     * indices, i.e. nuclide by nuclide in Hill order, first alphabetically by
+     * symbol (an element before its isotopes), then by count, with a formula
+     * sorting before all longer formulas it is the start of, e.g. "BrI", "CCl4",
+     * "CH3I", "C2H5Br", "H2O4S". The Hill formulas are not built.
+     */
+    public static final Comparator<Composition> HILL_ORDER = (a, b) -> Arrays.compareUnsigned(a.hillTokens(),
+            b.hillTokens());
+
+    /** The alphabetical rank of the element symbols, by ordinal. */
+    private static final int[] symbolRanks = symbolRanks();
+
+    /** Counts from this size on are followed by an extra token, cf. {@link #hillTokens(int[], int)}. */
+    private static final int MAX_TOKEN_COUNT = 0xFFFF;
+
+    /** The dense nuclide ids, sorted increasingly, cf. {@link Nuclides}. */
+    private final int[] ids;
+
+    /** The (positive) number of atoms per id. */
+    private final int[] counts;
+
+    /**
+     * The presence of the elements (including their isotopes), i.e. bit
+     * {@code ordinal % 64} of word {@code ordinal / 64} is set if the element with
+     * the ordinal is present.
+     */
+    private final long presence0;
+    private final long presence1;
+
+    /** The lazily built Hill formula, cf. {@link #hill()}. */
+    private String hill;
+
+    private Composition(int[] ids, int[] counts) {
+        this.ids = ids;
+        this.counts = counts;
+
+        long presence0 = 0;
+        long presence1 = 0;
+        for (int id : ids) {
+            int ordinal = Nuclides.atomicNumber(id) - 1;
+            if (ordinal < Long.SIZE) {
+                presence0 |= 1L << ordinal;
+            } else {
+                presence1 |= 1L << ordinal;
+            }
+        }
+        this.presence0 = presence0;
+        this.presence1 = presence1;
+    }
+
+    /**
+     * Parses the given chemical formula. Supported are element symbols (e.g.
+     * "NaCl"), isotopes in square brackets (e.g. "[13C]H4"), deuterium and tritium
+     * (e.g. "D2O"), parentheses (e.g. "Ca(OH)2") and hydrates (e.g. "CuSO4.5H2O"
+     * or "CuSO4&middot;5H2O").
+     *
+     * @param formula the chemical formula, not {@code null}
+     * @return the composition
+     * @throws NullPointerException     if {@code formula} is {@code null}
+     * @throws IllegalArgumentException if {@code formula} cannot be parsed, e.g.
+     *                                  if any count exceeds the range of an
+     *                                  {@code int}
+     */
+    public static Composition parse(String formula) {
+        Objects.requireNonNull(formula);
+
+        FormulaParseEvent event = new FormulaParseEvent();
+        event.begin();
+
+        Composition composition;
+        try {
+            composition = new Parser(formula).parse();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Too many atoms in formula '%s'".formatted(formula), e);
+        }
+
+        if (event.shouldCommit()) {
+            event.formula = formula;
+            event.components = composition.size();
+            event.commit();
+        }
+        return composition;
+    }
+
+    /**
+     * Gets the composition from the given nuclides and their frequency.
+     *
+     * @param components the nuclides and their frequency, not {@code null}
+     * @return the composition
+     * @throws NullPointerException     if {@code components} is {@code null}
+     * @throws IllegalArgumentException if any frequency is negative
+     */
+    public static Composition of(Map<? extends Nuclide, Integer> components) {
+        Accumulator acc = new Accumulator();
+        components.forEach((nuclide, count) -> {
+            if (count < 0) throw new IllegalArgumentException("Negative count for " + nuclide + ": " + count);
+            acc.add(Nuclides.id(nuclide), count);
+        });
+        return acc.toComposition();
+    }
+
+    /**
+     * Gets the composition from the given dense ids and counts.
+     *
+     * @param ids    the ids, may contain duplicates, cf. {@link Nuclides}
+     * @param counts the non-negative counts of the corresponding ids
+     * @param size   the number of ids to use
+     * @return the composition
+     */
+    static Composition of(int[] ids, int[] counts, int size) {
+        Accumulator acc = new Accumulator();
+        for (int i = 0; i < size; i++) {
+            acc.add(ids[i], counts[i]);
+        }
+        return acc.toComposition();
+    }
+
+    /**
+     * Gets the composition of the given compound. For {@link Molecule molecules}
+     * these are the components as given by the resolver.
+     *
+     * @param compound the compound, not {@code null}
+     * @return the composition
+     * @throws NullPointerException     if {@code compound} is {@code null}
+     * @throws IllegalArgumentException if the composition of the compound is not
+     *                                  known
+     */
+    public static Composition of(ChemicalCompound compound) {
+        return switch (compound) {
+            case Composition composition -> composition;
+            case Nuclide nuclide -> new Composition(new int[] { Nuclides.id(nuclide) }, new int[] { 1 });
+            case Molecule molecule -> molecule.composition();
+            default -> throw new IllegalArgumentException("Unknown composition of " + compound);
+        };
+    }
+
+    /**
+     * Gets the number of distinct nuclides.
+     *
+     * @return the number of distinct nuclides
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Checks whether the composition contains no atoms.
+     *
+     * @return true if the composition is empty
+     */
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Gets the i-th nuclide, in the order of increasing atomic number.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the nuclide
+     */
+    public Nuclide nuclide(int i) {
+        return Nuclides.nuclide(ids[i]);
+    }
+
+    /**
+     * Gets the number of atoms of the i-th nuclide.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the number of atoms
+     */
+    public int count(int i) {
+        return counts[i];
+    }
+
+    /**
+     * Gets the number of atoms of the given nuclide. Note that isotopes are counted
+     * separately from their element, e.g. "[13C]CH4" contains one {@link Element#C}
+     * and one {@link Isotope.C#C13}.
+     *
+     * @param nuclide the nuclide
+     * @return the number of atoms, 0 if not contained
+     */
+    public int count(Nuclide nuclide) {
+        int i = Arrays.binarySearch(ids, Nuclides.id(nuclide));
+        return i < 0 ? 0 : counts[i];
+    }
+
+    /**
+     * Checks whether the composition contains the given element or any of its
+     * isotopes.
+     *
+     * @param element the element, not {@code null}
+     * @return true if the element is present
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    public boolean contains(Element element) {
+        int ordinal = element.ordinal();
+        return ((ordinal < Long.SIZE ? presence0 : presence1) & 1L << ordinal) != 0;
+    }
+
+    /**
+     * Gets the presence mask of the elements, cf. {@link #contains(Element)}.
+     *
+     * @param word the word, 0 for the ordinals 0 to 63 and 1 for the ordinals 64
+     *             to 127
+     * @return the bits of the present elements
+     */
+    long presence(int word) {
+        return word == 0 ? presence0 : presence1;
+    }
+
+    /**
+     * Gets the number of atoms of the given element including its isotopes, e.g.
+     * "[13C]CH4" contains two atoms of carbon.
+     *
+     * @param element the element, not {@code null}
+     * @return the number of atoms, 0 if not contained
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    public int atoms(Element element) {
+        if (!contains(element)) return 0;
+
+        int atomicNumber = element.atomicNumber();
+        int atoms = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (Nuclides.atomicNumber(ids[i]) == atomicNumber) atoms += counts[i];
+        }
+        return atoms;
+    }
+
+    /**
+     * Gets the total number of atoms.
+     *
+     * @return the number of atoms
+     */
+    public int atoms() {
+        int atoms = 0;
+        for (int count : counts) {
+            atoms += count;
+        }
+        return atoms;
+    }
+
+    /**
+     * Gets the composition where the given number of atoms of the element of the
+     * isotope are replaced by the isotope, e.g. labelling 2 carbons of "C6H12O6"
+     * with {@link Isotope.C#C13} gives "H12C4[13C]2O6", i.e. "C4[13C]2H12O6" in
+     * {@link #hill() Hill order}.
+     *
+     * @param isotope the isotope to label with, not {@code null}
+     * @param count   the number of atoms to label, from 0 to the number of atoms
+     *                of the element
+     * @return the labelled composition
+     * @throws NullPointerException     if {@code isotope} is {@code null}
+     * @throws IllegalArgumentException if {@code count} is out of range
+     * @see Label
+     */
+    public Composition label(Isotope isotope, int count) {
+        int element = Nuclides.id(isotope.element());
+        int i = Arrays.binarySearch(ids, element);
+        int available = i < 0 ? 0 : counts[i];
+        if (count < 0 || count > available) {
+            throw new IllegalArgumentException("Cannot label %d of the %d atoms of %s in %s"
+                    .formatted(count, available, isotope.element(), this));
+        }
+        if (count == 0) return this;
+
+        int[] newIds = Arrays.copyOf(ids, ids.length + 1);
+        int[] newCounts = Arrays.copyOf(counts, counts.length + 1);
+        newCounts[i] -= count;
+        newIds[ids.length] = Nuclides.id(isotope);
+        newCounts[ids.length] = count;
+        return of(newIds, newCounts, newIds.length);
+    }
+
+    /**
+     * Gets the composition where all atoms of the element of the isotope are
+     * replaced by the isotope, e.g. "[13C]6H12O6" for uniformly labelled glucose.
+     *
+     * @param isotope the isotope to label with, not {@code null}
+     * @return the labelled composition
+     * @throws NullPointerException if {@code isotope} is {@code null}
+     */
+    public Composition labelAll(Isotope isotope) {
+        return label(isotope, count(isotope.element()));
+    }
+
+    /**
+     * Checks whether the composition contains at least the atoms of the given
+     * composition, i.e. whether it can be {@link #minus(Composition) subtracted}.
+     * Isotopes are counted separately from their element.
+     *
+     * @param other the other composition, not {@code null}
+     * @return true if all nuclides of the other composition are contained at
+     *         least as often
+     * @throws NullPointerException if {@code other} is {@code null}
+     */
+    public boolean contains(Composition other) {
+        int i = 0;
+        for (int j = 0; j < other.ids.length; j++) {
+            while (i < ids.length && ids[i] < other.ids[j]) i++;
+            if (i == ids.length || ids[i] != other.ids[j] || counts[i] < other.counts[j]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the sum of the compositions, e.g. for the gain of an adduct.
+     *
+     * @param other the composition to add, not {@code null}
+     * @return the sum
+     * @throws NullPointerException if {@code other} is {@code null}
+     * @throws ArithmeticException  if a count overflows
+     */
+    public Composition plus(Composition other) {
+        if (other.isEmpty()) return this;
+        if (isEmpty()) return other;
+
+        int[] newIds = new int[ids.length + other.ids.length];
+        int[] newCounts = new int[newIds.length];
+        int size = merge(ids, counts, ids.length, other.ids, other.counts, other.ids.length, 1, newIds, newCounts);
+        return trimmed(newIds, newCounts, size);
+    }
+
+    /**
+     * Gets the difference of the compositions, e.g. for the loss of water.
+     *
+     * @param other the composition to subtract, not {@code null}
+     * @return the difference
+     * @throws NullPointerException     if {@code other} is {@code null}
+     * @throws IllegalArgumentException if the composition does not
+     *                                  {@link #contains(Composition) contain} the
+     *                                  other composition
+     */
+    public Composition minus(Composition other) {
+        if (other.isEmpty()) return this;
+
+        int[] newIds = new int[ids.length];
+        int[] newCounts = new int[ids.length];
+        int size = merge(ids, counts, ids.length, other.ids, other.counts, other.ids.length, -1, newIds, newCounts);
+        if (size < 0) throw new IllegalArgumentException("Cannot subtract %s from %s".formatted(other, this));
+        return trimmed(newIds, newCounts, size);
+    }
+
+    /**
+     * Gets the composition scaled by the given factor, e.g. for polymers or
+     * stoichiometric coefficients.
+     *
+     * @param factor the non-negative factor
+     * @return the scaled composition
+     * @throws IllegalArgumentException if {@code factor} is negative
+     * @throws ArithmeticException      if a count overflows
+     */
+    public Composition times(int factor) {
+        if (factor < 0) throw new IllegalArgumentException("The factor cannot be negative: " + factor);
+        if (factor == 0) return EMPTY;
+        if (factor == 1) return this;
+
+        int[] newCounts = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            newCounts[i] = Math.multiplyExact(counts[i], factor);
+        }
+        return new Composition(ids, newCounts);
+    }
+
+    /**
+     * Gets the composition from the given sorted ids and positive counts, using the
+     * arrays if they have the given size.
+     */
+    private static Composition trimmed(int[] sortedIds, int[] counts, int size) {
+        if (size == 0) return EMPTY;
+        if (size == sortedIds.length) return new Composition(sortedIds, counts);
+        return new Composition(Arrays.copyOf(sortedIds, size), Arrays.copyOf(counts, size));
+    }
+
+    /**
+     * Merges the sorted ids and counts, adding the second counts multiplied by the
+     * factor to the first and dropping zero counts.
+     *
+     * @param ids1      the first sorted ids
+     * @param counts1   the first counts
+     * @param size1     the number of first ids
+     * @param ids2      the second sorted ids
+     * @param counts2   the second counts
+     * @param size2     the number of second ids
+     * @param factor    the factor of the second counts
+     * @param outIds    the array for the merged ids, large enough for all ids
+     * @param outCounts the array for the merged counts, large enough for all ids
+     * @return the number of merged ids, or -1 if any count became negative
+     * @throws ArithmeticException if a count overflows
+     */
+    private static int merge(int[] ids1, int[] counts1, int size1, int[] ids2, int[] counts2, int size2, int factor,
+            int[] outIds, int[] outCounts) {
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < size1 || j < size2) {
+            int id;
+            int count;
+            if (j == size2 || i < size1 && ids1[i] < ids2[j]) {
+                id = ids1[i];
+                count = counts1[i++];
+            } else if (i == size1 || ids2[j] < ids1[i]) {
+                id = ids2[j];
+                count = Math.multiplyExact(counts2[j++], factor);
+            } else {
+                id = ids1[i];
+                count = Math.addExact(counts1[i++], Math.multiplyExact(counts2[j++], factor));
+            }
+
+            if (count < 0) return -1;
+            if (count == 0) continue;
+            outIds[size] = id;
+            outCounts[size++] = count;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the dense id of the i-th nuclide.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the id
+     */
+    int id(int i) {
+        return ids[i];
+    }
+
+    @Override
+    public double mass() {
+        return mass(MassMode.AVERAGE);
+    }
+
+    @Override
+    public double mass(MassMode mode) {
+        double[] table = MassMode.table();
+        int offset = mode.ordinal();
+        double mass = 0;
+        for (int i = 0; i < ids.length; i++) {
+            mass += table[MassMode.MODES * ids[i] + offset] * counts[i];
+        }
+        return mass;
+    }
+
+    /**
+     * Gets the masses in all modes at once.
+     *
+     * @return the masses in Da, indexed by the {@link MassMode#ordinal() ordinal}
+     *         of the mass mode
+     */
+    public double[] masses() {
+        double[] table = MassMode.table();
+        double average = 0;
+        double monoisotopic = 0;
+        double nominal = 0;
+        for (int i = 0; i < ids.length; i++) {
+            int offset = MassMode.MODES * ids[i];
+            average += table[offset] * counts[i];
+            monoisotopic += table[offset + 1] * counts[i];
+            nominal += table[offset + 2] * counts[i];
+        }
+        return new double[] { average, monoisotopic, nominal };
+    }
+
+    @Override
+    public Set<Nuclide> nuclides() {
+        Set<Nuclide> nuclides = new LinkedHashSet<>();
+        for (int id : ids) {
+            nuclides.add(Nuclides.nuclide(id));
+        }
+        return Set.copyOf(nuclides);
+    }
+
+    /**
+     * Gets the nuclides and their frequency, in the order of increasing atomic
+     * number.
+     *
+     * @return the (unmodifiable) nuclides and their frequency
+     */
+    public Map<Nuclide, Integer> toMap() {
+        Map<Nuclide, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            map.put(Nuclides.nuclide(ids[i]), counts[i]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Composition other && Arrays.equals(ids, other.ids) && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(ids) + Arrays.hashCode(counts);
+    }
+
+    /**
+     * Gets the formula in Hill notation, i.e. with carbon first, hydrogen second
+     * and all other elements in alphabetical order of their symbol, or with all
+     * elements in alphabetical order if there is no carbon, e.g. "C2H6O", "ClNa"
+     * and "H2O4S". Isotopes follow their element in square brackets, e.g.
+     * "C5[13C]H12O6". The formula is built once and then cached.
+     *
+     * @return the Hill formula
+     */
+    public String hill() {
+        String formula = hill;
+        if (formula == null) {
+            int[] order = hillOrder();
+            StringBuilder sb = new StringBuilder(4 * order.length);
+            for (int i : order) {
+                appendNuclide(sb, i);
+            }
+            formula = sb.toString();
+            hill = formula;
+        }
+        return formula;
+    }
+
+    /**
+     * Gets the formula in Hill notation with the given charge, e.g. "[O4S]2-"
+     * for sulfate and "[H4N]+" for ammonium. The formula is put in square
+     * brackets (like the adducts in {@link Adduct#parse(String)}), such that the
+     * charge cannot be confused with the last count, e.g. "[O4S2]-" and
+     * "[O4S]2-".
+     *
+     * @param charge the charge, in elementary charges
+     * @return the Hill formula with the charge, or just the Hill formula for a
+     *         charge of 0, cf. {@link #hill()}
+     */
+    public String hill(int charge) {
+        if (charge == 0) return hill();
+
+        String magnitude = charge == 1 || charge == -1 ? "" : Long.toString(Math.abs((long) charge));
+        return "[" + hill() + "]" + magnitude + (charge > 0 ? '+' : '-');
+    }
+
+    /**
+     * Sorts the given compositions in place into {@link #HILL_ORDER Hill order},
+     * via a radix sort on integer keys packed from symbol ranks, mass numbers and
+     * counts, i.e. without building or comparing strings.
+     *
+     * @param compositions the compositions, not {@code null}
+     * @throws NullPointerException          if {@code compositions} or any of its
+     *                                       elements is {@code null}
+     * @throws UnsupportedOperationException if the list is unmodifiable
+     */
+    public static void sortHill(List<Composition> compositions) {
+        Composition[] array = compositions.toArray(new Composition[0]);
+        int[] offsets = new int[array.length + 1];
+        for (int i = 0; i < array.length; i++) {
+            offsets[i + 1] = offsets[i] + array[i].hillTokenCount();
+        }
+        int[] tokens = new int[offsets[array.length]];
+        for (int i = 0; i < array.length; i++) {
+            array[i].hillTokens(tokens, offsets[i]);
+        }
+
+        int[] order = Sorting.order(tokens, offsets);
+        for (int i = 0; i < order.length; i++) {
+            compositions.set(i, array[order[i]]);
+        }
+    }
+
+    /** Gets the indices of the nuclides in Hill order. */
+    private int[] hillOrder() {
+        boolean carbon = contains(Element.C);
+        long[] keys = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            int ordinal = Nuclides.atomicNumber(ids[i]) - 1;
+            int rank;
+            if (carbon && ordinal == Element.C.ordinal()) {
+                rank = 0;
+            } else if (carbon && ordinal == Element.H.ordinal()) {
+                rank = 1;
+            } else {
+                rank = 2 + symbolRanks[ordinal];
+            }
+            keys[i] = (long) (rank << 9 | massNumber(ids[i])) << 32 | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    /** Gets the mass number of the nuclide with the given id, 0 for elements. */
+    private static int massNumber(int id) {
+        return Nuclides.isIsotope(id) ? NuclideTable.massNumber(Nuclides.index(id)) : 0;
+    }
+
+    /** Gets the number of tokens, cf. {@link #hillTokens(int[], int)}. */
+    private int hillTokenCount() {
+        int tokens = counts.length;
+        for (int count : counts) {
+            if (count >= MAX_TOKEN_COUNT) tokens++;
+        }
+        return tokens;
+    }
+
+    /** Gets the tokens, cf. {@link #hillTokens(int[], int)}. */
+    private int[] hillTokens() {
+        int[] tokens = new int[hillTokenCount()];
+        hillTokens(tokens, 0);
+        return tokens;
+    }
+
+    /**
+     * Writes the tokens of the nuclides in Hill order, such that compositions
+     * compare like their tokens as unsigned integers in lexicographic order. A
+     * token holds the alphabetical rank of the symbol (7 bits), the mass number
+     * (9 bits) and the count (16 bits). Counts of at least {@value #MAX_TOKEN_COUNT}
+     * are saturated and followed by an extra token with the full count. All
+     * tokens are non-zero.
+     *
+     * @param tokens the tokens to write to
+     * @param offset the offset to start writing at
+     */
+    private void hillTokens(int[] tokens, int offset) {
+        for (int i : hillOrder()) {
+            int ordinal = Nuclides.atomicNumber(ids[i]) - 1;
+            int count = counts[i];
+            tokens[offset++] = symbolRanks[ordinal] << 25 | massNumber(ids[i]) << 16 | Math.min(count, MAX_TOKEN_COUNT);
+            if (count >= MAX_TOKEN_COUNT) tokens[offset++] = count;
+        }
+    }
+
+    /** Gets the alphabetical rank of the element symbols, by ordinal. */
+    private static int[] symbolRanks() {
+        Element[] elements = Element.values();
+        Element[] sorted = elements.clone();
+        Arrays.sort(sorted, Comparator.comparing(Element::name));
+        int[] ranks = new int[elements.length];
+        for (int rank = 0; rank < sorted.length; rank++) {
+            ranks[sorted[rank].ordinal()] = rank;
+        }
+        return ranks;
+    }
+
+    /** Appends the i-th nuclide and its count (if not 1) to the formula. */
+    private void appendNuclide(StringBuilder sb, int i) {
+        Nuclide nuclide = Nuclides.nuclide(ids[i]);
+        if (nuclide instanceof Isotope isotope) {
+            sb.append('[').append(isotope.massNumber()).append(isotope.element().name()).append(']');
+        } else {
+            sb.append(nuclide);
+        }
+        if (counts[i] != 1) sb.append(counts[i]);
+    }
+
+    /**
+     * Gets the formula, with the nuclides in the order of increasing atomic number
+     * and isotopes in square brackets, e.g. "H2[13C]O".
+     *
+     * @see #hill()
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ids.length; i++) {
+            appendNuclide(sb, i);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A mutable composition for arithmetic in tight loops, e.g. for mass ladders of
+     * polymers. The nuclides are kept in sorted primitive arrays, which are reused
+     * for all operations, such that only {@link #build()} allocates (once the
+     * buffers are large enough). Builders are not thread-safe.
+     */
+    public static final class Builder {
+        private int[] ids = new int[8];
+        private int[] counts = new int[8];
+        private int size;
+
+        /** The buffers for merging, swapped with the arrays above. */
+        private int[] mergedIds = new int[8];
+        private int[] mergedCounts = new int[8];
+
+        /** The single id and count of {@link #add(Nuclide, int)}. */
+        private final int[] nuclideId = new int[1];
+        private static final int[] ONE = { 1 };
+
+        /** Creates an empty builder. */
+        public Builder() {}
+
+        /**
+         * Creates a builder starting with the given composition.
+         *
+         * @param composition the initial composition, not {@code null}
+         * @throws NullPointerException if {@code composition} is {@code null}
+         */
+        public Builder(Composition composition) {
+            add(composition);
+        }
+
+        /**
+         * Adds the given composition.
+         *
+         * @param composition the composition to add, not {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code composition} is {@code null}
+         * @throws ArithmeticException  if a count overflows
+         */
+        public Builder add(Composition composition) {
+            return add(composition, 1);
+        }
+
+        /**
+         * Adds the given composition multiplied by the factor, e.g. a negative factor
+         * to subtract.
+         *
+         * @param composition the composition to add, not {@code null}
+         * @param factor      the factor
+         * @return this builder
+         * @throws NullPointerException     if {@code composition} is {@code null}
+         * @throws IllegalArgumentException if any count would become negative, in
+         *                                  which case the builder is unchanged
+         * @throws ArithmeticException      if a count overflows, in which case the
+         *                                  builder is unchanged
+         */
+        public Builder add(Composition composition, int factor) {
+            return merge(composition.ids, composition.counts, composition.ids.length, factor, composition);
+        }
+
+        /**
+         * Adds the given number of atoms of the nuclide.
+         *
+         * @param nuclide the nuclide, not {@code null}
+         * @param count   the number of atoms, negative to remove atoms
+         * @return this builder
+         * @throws NullPointerException     if {@code nuclide} is {@code null}
+         * @throws IllegalArgumentException if the count of the nuclide would become
+         *                                  negative
+         * @throws ArithmeticException      if the count overflows
+         */
+        public Builder add(Nuclide nuclide, int count) {
+            nuclideId[0] = Nuclides.id(nuclide);
+            return merge(nuclideId, ONE, 1, count, nuclide);
+        }
+
+        /**
+         * Subtracts the given composition.
+         *
+         * @param composition the composition to subtract, not {@code null}
+         * @return this builder
+         * @throws NullPointerException     if {@code composition} is {@code null}
+         * @throws IllegalArgumentException if any count would become negative, in
+         *                                  which case the builder is unchanged
+         */
+        public Builder subtract(Composition composition) {
+            return add(composition, -1);
+        }
+
+        /**
+         * Multiplies all counts by the given factor.
+         *
+         * @param factor the non-negative factor
+         * @return this builder
+         * @throws IllegalArgumentException if {@code factor} is negative
+         * @throws ArithmeticException      if a count overflows, in which case the
+         *                                  builder is unchanged
+         */
+        public Builder multiply(int factor) {
+            if (factor < 0) throw new IllegalArgumentException("The factor cannot be negative: " + factor);
+            if (factor == 0) return clear();
+
+            for (int i = 0; i < size; i++) {
+                if (counts[i] > Integer.MAX_VALUE / factor) throw new ArithmeticException("integer overflow");
+            }
+            for (int i = 0; i < size; i++) {
+                counts[i] *= factor;
+            }
+            return this;
+        }
+
+        /**
+         * Removes all atoms.
+         *
+         * @return this builder
+         */
+        public Builder clear() {
+            size = 0;
+            return this;
+        }
+
+        /**
+         * Checks whether the builder contains no atoms.
+         *
+         * @return true if the builder is empty
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Gets the number of atoms of the given nuclide, cf.
+         * {@link Composition#count(Nuclide)}.
+         *
+         * @param nuclide the nuclide, not {@code null}
+         * @return the number of atoms, 0 if not contained
+         * @throws NullPointerException if {@code nuclide} is {@code null}
+         */
+        public int count(Nuclide nuclide) {
+            int i = Arrays.binarySearch(ids, 0, size, Nuclides.id(nuclide));
+            return i < 0 ? 0 : counts[i];
+        }
+
+        /**
+         * Gets the mass of the current composition without building it.
+         *
+         * @param mode the mass mode, not {@code null}
+         * @return the mass in Da
+         * @throws NullPointerException if {@code mode} is {@code null}
+         */
+        public double mass(MassMode mode) {
+            double[] table = MassMode.table();
+            int offset = mode.ordinal();
+            double mass = 0;
+            for (int i = 0; i < size; i++) {
+                mass += table[MassMode.MODES * ids[i] + offset] * counts[i];
+            }
+            return mass;
+        }
+
+        /**
+         * Gets the current composition. The builder stays usable.
+         *
+         * @return the composition
+         */
+        public Composition build() {
+            return trimmed(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size), size);
+        }
+
+        /** Merges the given sorted ids and counts times the factor into the builder. */
+        private Builder merge(int[] otherIds, int[] otherCounts, int otherSize, int factor, Object other) {
+            ensureCapacity(size + otherSize);
+            int merged = Composition.merge(ids, counts, size, otherIds, otherCounts, otherSize, factor, mergedIds,
+                    mergedCounts);
+            if (merged < 0) {
+                throw new IllegalArgumentException("Cannot add %d times %s to %s".formatted(factor, other, build()));
+            }
+
+            int[] tmp = ids;
+            ids = mergedIds;
+            mergedIds = tmp;
+            tmp = counts;
+            counts = mergedCounts;
+            mergedCounts = tmp;
+            size = merged;
+            return this;
+        }
+
+        /** Ensures that the merge buffers can hold the given number of ids. */
+        private void ensureCapacity(int capacity) {
+            if (mergedIds.length >= capacity) return;
+
+            int newCapacity = Math.max(capacity, 2 * mergedIds.length);
+            mergedIds = new int[newCapacity];
+            mergedCounts = new int[newCapacity];
+        }
+
+        @Override
+        public String toString() {
+            return build().toString();
+        }
+    }
+
+    /** Collects ids and counts, merging duplicate ids. */
+    private static final class Accumulator {
+        private int[] ids = new int[8];
+        private int[] counts = new int[8];
+        private int size;
+
+        void add(int id, int count) {
+            if (count == 0) return;
+
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    counts[i] = Math.addExact(counts[i], count);
+                    return;
+                }
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, 2 * size);
+                counts = Arrays.copyOf(counts, 2 * size);
+            }
+            ids[size] = id;
+            counts[size++] = count;
+        }
+
+        void addAll(Accumulator other, int multiplier) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.ids[i], Math.multiplyExact(other.counts[i], multiplier));
+            }
+        }
+
+        Composition toComposition() {
+            int[] sortedIds = Arrays.copyOf(ids, size);
+            int[] sortedCounts = Arrays.copyOf(counts, size);
+            // insertion sort, there are only few distinct nuclides
+            for (int i = 1; i < size; i++) {
+                int id = sortedIds[i];
+                int count = sortedCounts[i];
+                int j = i - 1;
+                for (; j >= 0 && sortedIds[j] > id; j--) {
+                    sortedIds[j + 1] = sortedIds[j];
+                    sortedCounts[j + 1] = sortedCounts[j];
+                }
+                sortedIds[j + 1] = id;
+                sortedCounts[j + 1] = count;
+            }
+            return size == 0 ? EMPTY : new Composition(sortedIds, sortedCounts);
+        }
+    }
+
+    /** A recursive descent parser for chemical formulas. */
+    private static final class Parser {
+        private final String formula;
+        private int pos;
+
+        Parser(String formula) {
+            this.formula = formula;
+        }
+
+        Composition parse() {
+            Accumulator acc = new Accumulator();
+            while (true) {
+                int multiplier = number(1);
+                int start = pos;
+                Accumulator part = group();
+                if (pos == start && pos > 0) throw error("Missing formula part");
+                acc.addAll(part, multiplier);
+                if (pos >= formula.length() || !isHydrateSeparator(formula.charAt(pos))) break;
+                pos++;
+            }
+
+            if (pos < formula.length()) throw error("Unexpected character");
+            return acc.toComposition();
+        }
+
+        private static boolean isHydrateSeparator(char c) {
+            return c == '.' || c == '*' || c == '·' || c == '•';
+        }
+
+        /** Parses atoms and parenthesized groups up to a closing parenthesis or separator. */
+        private Accumulator group() {
+            Accumulator acc = new Accumulator();
+            while (pos < formula.length()) {
+                char c = formula.charAt(pos);
+                if (c == '(') {
+                    pos++;
+                    Accumulator inner = group();
+                    if (pos >= formula.length() || formula.charAt(pos) != ')') throw error("Missing ')'");
+                    pos++;
+                    acc.addAll(inner, number(1));
+                } else if (c == '[') {
+                    int id = isotope();
+                    acc.add(id, number(1));
+                } else if (c >= 'A' && c <= 'Z') {
+                    int id = atom();
+                    acc.add(id, number(1));
+                } else {
+                    break;
+                }
+            }
+            return acc;
+        }
+
+        /** Parses an element symbol, or D/T. */
+        private int atom() {
+            int start = pos++;
+            if (pos < formula.length() && Character.isLowerCase(formula.charAt(pos))) {
+                Element element = Nuclides.element(formula, start, pos + 1);
+                if (element != null) {
+                    pos++;
+                    return Nuclides.id(element);
+                }
+            }
+
+            char c = formula.charAt(start);
+            if (c == 'D') return Nuclides.id(Isotope.H.D);
+            if (c == 'T') return Nuclides.id(Isotope.H.T);
+
+            Element element = Nuclides.element(formula, start, pos);
+            if (element == null) {
+                pos = start;
+                throw error("Unknown element");
+            }
+            return Nuclides.id(element);
+        }
+
+        /** Parses an isotope like "[13C]". */
+        private int isotope() {
+            int start = pos++;
+            int massNumber = number(-1);
+            if (massNumber < 0) {
+                pos = start;
+                throw error("Missing mass number");
+            }
+
+            int symbolStart = pos;
+            while (pos < formula.length() && Character.isLetter(formula.charAt(pos))) {
+                pos++;
+            }
+            Element element = Nuclides.element(formula, symbolStart, pos);
+            if (element == null) {
+                pos = symbolStart;
+                throw error("Unknown element");
+            }
+            if (pos >= formula.length() || formula.charAt(pos) != ']') throw error("Missing ']'");
+            pos++;
+
+            int index = NuclideTable.indexOf(element.atomicNumber(), massNumber);
+            if (index < 0) {
+                pos = start;
+                throw error("Unknown isotope");
+            }
+            return Nuclides.isotopeId(index);
+        }
+
+        /** Parses a (non-negative) number, or returns the default. */
+        private int number(int defaultValue) {
+            int start = pos;
+            int value = 0;
+            while (pos < formula.length() && formula.charAt(pos) >= '0' && formula.charAt(pos) <= '9') {
+                if (value > (Integer.MAX_VALUE - (formula.charAt(pos) - '0')) / 10) throw error("Number too large");
+                value = 10 * value + formula.charAt(pos++) - '0';
+            }
+            return pos == start ? defaultValue : value;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("%s at position %d in formula '%s'".formatted(message, pos, formula));
+        }
+    }
+}
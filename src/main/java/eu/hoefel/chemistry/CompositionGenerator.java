@@ -0,0 +1,426 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Enumerates the compositions whose {@link MassMode#MONOISOTOPIC monoisotopic
+ * mass} lies within a tolerance around a given mass, for given bounds on the
+ * number of atoms per nuclide. The search fixes the count of the heaviest
+ * nuclide first and prunes every branch whose remaining nuclides cannot reach
+ * the mass window anymore, such that the count of the lightest nuclide follows
+ * directly from the window.
+ * <p>
+ * The results are streamed lazily. The underlying {@link Spliterator} splits
+ * the search tree, so a {@link Stream#parallel() parallel} stream distributes
+ * the search over the common fork/join pool. Optionally, the results get
+ * filtered by their ring and double bond equivalent (RDBE) and by the valence
+ * rules of Senior, using the lowest common valence of each element.
+ * <p>
+ * Instances are immutable.
+ */
+public final class CompositionGenerator {
+
+    /** The pattern of a single bound, e.g. "C0-100", "[13C]0-2" or "S5". */
+    private static final Pattern BOUND = Pattern.compile("(\\[\\d+[A-Z][a-z]?\\]|[A-Z][a-z]?)(?:(\\d+)-)?(\\d+)");
+
+    /** The generator without any nuclides. */
+    private static final CompositionGenerator EMPTY = new CompositionGenerator(new int[0], new int[0], new int[0],
+            Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false);
+
+    /** Slack for the mass window when calculating the ranges, the results are checked exactly. */
+    private static final double EPSILON = 1e-9;
+
+    /** The dense ids, sorted by decreasing mass. */
+    private final int[] ids;
+    private final int[] min;
+    private final int[] max;
+    private final double minRdbe;
+    private final double maxRdbe;
+    private final boolean valenceRules;
+
+    private CompositionGenerator(int[] ids, int[] min, int[] max, double minRdbe, double maxRdbe,
+            boolean valenceRules) {
+        this.ids = ids;
+        this.min = min;
+        this.max = max;
+        this.minRdbe = minRdbe;
+        this.maxRdbe = maxRdbe;
+        this.valenceRules = valenceRules;
+    }
+
+    /**
+     * Creates a generator for the given bounds. The bounds are separated by
+     * whitespace, each being a nuclide followed by the minimum and maximum count
+     * (e.g. "C0-100") or only by the maximum count (e.g. "S5", i.e. "S0-5").
+     *
+     * @param bounds the bounds, e.g. "C0-100 H0-200 N0-10 O0-20 S0-5", not
+     *               {@code null}
+     * @return the generator
+     * @throws NullPointerException     if {@code bounds} is {@code null}
+     * @throws IllegalArgumentException if {@code bounds} cannot be parsed
+     */
+    public static CompositionGenerator of(String bounds) {
+        CompositionGenerator generator = EMPTY;
+        for (String bound : bounds.trim().split("\\s+")) {
+            if (bound.isEmpty()) continue;
+
+            Matcher matcher = BOUND.matcher(bound);
+            if (!matcher.matches()) throw new IllegalArgumentException("Cannot parse the bound '" + bound + "'");
+
+            Composition nuclide = Composition.parse(matcher.group(1));
+            int lower = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+            int upper = Integer.parseInt(matcher.group(3));
+            generator = generator.with(nuclide.nuclide(0), lower, upper);
+        }
+        return generator;
+    }
+
+    /**
+     * Gets a generator with the given bounds for the given nuclide, replacing
+     * previous bounds for the nuclide.
+     *
+     * @param nuclide the nuclide, not {@code null}
+     * @param min     the minimum number of atoms
+     * @param max     the maximum number of atoms
+     * @return the new generator
+     * @throws NullPointerException     if {@code nuclide} is {@code null}
+     * @throws IllegalArgumentException if {@code min} is negative or larger than
+     *                                  {@code max}
+     */
+    public CompositionGenerator with(Nuclide nuclide, int min, int max) {
+        if (min < 0 || min > max) {
+            throw new IllegalArgumentException("Invalid bounds %d-%d for %s".formatted(min, max, nuclide));
+        }
+
+        int id = Nuclides.id(nuclide);
+        int n = ids.length;
+        int existing = -1;
+        for (int i = 0; i < n; i++) {
+            if (ids[i] == id) existing = i;
+        }
+
+        int[] newIds = existing < 0 ? Arrays.copyOf(ids, n + 1) : ids.clone();
+        int[] newMin = existing < 0 ? Arrays.copyOf(this.min, n + 1) : this.min.clone();
+        int[] newMax = existing < 0 ? Arrays.copyOf(this.max, n + 1) : this.max.clone();
+        int i = existing < 0 ? n : existing;
+        newIds[i] = id;
+        newMin[i] = min;
+        newMax[i] = max;
+
+        // heaviest first, insertion sort as there are only few nuclides
+        for (int j = 1; j < newIds.length; j++) {
+            for (int k = j; k > 0 && mass(newIds[k - 1]) < mass(newIds[k]); k--) {
+                swap(newIds, k);
+                swap(newMin, k);
+                swap(newMax, k);
+            }
+        }
+        return new CompositionGenerator(newIds, newMin, newMax, minRdbe, maxRdbe, valenceRules);
+    }
+
+    private static void swap(int[] array, int k) {
+        int tmp = array[k];
+        array[k] = array[k - 1];
+        array[k - 1] = tmp;
+    }
+
+    /**
+     * Gets a generator that only yields compositions with a ring and double bond
+     * equivalent (RDBE = 1 + &Sigma; n<sub>i</sub>(v<sub>i</sub> - 2)/2) within
+     * the given bounds.
+     *
+     * @param min the minimum RDBE, e.g. 0
+     * @param max the maximum RDBE
+     * @return the new generator
+     * @throws IllegalArgumentException if {@code min} is larger than {@code max}
+     */
+    public CompositionGenerator withRdbe(double min, double max) {
+        if (!(min <= max)) throw new IllegalArgumentException("Invalid RDBE bounds %s-%s".formatted(min, max));
+        return new CompositionGenerator(ids, this.min, this.max, min, max, valenceRules);
+    }
+
+    /**
+     * Gets a generator that checks the valence rules of Senior, i.e. that the sum
+     * of the valences is even, at least twice the maximum valence and at least
+     * twice the number of atoms minus one. In other words, that the composition
+     * can form a connected, even-electron molecule.
+     *
+     * @param valenceRules whether to check the valence rules
+     * @return the new generator
+     */
+    public CompositionGenerator withValenceRules(boolean valenceRules) {
+        return new CompositionGenerator(ids, min, max, minRdbe, maxRdbe, valenceRules);
+    }
+
+    /**
+     * Generates the compositions with a monoisotopic mass within the tolerance
+     * around the given mass. The stream is lazy and sequential, but can be turned
+     * into a parallel one.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the matching compositions, in no particular order
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public Stream<Composition> generate(double mass, double ppm) {
+        if (!(ppm >= 0)) throw new IllegalArgumentException("The tolerance needs to be non-negative, but was " + ppm);
+
+        double tolerance = mass * ppm * 1e-6;
+        return StreamSupport.stream(new Search(mass - tolerance, mass + tolerance), false);
+    }
+
+    /**
+     * Counts the compositions with a monoisotopic mass within the tolerance around
+     * the given mass, in parallel.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the number of matching compositions
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public long count(double mass, double ppm) {
+        return generate(mass, ppm).parallel().count();
+    }
+
+    private static double mass(int id) {
+        return MassMode.MONOISOTOPIC.mass(id);
+    }
+
+    /**
+     * Gets the lowest common valence of the element.
+     *
+     * @param element the element
+     * @return the valence
+     */
+    static int valence(Element element) {
+        return switch (element) {
+            case H, Li, Na, K, Rb, Cs, Fr, F, Cl, Br, I, Ag -> 1;
+            case B, Al, N, P, As, Sb -> 3;
+            case C, Si, Ge, Sn -> 4;
+            case O, S, Se, Te -> 2;
+            default -> {
+                double group = element.group();
+                if (Double.isNaN(group)) yield 3; // lanthanides and actinides
+                if (group == 18) yield 0;
+                if (group >= 13) yield (int) (group >= 15 ? 18 - group : group - 10);
+                yield group == 1 ? 1 : 2;
+            }
+        };
+    }
+
+    /**
+     * A depth first search over the counts, one level per nuclide. Levels before
+     * {@code floor} are fixed (they belong to the spliterator this one was split
+     * from), and each level iterates its count up to {@code ends[level]}.
+     */
+    private final class Search implements Spliterator<Composition> {
+        private final double lo;
+        private final double hi;
+        private final double[] masses;
+        private final int[] valences;
+
+        /** The minimum and maximum mass of the nuclides from the given level on. */
+        private final double[] restMin;
+        private final double[] restMax;
+
+        private final int[] counts;
+        private final int[] ends;
+        private final double[] prefix;
+        private final int floor;
+
+        /** The number of levels with a valid count. */
+        private int valid;
+
+        /** Whether the current (complete) counts have not been checked yet. */
+        private boolean pending;
+
+        Search(double lo, double hi) {
+            this.lo = lo;
+            this.hi = hi;
+            int n = ids.length;
+            masses = new double[n];
+            valences = new int[n];
+            restMin = new double[n + 1];
+            restMax = new double[n + 1];
+            for (int i = n - 1; i >= 0; i--) {
+                masses[i] = mass(ids[i]);
+                valences[i] = valence(Nuclides.element(ids[i]));
+                restMin[i] = restMin[i + 1] + min[i] * masses[i];
+                restMax[i] = restMax[i + 1] + max[i] * masses[i];
+            }
+            counts = new int[n];
+            ends = new int[n];
+            prefix = new double[n + 1];
+            floor = 0;
+            position(descend(0));
+        }
+
+        private Search(Search parent, int level, int from, int to) {
+            lo = parent.lo;
+            hi = parent.hi;
+            masses = parent.masses;
+            valences = parent.valences;
+            restMin = parent.restMin;
+            restMax = parent.restMax;
+            counts = parent.counts.clone();
+            ends = parent.ends.clone();
+            prefix = parent.prefix.clone();
+            floor = level;
+
+            counts[level] = from;
+            ends[level] = to;
+            prefix[level + 1] = prefix[level] + from * masses[level];
+            position(descend(level + 1));
+        }
+
+        /** Positions the search after descending as far as possible. */
+        private void position(int reached) {
+            if (reached == counts.length && counts.length > 0) {
+                valid = reached;
+                pending = true;
+            } else {
+                valid = reached;
+                pending = false;
+                advance();
+            }
+        }
+
+        /**
+         * Sets the smallest possible counts from the given level on.
+         *
+         * @return the number of levels with a valid count, i.e. the number of
+         *         nuclides if the counts are complete
+         */
+        private int descend(int level) {
+            for (; level < counts.length; level++) {
+                double mass = masses[level];
+                double rest = prefix[level];
+                int from = Math.max(min[level], (int) Math.ceil((lo - rest - restMax[level + 1]) / mass - EPSILON));
+                int to = (int) Math.min(max[level], Math.floor((hi - rest - restMin[level + 1]) / mass + EPSILON));
+                if (from > to) return level;
+
+                counts[level] = from;
+                ends[level] = to;
+                prefix[level + 1] = rest + from * mass;
+            }
+            return level;
+        }
+
+        /**
+         * Advances to the next complete counts.
+         *
+         * @return false if the search is exhausted
+         */
+        private boolean advance() {
+            int level = valid - 1;
+            while (true) {
+                while (level >= floor && counts[level] >= ends[level]) level--;
+                if (level < floor) {
+                    valid = floor;
+                    return false;
+                }
+
+                counts[level]++;
+                prefix[level + 1] = prefix[level] + counts[level] * masses[level];
+                int reached = descend(level + 1);
+                if (reached == counts.length) {
+                    valid = reached;
+                    pending = true;
+                    return true;
+                }
+                level = reached - 1;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Composition> action) {
+            while (pending) {
+                pending = false;
+                boolean accepted = accept();
+                if (accepted) action.accept(Composition.of(ids, counts, counts.length));
+                advance();
+                if (accepted) return true;
+            }
+            return false;
+        }
+
+        /** Checks the current counts against the mass window and the filters. */
+        private boolean accept() {
+            double mass = prefix[counts.length];
+            if (mass < lo || mass > hi) return false;
+
+            long atoms = 0;
+            long valenceSum = 0;
+            int maxValence = 0;
+            for (int i = 0; i < counts.length; i++) {
+                atoms += counts[i];
+                valenceSum += (long) counts[i] * valences[i];
+                if (counts[i] > 0) maxValence = Math.max(maxValence, valences[i]);
+            }
+            if (atoms == 0) return false;
+
+            double rdbe = 1 + (valenceSum - 2 * atoms) / 2.0;
+            if (rdbe < minRdbe || rdbe > maxRdbe) return false;
+
+            return !valenceRules || (valenceSum % 2 == 0 && valenceSum >= 2 * maxValence
+                    && valenceSum >= 2 * (atoms - 1));
+        }
+
+        @Override
+        public Spliterator<Composition> trySplit() {
+            // split off the upper half of the remaining counts of the shallowest level
+            for (int level = floor; level < valid; level++) {
+                int remaining = ends[level] - counts[level];
+                if (remaining >= 2 || (remaining == 1 && level < valid - 1)) {
+                    int mid = counts[level] + remaining / 2;
+                    Search split = new Search(this, level, mid + 1, ends[level]);
+                    ends[level] = mid;
+                    return split;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | IMMUTABLE | DISTINCT;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CompositionGenerator[");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(Composition.of(new int[] { ids[i] }, new int[] { 1 }, 1)).append(min[i]).append('-').append(max[i]);
+        }
+        return sb.append(", rdbe=").append(minRdbe).append('-').append(maxRdbe)
+                 .append(", valenceRules=").append(valenceRules).append(']').toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompositionGenerator other && Arrays.equals(ids, other.ids)
+                && Arrays.equals(min, other.min) && Arrays.equals(max, other.max)
+                && Double.compare(minRdbe, other.minRdbe) == 0 && Double.compare(maxRdbe, other.maxRdbe) == 0
+                && valenceRules == other.valenceRules;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(ids), Arrays.hashCode(min), Arrays.hashCode(max), minRdbe, maxRdbe,
+                valenceRules);
+    }
+}
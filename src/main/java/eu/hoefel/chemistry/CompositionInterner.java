@@ -0,0 +1,174 @@
+package eu.hoefel.chemistry;
+
+/**
+ * A concurrent interner for compositions, e.g. to deduplicate the formulas of
+ * large screening libraries: {@link #intern(Composition)} returns a canonical
+ * instance for all equal compositions, such that duplicates can be garbage
+ * collected.
+ * <p>
+ * The compositions are kept in open addressing tables together with their
+ * (precomputed) 64 bit hash, i.e. without an entry object per composition. The
+ * tables are striped by the hash: lookups of interned compositions do not lock,
+ * and inserts only lock their stripe. The interner holds its compositions
+ * strongly (weak references would cost more memory than most compositions), so
+ * it needs to be {@link #clear() cleared} or dropped to release them.
+ */
+public final class CompositionInterner {
+
+    /** The number of stripes, a power of 2. */
+    private static final int STRIPES = 16;
+
+    private static final int STRIPE_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(STRIPES);
+
+    /** The minimum capacity per stripe, a power of 2. */
+    private static final int MIN_CAPACITY = 16;
+
+    /** An open addressing table, at most half full. */
+    private static final class Table {
+        private final long[] hashes;
+        private final Composition[] values;
+
+        private Table(int capacity) {
+            hashes = new long[capacity];
+            values = new Composition[capacity];
+        }
+
+        /** Gets the slot of the equal composition, or of the free slot to insert it in. */
+        private int slot(Composition composition, long hash) {
+            int mask = values.length - 1;
+            for (int slot = (int) hash & mask;; slot = (slot + 1) & mask) {
+                Composition value = values[slot];
+                if (value == null || hashes[slot] == hash && value.equals(composition)) return slot;
+            }
+        }
+    }
+
+    /** A stripe, which is locked for inserts. */
+    private static final class Stripe {
+        private volatile Table table;
+        private int size;
+
+        private Stripe(int capacity) {
+            table = new Table(capacity);
+        }
+    }
+
+    private final int capacity;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /** Creates an empty interner. */
+    public CompositionInterner() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty interner for about the given number of distinct
+     * compositions.
+     *
+     * @param expectedSize the expected number of distinct compositions
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public CompositionInterner(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("The expected size cannot be negative: " + expectedSize);
+
+        int perStripe = (int) Math.min(1 << 29, 2L * expectedSize / STRIPES + 1);
+        capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(perStripe - 1) << 1);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * Gets the canonical instance of the given composition, i.e. the first
+     * interned composition equal to it.
+     *
+     * @param composition the composition, not {@code null}
+     * @return the canonical instance
+     * @throws NullPointerException if {@code composition} is {@code null}
+     */
+    public Composition intern(Composition composition) {
+        if (composition.isEmpty()) return Composition.EMPTY;
+
+        long hash = hash(composition);
+        Stripe stripe = stripes[(int) (hash >>> STRIPE_SHIFT)];
+
+        // without locking, an insert that is not (yet) visible just leads to the locked path
+        Table table = stripe.table;
+        Composition interned = table.values[table.slot(composition, hash)];
+        if (interned != null) return interned;
+
+        synchronized (stripe) {
+            table = stripe.table;
+            int slot = table.slot(composition, hash);
+            if (table.values[slot] != null) return table.values[slot];
+
+            table.hashes[slot] = hash;
+            table.values[slot] = composition;
+            if (++stripe.size * 2 > table.values.length) stripe.table = grow(table);
+            return composition;
+        }
+    }
+
+    /** Gets a table of twice the capacity with the entries of the given table. */
+    private static Table grow(Table table) {
+        Table grown = new Table(2 * table.values.length);
+        int mask = grown.values.length - 1;
+        for (int i = 0; i < table.values.length; i++) {
+            Composition value = table.values[i];
+            if (value == null) continue;
+
+            long hash = table.hashes[i];
+            int slot = (int) hash & mask;
+            while (grown.values[slot] != null) slot = (slot + 1) & mask;
+            grown.hashes[slot] = hash;
+            grown.values[slot] = value;
+        }
+        return grown;
+    }
+
+    /**
+     * Gets the 64 bit hash of the counts of the given composition.
+     *
+     * @param composition the composition
+     * @return the hash
+     */
+    static long hash(Composition composition) {
+        long hash = composition.size();
+        for (int i = 0; i < composition.size(); i++) {
+            hash = (hash ^ ((long) composition.id(i) << 32 | composition.count(i))) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 29;
+        }
+        hash = (hash ^ (hash >>> 32)) * 0xBF58476D1CE4E5B9L;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Gets the number of interned compositions.
+     *
+     * @return the number of distinct compositions
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /** Removes all interned compositions. */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.table = new Table(capacity);
+                stripe.size = 0;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompositionInterner[" + size() + " compositions]";
+    }
+}
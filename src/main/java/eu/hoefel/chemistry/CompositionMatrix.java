@@ -0,0 +1,258 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable dense matrix of compositions, i.e. the counts of N compositions
+ * (rows) for a common set of nuclides (columns), e.g. of a virtual screening
+ * library. The counts are stored column by column, such that the masses of all
+ * compositions are computed as one multiply-add of each column with its
+ * nuclide mass over all rows, which is a contiguous, vectorizable loop.
+ * <p>
+ * If the module {@code jdk.incubator.vector} is available (e.g. via
+ * {@code --add-modules jdk.incubator.vector}), the loops use the Vector API,
+ * otherwise they fall back to scalar loops (which the JIT may still
+ * auto-vectorize). The Vector API can be disabled by setting the system property
+ * {@value #VECTOR_PROPERTY} to {@code false}.
+ */
+public final class CompositionMatrix {
+
+    /** The system property that disables the Vector API if set to {@code false}. */
+    public static final String VECTOR_PROPERTY = "eu.hoefel.chemistry.vector";
+
+    /** The kernel using the Vector API, or null if it is not available or disabled. */
+    private static final MassKernel VECTOR_KERNEL = vectorKernel();
+
+    /** Whether the Vector API is used. */
+    static final boolean VECTORIZED = VECTOR_KERNEL != null;
+
+    private final int rows;
+
+    /** The dense ids of the columns, sorted increasingly, cf. {@link Nuclides}. */
+    private final int[] ids;
+
+    /** The counts, column-major. */
+    private final int[] counts;
+
+    private CompositionMatrix(int rows, int[] ids, int[] counts) {
+        this.rows = rows;
+        this.ids = ids;
+        this.counts = counts;
+    }
+
+    /**
+     * Creates the matrix of the given compounds, with a column for each nuclide
+     * occurring in any of them.
+     *
+     * @param compounds the compounds, not {@code null}
+     * @return the matrix
+     * @throws NullPointerException     if {@code compounds} is {@code null}
+     * @throws IllegalArgumentException if the composition of any compound is not
+     *                                  known
+     * @see Composition#of(ChemicalCompound)
+     */
+    public static CompositionMatrix of(List<? extends ChemicalCompound> compounds) {
+        Composition[] compositions = new Composition[compounds.size()];
+        boolean[] used = new boolean[Nuclides.SIZE];
+        for (int r = 0; r < compositions.length; r++) {
+            compositions[r] = Composition.of(compounds.get(r));
+            for (int i = 0; i < compositions[r].size(); i++) {
+                used[compositions[r].id(i)] = true;
+            }
+        }
+
+        int[] ids = new int[Nuclides.SIZE];
+        int[] columns = new int[Nuclides.SIZE];
+        int n = 0;
+        for (int id = 0; id < used.length; id++) {
+            if (!used[id]) continue;
+            columns[id] = n;
+            ids[n++] = id;
+        }
+
+        int rows = compositions.length;
+        int[] counts = new int[Math.multiplyExact(rows, n)];
+        for (int r = 0; r < rows; r++) {
+            Composition composition = compositions[r];
+            for (int i = 0; i < composition.size(); i++) {
+                counts[columns[composition.id(i)] * rows + r] = composition.count(i);
+            }
+        }
+        return new CompositionMatrix(rows, Arrays.copyOf(ids, n), counts);
+    }
+
+    /**
+     * Creates the matrix from the given counts.
+     *
+     * @param columns the nuclides of the columns, not {@code null}
+     * @param counts  the counts, row by row, i.e. the count of the nuclide j in
+     *                the composition i is at {@code i * columns.size() + j}, not
+     *                {@code null}
+     * @return the matrix
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if the columns contain duplicates, the
+     *                                  length of the counts is not a multiple of
+     *                                  the number of columns or any count is
+     *                                  negative
+     */
+    public static CompositionMatrix of(List<? extends Nuclide> columns, int[] counts) {
+        int n = columns.size();
+        if (n == 0 ? counts.length != 0 : counts.length % n != 0) {
+            throw new IllegalArgumentException("The number of counts (%d) is not a multiple of the number of columns (%d)"
+                    .formatted(counts.length, n));
+        }
+
+        // sort the columns by id
+        int[] ids = new int[n];
+        for (int j = 0; j < n; j++) {
+            ids[j] = Nuclides.id(columns.get(j));
+        }
+        int[] order = Sorting.order(Arrays.stream(ids).asDoubleStream().toArray());
+        int[] sortedIds = new int[n];
+        for (int j = 0; j < n; j++) {
+            sortedIds[j] = ids[order[j]];
+            if (j > 0 && sortedIds[j] == sortedIds[j - 1]) {
+                throw new IllegalArgumentException("Duplicate column " + Nuclides.nuclide(sortedIds[j]));
+            }
+        }
+
+        int rows = n == 0 ? 0 : counts.length / n;
+        int[] transposed = new int[counts.length];
+        for (int j = 0; j < n; j++) {
+            int column = order[j];
+            for (int r = 0; r < rows; r++) {
+                int count = counts[r * n + column];
+                if (count < 0) throw new IllegalArgumentException("Negative count in row %d: %d".formatted(r, count));
+                transposed[j * rows + r] = count;
+            }
+        }
+        return new CompositionMatrix(rows, sortedIds, transposed);
+    }
+
+    /**
+     * Gets the number of compositions.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of nuclides.
+     *
+     * @return the number of columns
+     */
+    public int columns() {
+        return ids.length;
+    }
+
+    /**
+     * Gets the nuclide of the given column, in the order of increasing atomic
+     * number.
+     *
+     * @param column the column, from 0 to {@link #columns()} (exclusive)
+     * @return the nuclide
+     */
+    public Nuclide nuclide(int column) {
+        return Nuclides.nuclide(ids[column]);
+    }
+
+    /**
+     * Gets the number of atoms of the nuclide of the column in the composition of
+     * the row.
+     *
+     * @param row    the row, from 0 to {@link #rows()} (exclusive)
+     * @param column the column, from 0 to {@link #columns()} (exclusive)
+     * @return the number of atoms
+     */
+    public int count(int row, int column) {
+        Objects.checkIndex(row, rows);
+        return counts[column * rows + row];
+    }
+
+    /**
+     * Gets the composition of the given row.
+     *
+     * @param row the row, from 0 to {@link #rows()} (exclusive)
+     * @return the composition
+     */
+    public Composition composition(int row) {
+        Objects.checkIndex(row, rows);
+        int[] rowCounts = new int[ids.length];
+        for (int j = 0; j < ids.length; j++) {
+            rowCounts[j] = counts[j * rows + row];
+        }
+        return Composition.of(ids, rowCounts, ids.length);
+    }
+
+    /**
+     * Calculates the masses of all compositions.
+     *
+     * @param mode   the mass mode, not {@code null}
+     * @param masses the array to store the masses in, at least {@link #rows()}
+     *               long
+     * @throws NullPointerException      if any argument is {@code null}
+     * @throws IndexOutOfBoundsException if {@code masses} is too short
+     */
+    public void masses(MassMode mode, double[] masses) {
+        masses(mode, masses, VECTORIZED);
+    }
+
+    /**
+     * Calculates the masses of all compositions.
+     *
+     * @param mode       the mass mode
+     * @param masses     the array to store the masses in
+     * @param vectorized whether to use the Vector API, only if
+     *                   {@link #VECTORIZED}
+     */
+    void masses(MassMode mode, double[] masses, boolean vectorized) {
+        Objects.requireNonNull(mode);
+        Objects.checkFromIndexSize(0, rows, masses.length);
+        if (ids.length == 0) {
+            Arrays.fill(masses, 0, rows, 0);
+            return;
+        }
+
+        for (int j = 0; j < ids.length; j++) {
+            double mass = mode.mass(ids[j]);
+            int offset = j * rows;
+            if (vectorized) {
+                VECTOR_KERNEL.multiply(counts, offset, mass, masses, rows, j > 0);
+            } else if (j == 0) {
+                for (int r = 0; r < rows; r++) {
+                    masses[r] = counts[offset + r] * mass;
+                }
+            } else {
+                for (int r = 0; r < rows; r++) {
+                    masses[r] += counts[offset + r] * mass;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the kernel using the Vector API, which is compiled separately from
+     * the rest of the module and hence needs the module to read
+     * {@code jdk.incubator.vector} at runtime.
+     *
+     * @return the kernel, or null if the Vector API is not available or disabled
+     */
+    private static MassKernel vectorKernel() {
+        if ("false".equals(System.getProperty(VECTOR_PROPERTY))) return null;
+
+        Optional<Module> vector = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vector.isEmpty()) return null;
+
+        CompositionMatrix.class.getModule().addReads(vector.get());
+        try {
+            return (MassKernel) Class.forName("eu.hoefel.chemistry.VectorKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+/**
+ * An immutable query on the elements of compositions, e.g. "contains Cl and Br,
+ * no metals and at most 20 C":
+ *
+ * <pre>
+ * CompositionQuery.ALL.containing(Element.Cl, Element.Br)
+ *                     .excluding(element -&gt; element.category().isMetal())
+ *                     .withCount(Element.C, 0, 20);
+ * </pre>
+ *
+ * Isotopes count as their element. The required and excluded elements are
+ * checked via bitwise operations on the precomputed presence masks of the
+ * compositions, and only compositions passing these are checked for the count
+ * bounds. Large collections are {@link #filter(Collection) filtered} in
+ * parallel.
+ */
+public final class CompositionQuery implements Predicate<Composition> {
+
+    /** The query matching all compositions. */
+    public static final CompositionQuery ALL = new CompositionQuery(0, 0, 0, 0, new Element[0], new int[0], new int[0]);
+
+    private static final Element[] elements = Element.values();
+
+    /** The required elements, cf. {@link Composition#presence(int)}. */
+    private final long required0;
+    private final long required1;
+
+    /** The excluded elements, cf. {@link Composition#presence(int)}. */
+    private final long excluded0;
+    private final long excluded1;
+
+    /** The elements with count bounds, and their (inclusive) bounds. */
+    private final Element[] bounded;
+    private final int[] min;
+    private final int[] max;
+
+    private CompositionQuery(long required0, long required1, long excluded0, long excluded1, Element[] bounded,
+            int[] min, int[] max) {
+        this.required0 = required0;
+        this.required1 = required1;
+        this.excluded0 = excluded0;
+        this.excluded1 = excluded1;
+        this.bounded = bounded;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Gets a query that additionally requires the given elements.
+     *
+     * @param elements the required elements, not {@code null}
+     * @return the query
+     * @throws NullPointerException     if any element is {@code null}
+     * @throws IllegalArgumentException if any element is excluded
+     */
+    public CompositionQuery containing(Element... elements) {
+        long mask0 = required0;
+        long mask1 = required1;
+        for (Element element : elements) {
+            int ordinal = element.ordinal();
+            if (ordinal < Long.SIZE) {
+                mask0 |= 1L << ordinal;
+            } else {
+                mask1 |= 1L << ordinal;
+            }
+        }
+        return of(mask0, mask1, excluded0, excluded1, bounded, min, max);
+    }
+
+    /**
+     * Gets a query that additionally excludes the given elements.
+     *
+     * @param elements the excluded elements, not {@code null}
+     * @return the query
+     * @throws NullPointerException     if any element is {@code null}
+     * @throws IllegalArgumentException if any element is required
+     */
+    public CompositionQuery excluding(Element... elements) {
+        List<Element> excluded = Arrays.asList(elements);
+        return excluding(excluded::contains);
+    }
+
+    /**
+     * Gets a query that additionally excludes the elements matching the given
+     * predicate, e.g. all metals via
+     * {@code element -> element.category().isMetal()}.
+     *
+     * @param predicate the predicate of the excluded elements, not {@code null}
+     * @return the query
+     * @throws NullPointerException     if {@code predicate} is {@code null}
+     * @throws IllegalArgumentException if any matching element is required
+     */
+    public CompositionQuery excluding(Predicate<? super Element> predicate) {
+        long mask0 = excluded0;
+        long mask1 = excluded1;
+        for (Element element : elements) {
+            if (!predicate.test(element)) continue;
+
+            int ordinal = element.ordinal();
+            if (ordinal < Long.SIZE) {
+                mask0 |= 1L << ordinal;
+            } else {
+                mask1 |= 1L << ordinal;
+            }
+        }
+        return of(required0, required1, mask0, mask1, bounded, min, max);
+    }
+
+    /**
+     * Gets a query that additionally bounds the number of atoms of the given
+     * element (including its isotopes), replacing previous bounds of the element.
+     *
+     * @param element the element, not {@code null}
+     * @param min     the minimum number of atoms (inclusive)
+     * @param max     the maximum number of atoms (inclusive)
+     * @return the query
+     * @throws NullPointerException     if {@code element} is {@code null}
+     * @throws IllegalArgumentException if the bounds are invalid
+     */
+    public CompositionQuery withCount(Element element, int min, int max) {
+        if (min < 0 || min > max) throw new IllegalArgumentException("Invalid bounds %d-%d".formatted(min, max));
+
+        int i = Arrays.asList(bounded).indexOf(Objects.requireNonNull(element));
+        Element[] newBounded = i < 0 ? Arrays.copyOf(bounded, bounded.length + 1) : bounded.clone();
+        int[] newMin = Arrays.copyOf(this.min, newBounded.length);
+        int[] newMax = Arrays.copyOf(this.max, newBounded.length);
+        if (i < 0) i = bounded.length;
+        newBounded[i] = element;
+        newMin[i] = min;
+        newMax[i] = max;
+
+        return new CompositionQuery(required0, required1, excluded0, excluded1, newBounded, newMin, newMax);
+    }
+
+    private static CompositionQuery of(long required0, long required1, long excluded0, long excluded1,
+            Element[] bounded, int[] min, int[] max) {
+        if ((required0 & excluded0) != 0 || (required1 & excluded1) != 0) {
+            throw new IllegalArgumentException("The elements %s are both required and excluded"
+                    .formatted(elements(required0 & excluded0, required1 & excluded1)));
+        }
+        return new CompositionQuery(required0, required1, excluded0, excluded1, bounded, min, max);
+    }
+
+    /**
+     * Checks whether the composition matches the query.
+     *
+     * @param composition the composition, not {@code null}
+     * @return true if the composition matches
+     * @throws NullPointerException if {@code composition} is {@code null}
+     */
+    @Override
+    public boolean test(Composition composition) {
+        long presence0 = composition.presence(0);
+        long presence1 = composition.presence(1);
+        if ((presence0 & required0) != required0 || (presence1 & required1) != required1
+                || (presence0 & excluded0) != 0 || (presence1 & excluded1) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < bounded.length; i++) {
+            int atoms = composition.atoms(bounded[i]);
+            if (atoms < min[i] || atoms > max[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the compositions matching the query, in parallel.
+     *
+     * @param compositions the compositions, not {@code null}
+     * @return the (unmodifiable) matching compositions, in the order of the
+     *         collection
+     * @throws NullPointerException if {@code compositions} or any of its elements
+     *                              is {@code null}
+     */
+    public List<Composition> filter(Collection<? extends Composition> compositions) {
+        return compositions.parallelStream().<Composition>map(c -> c).filter(this).toList();
+    }
+
+    /**
+     * Counts the compositions matching the query, in parallel.
+     *
+     * @param compositions the compositions, not {@code null}
+     * @return the number of matching compositions
+     * @throws NullPointerException if {@code compositions} or any of its elements
+     *                              is {@code null}
+     */
+    public long count(Collection<? extends Composition> compositions) {
+        return compositions.parallelStream().filter(this).count();
+    }
+
+    /** Gets the elements of the given masks. */
+    private static List<Element> elements(long mask0, long mask1) {
+        List<Element> list = new ArrayList<>();
+        for (Element element : elements) {
+            int ordinal = element.ordinal();
+            if (((ordinal < Long.SIZE ? mask0 : mask1) & 1L << ordinal) != 0) list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompositionQuery other && required0 == other.required0 && required1 == other.required1
+                && excluded0 == other.excluded0 && excluded1 == other.excluded1
+                && Arrays.equals(bounded, other.bounded) && Arrays.equals(min, other.min)
+                && Arrays.equals(max, other.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(required0, required1, excluded0, excluded1, Arrays.hashCode(bounded),
+                Arrays.hashCode(min), Arrays.hashCode(max));
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "CompositionQuery[", "]");
+        joiner.add("containing " + elements(required0, required1));
+        joiner.add("excluding " + elements(excluded0, excluded1));
+        for (int i = 0; i < bounded.length; i++) {
+            joiner.add("%s %d-%d".formatted(bounded[i], min[i], max[i]));
+        }
+        return joiner.toString();
+    }
+}
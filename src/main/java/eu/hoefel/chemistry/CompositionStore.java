@@ -0,0 +1,502 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * An append-only columnar store of compositions outside of the Java heap, for
+ * up to billions of compositions. Each composition is a fixed-width row of
+ * unsigned 16 bit counts, one per nuclide column, i.e. a row takes 2 bytes per
+ * column and no objects are created for appending, accessing, computing masses
+ * or filtering, unless explicitly requested via {@link #composition(long)}.
+ * <p>
+ * The rows are kept in chunks of direct byte buffers (of at most
+ * {@value #CHUNK_BYTES} bytes) or, if created via {@link #create(Path, List)}
+ * or {@link #open(Path)}, of buffers mapped from a file, so stores larger than
+ * the heap (or the physical memory) can be queried. The file starts with a
+ * header of {@value #HEADER_SIZE} bytes holding the columns and the number of
+ * rows, which is updated on {@link #flush()} and {@link #close()}.
+ * <p>
+ * Appending is not thread-safe, but rows that have been appended may be read
+ * concurrently, e.g. via a {@link LongStream#parallel() parallel}
+ * {@link #filter(MassMode, double, double) filter}.
+ */
+public final class CompositionStore implements AutoCloseable {
+
+    /** The maximum number of atoms of a nuclide in a composition. */
+    public static final int MAX_COUNT = (1 << 16) - 1;
+
+    /** The (maximum) size of a chunk in bytes. */
+    static final int CHUNK_BYTES = 1 << 24;
+
+    /** The size of the file header in bytes. */
+    static final int HEADER_SIZE = 4096;
+
+    private static final int MAGIC = 0x43535452;
+    private static final int VERSION = 1;
+
+    /** The offset of the number of rows in the header. */
+    private static final int SIZE_OFFSET = 8;
+
+    /** The offset of the length of the columns formula in the header. */
+    private static final int COLUMNS_OFFSET = 16;
+
+    /** The dense ids of the columns, sorted increasingly, cf. {@link Nuclides}. */
+    private final int[] ids;
+
+    /** The column of each dense id, or -1. */
+    private final int[] columns;
+
+    /** The masses of the columns per mass mode, i.e. at {@code mode.ordinal() * columns + column}. */
+    private final double[] masses;
+
+    private final int rowBytes;
+    private final int chunkShift;
+    private final long chunkMask;
+
+    /** The file channel, or {@code null} if not backed by a file. */
+    private final FileChannel channel;
+
+    private ByteBuffer[] chunks = new ByteBuffer[16];
+    private long size;
+    private boolean closed;
+
+    private CompositionStore(int[] ids, FileChannel channel, long size) {
+        this.ids = ids;
+        this.channel = channel;
+        this.size = size;
+
+        columns = new int[Nuclides.SIZE];
+        Arrays.fill(columns, -1);
+        MassMode[] modes = MassMode.values();
+        masses = new double[modes.length * ids.length];
+        for (int c = 0; c < ids.length; c++) {
+            columns[ids[c]] = c;
+            for (MassMode mode : modes) {
+                masses[mode.ordinal() * ids.length + c] = mode.mass(ids[c]);
+            }
+        }
+
+        rowBytes = Math.max(1, 2 * ids.length);
+        chunkShift = 31 - Integer.numberOfLeadingZeros(CHUNK_BYTES / rowBytes);
+        chunkMask = (1L << chunkShift) - 1;
+    }
+
+    /**
+     * Creates an empty store in direct (off-heap) memory.
+     *
+     * @param columns the nuclides of the columns, not {@code null}
+     * @return the store
+     * @throws NullPointerException     if {@code columns} is {@code null}
+     * @throws IllegalArgumentException if the columns contain duplicates
+     */
+    public static CompositionStore allocate(List<? extends Nuclide> columns) {
+        return new CompositionStore(ids(columns), null, 0);
+    }
+
+    /**
+     * Creates an empty store backed by the given file, which is replaced if it
+     * exists.
+     *
+     * @param file    the file, not {@code null}
+     * @param columns the nuclides of the columns, not {@code null}
+     * @return the store
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if the columns contain duplicates or are
+     *                                  too many
+     * @throws UncheckedIOException     if the file cannot be created
+     */
+    public static CompositionStore create(Path file, List<? extends Nuclide> columns) {
+        int[] ids = ids(columns);
+        byte[] formula = formula(ids).getBytes(StandardCharsets.UTF_8);
+        if (COLUMNS_OFFSET + 4 + formula.length > HEADER_SIZE) {
+            throw new IllegalArgumentException("Too many columns: " + columns.size());
+        }
+
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(0).putInt(formula.length).put(formula).clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return new CompositionStore(ids, channel, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the composition store " + file, e);
+        }
+    }
+
+    /**
+     * Opens the store in the given file, as created via
+     * {@link #create(Path, List)}.
+     *
+     * @param file the file, not {@code null}
+     * @return the store
+     * @throws NullPointerException     if {@code file} is {@code null}
+     * @throws IllegalArgumentException if the file is not a composition store
+     * @throws UncheckedIOException     if the file cannot be read
+     */
+    public static CompositionStore open(Path file) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // read the whole header
+            }
+            header.flip();
+            if (header.remaining() < COLUMNS_OFFSET + 4 || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Not a composition store: " + file);
+            }
+
+            long size = header.getLong(SIZE_OFFSET);
+            int length = header.getInt(COLUMNS_OFFSET);
+            if (length < 0 || COLUMNS_OFFSET + 4 + length > header.limit() || size < 0) {
+                throw new IllegalArgumentException("Corrupt composition store: " + file);
+            }
+            byte[] formula = new byte[length];
+            header.get(COLUMNS_OFFSET + 4, formula);
+            Composition composition = Composition.parse(new String(formula, StandardCharsets.UTF_8));
+            int[] ids = new int[composition.size()];
+            for (int c = 0; c < ids.length; c++) {
+                ids[c] = composition.id(c);
+            }
+
+            CompositionStore store = new CompositionStore(ids, channel, size);
+            if (size > 0) store.chunk(size - 1);
+            return store;
+        } catch (IOException e) {
+            close(channel);
+            throw new UncheckedIOException("Cannot open the composition store " + file, e);
+        } catch (RuntimeException e) {
+            close(channel);
+            throw e;
+        }
+    }
+
+    private static void close(FileChannel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing else to do
+        }
+    }
+
+    /** Gets the sorted dense ids of the given columns. */
+    private static int[] ids(List<? extends Nuclide> columns) {
+        int[] ids = new int[columns.size()];
+        for (int c = 0; c < ids.length; c++) {
+            ids[c] = Nuclides.id(columns.get(c));
+        }
+        Arrays.sort(ids);
+        for (int c = 1; c < ids.length; c++) {
+            if (ids[c] == ids[c - 1]) {
+                throw new IllegalArgumentException("Duplicate column " + Nuclides.nuclide(ids[c]));
+            }
+        }
+        return ids;
+    }
+
+    /** Gets the formula with one atom per column. */
+    private static String formula(int[] ids) {
+        int[] ones = new int[ids.length];
+        Arrays.fill(ones, 1);
+        return Composition.of(ids, ones, ids.length).toString();
+    }
+
+    /**
+     * Gets the chunk holding the given row, allocating or mapping it (and all
+     * chunks before it) if necessary.
+     */
+    private ByteBuffer chunk(long row) {
+        int chunk = Math.toIntExact(row >>> chunkShift);
+        if (chunk >= chunks.length) chunks = Arrays.copyOf(chunks, Math.max(2 * chunks.length, chunk + 1));
+        for (int i = chunk; i >= 0 && chunks[i] == null; i--) {
+            chunks[i] = newChunk(i);
+        }
+        return chunks[chunk];
+    }
+
+    private ByteBuffer newChunk(int chunk) {
+        int bytes = (int) ((chunkMask + 1) * rowBytes);
+        if (channel == null) return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            long offset = HEADER_SIZE + (long) chunk * bytes;
+            return channel.map(FileChannel.MapMode.READ_WRITE, offset, bytes).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map chunk " + chunk + " of the composition store", e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("The composition store is closed");
+    }
+
+    /**
+     * Appends the given composition.
+     *
+     * @param composition the composition, not {@code null}
+     * @return the row of the composition
+     * @throws NullPointerException     if {@code composition} is {@code null}
+     * @throws IllegalArgumentException if the composition contains a nuclide
+     *                                  that is not a column or more than
+     *                                  {@value #MAX_COUNT} atoms of a nuclide
+     * @throws IllegalStateException    if the store is closed
+     */
+    public long append(Composition composition) {
+        ensureOpen();
+        for (int i = 0; i < composition.size(); i++) {
+            if (columns[composition.id(i)] < 0) {
+                throw new IllegalArgumentException("%s is not a column of %s".formatted(composition.nuclide(i), this));
+            }
+            checkCount(composition.count(i));
+        }
+
+        ByteBuffer chunk = chunk(size);
+        int offset = (int) (size & chunkMask) * rowBytes;
+        for (int c = 0; c < ids.length; c++) {
+            chunk.putChar(offset + 2 * c, (char) 0);
+        }
+        for (int i = 0; i < composition.size(); i++) {
+            chunk.putChar(offset + 2 * columns[composition.id(i)], (char) composition.count(i));
+        }
+        return size++;
+    }
+
+    /**
+     * Appends the composition with the given counts.
+     *
+     * @param counts the counts in the order of the columns, cf.
+     *               {@link #nuclide(int)}, at least {@link #columns()} long, not
+     *               {@code null}
+     * @return the row of the composition
+     * @throws NullPointerException      if {@code counts} is {@code null}
+     * @throws IllegalArgumentException  if any count is negative or larger than
+     *                                   {@value #MAX_COUNT}
+     * @throws IndexOutOfBoundsException if {@code counts} is too short
+     * @throws IllegalStateException     if the store is closed
+     */
+    public long append(int[] counts) {
+        ensureOpen();
+        Objects.checkFromIndexSize(0, ids.length, counts.length);
+        for (int c = 0; c < ids.length; c++) {
+            checkCount(counts[c]);
+        }
+
+        ByteBuffer chunk = chunk(size);
+        int offset = (int) (size & chunkMask) * rowBytes;
+        for (int c = 0; c < ids.length; c++) {
+            chunk.putChar(offset + 2 * c, (char) counts[c]);
+        }
+        return size++;
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("The count needs to be within [0, %d], but was %d"
+                    .formatted(MAX_COUNT, count));
+        }
+    }
+
+    /**
+     * Gets the number of compositions.
+     *
+     * @return the number of rows
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of nuclides.
+     *
+     * @return the number of columns
+     */
+    public int columns() {
+        return ids.length;
+    }
+
+    /**
+     * Gets the nuclide of the given column, in the order of increasing atomic
+     * number.
+     *
+     * @param column the column, from 0 to {@link #columns()} (exclusive)
+     * @return the nuclide
+     */
+    public Nuclide nuclide(int column) {
+        return Nuclides.nuclide(ids[column]);
+    }
+
+    /**
+     * Gets the number of atoms of the nuclide of the column in the composition of
+     * the row.
+     *
+     * @param row    the row, from 0 to {@link #size()} (exclusive)
+     * @param column the column, from 0 to {@link #columns()} (exclusive)
+     * @return the number of atoms
+     * @throws IllegalStateException if the store is closed
+     */
+    public int count(long row, int column) {
+        ensureOpen();
+        Objects.checkIndex(row, size);
+        Objects.checkIndex(column, ids.length);
+        return chunks[(int) (row >>> chunkShift)].getChar((int) (row & chunkMask) * rowBytes + 2 * column);
+    }
+
+    /**
+     * Gets the composition of the given row.
+     *
+     * @param row the row, from 0 to {@link #size()} (exclusive)
+     * @return the composition
+     * @throws IllegalStateException if the store is closed
+     */
+    public Composition composition(long row) {
+        ensureOpen();
+        Objects.checkIndex(row, size);
+        ByteBuffer chunk = chunks[(int) (row >>> chunkShift)];
+        int offset = (int) (row & chunkMask) * rowBytes;
+        int[] counts = new int[ids.length];
+        for (int c = 0; c < ids.length; c++) {
+            counts[c] = chunk.getChar(offset + 2 * c);
+        }
+        return Composition.of(ids, counts, ids.length);
+    }
+
+    /**
+     * Gets the mass of the composition of the given row.
+     *
+     * @param row  the row, from 0 to {@link #size()} (exclusive)
+     * @param mode the mass mode, not {@code null}
+     * @return the mass
+     * @throws NullPointerException  if {@code mode} is {@code null}
+     * @throws IllegalStateException if the store is closed
+     */
+    public double mass(long row, MassMode mode) {
+        ensureOpen();
+        Objects.checkIndex(row, size);
+        return mass(chunks[(int) (row >>> chunkShift)], (int) (row & chunkMask) * rowBytes, mode.ordinal() * ids.length);
+    }
+
+    private double mass(ByteBuffer chunk, int offset, int from) {
+        double mass = 0;
+        for (int c = 0; c < ids.length; c++) {
+            mass += chunk.getChar(offset + 2 * c) * masses[from + c];
+        }
+        return mass;
+    }
+
+    /**
+     * Calculates the masses of consecutive compositions.
+     *
+     * @param mode   the mass mode, not {@code null}
+     * @param from   the first row
+     * @param masses the array to store the masses of the rows from {@code from}
+     *               to {@code from + masses.length} (exclusive) in, not
+     *               {@code null}
+     * @throws NullPointerException      if any argument is {@code null}
+     * @throws IndexOutOfBoundsException if the rows are out of bounds
+     * @throws IllegalStateException     if the store is closed
+     */
+    public void masses(MassMode mode, long from, double[] masses) {
+        ensureOpen();
+        Objects.checkFromIndexSize(from, masses.length, size);
+        int modeOffset = mode.ordinal() * ids.length;
+        int i = 0;
+        while (i < masses.length) {
+            long row = from + i;
+            ByteBuffer chunk = chunks[(int) (row >>> chunkShift)];
+            int start = (int) (row & chunkMask);
+            int n = (int) Math.min(masses.length - i, chunkMask + 1 - start);
+            for (int j = 0; j < n; j++) {
+                masses[i + j] = mass(chunk, (start + j) * rowBytes, modeOffset);
+            }
+            i += n;
+        }
+    }
+
+    /**
+     * Gets the rows of the compositions with masses within the given range. The
+     * rows are computed lazily from the rows present at the time of the call,
+     * and the stream may be {@link LongStream#parallel() parallelized}.
+     *
+     * @param mode the mass mode, not {@code null}
+     * @param min  the minimum mass (inclusive)
+     * @param max  the maximum mass (inclusive)
+     * @return the matching rows, in increasing order
+     * @throws NullPointerException  if {@code mode} is {@code null}
+     * @throws IllegalStateException if the store is closed
+     */
+    public LongStream filter(MassMode mode, double min, double max) {
+        ensureOpen();
+        int modeOffset = mode.ordinal() * ids.length;
+        ByteBuffer[] buffers = chunks;
+        return LongStream.range(0, size).filter(row -> {
+            double mass = mass(buffers[(int) (row >>> chunkShift)], (int) (row & chunkMask) * rowBytes, modeOffset);
+            return mass >= min && mass <= max;
+        });
+    }
+
+    /**
+     * Writes the rows and the number of rows to the file, if the store is backed
+     * by a file.
+     *
+     * @throws UncheckedIOException  if the file cannot be written
+     * @throws IllegalStateException if the store is closed
+     */
+    public void flush() {
+        ensureOpen();
+        if (channel == null) return;
+
+        for (ByteBuffer chunk : chunks) {
+            if (chunk != null) ((MappedByteBuffer) chunk).force();
+        }
+        ByteBuffer header = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, size);
+        try {
+            while (header.hasRemaining()) {
+                channel.write(header, SIZE_OFFSET + header.position());
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the composition store", e);
+        }
+    }
+
+    /**
+     * Closes the store, after {@link #flush() flushing} it. The memory is
+     * released once the store is no longer reachable.
+     *
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        try {
+            flush();
+            if (channel != null) channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close the composition store", e);
+        } finally {
+            closed = true;
+            chunks = new ByteBuffer[0];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompositionStore[" + formula(ids) + ", " + size + " rows]";
+    }
+}
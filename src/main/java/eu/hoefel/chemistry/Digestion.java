@@ -0,0 +1,93 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An in-silico digestion of proteins by a protease. The peptides are all
+ * sequences between two cleavage positions with at most the given number of
+ * missed cleavages in between, and with a length within the given bounds.
+ *
+ * @param protease         the protease
+ * @param missedCleavages  the maximum number of missed cleavages
+ * @param minLength        the minimum length of the peptides
+ * @param maxLength        the maximum length of the peptides
+ * @see PeptideIndex
+ */
+public record Digestion(Protease protease, int missedCleavages, int minLength, int maxLength) {
+
+    /**
+     * Creates the digestion.
+     *
+     * @param protease        the protease, not {@code null}
+     * @param missedCleavages the maximum number of missed cleavages, not negative
+     * @param minLength       the minimum length of the peptides, positive
+     * @param maxLength       the maximum length of the peptides, at least
+     *                        {@code minLength} and at most
+     *                        {@link Short#MAX_VALUE}
+     * @throws NullPointerException     if {@code protease} is {@code null}
+     * @throws IllegalArgumentException if any of the bounds is invalid
+     */
+    public Digestion {
+        Objects.requireNonNull(protease);
+        if (missedCleavages < 0) {
+            throw new IllegalArgumentException("The number of missed cleavages cannot be negative, but was "
+                    + missedCleavages);
+        }
+        if (minLength < 1 || maxLength < minLength || maxLength > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid peptide lengths from %d to %d".formatted(minLength, maxLength));
+        }
+    }
+
+    /**
+     * Creates the usual digestion by the given protease, with up to 2 missed
+     * cleavages and peptides of 7 to 50 residues.
+     *
+     * @param protease the protease, not {@code null}
+     * @return the digestion
+     * @throws NullPointerException if {@code protease} is {@code null}
+     */
+    public static Digestion of(Protease protease) {
+        return new Digestion(protease, 2, 7, 50);
+    }
+
+    /**
+     * Digests the given protein.
+     *
+     * @param protein the protein sequence, not {@code null}
+     * @return the peptides, in order of their positions in the protein
+     * @throws NullPointerException if {@code protein} is {@code null}
+     */
+    public List<String> digest(CharSequence protein) {
+        int[] sites = protease.sites(protein);
+        List<String> peptides = new ArrayList<>();
+        forEach(sites, sites.length, (start, end) -> peptides.add(protein.subSequence(start, end).toString()));
+        return peptides;
+    }
+
+    /** Receives the bounds of a peptide. */
+    @FunctionalInterface
+    interface PeptideConsumer {
+        void accept(int start, int end);
+    }
+
+    /**
+     * Passes the bounds of all peptides between the given cleavage positions to
+     * the consumer.
+     *
+     * @param sites    the cleavage positions, sorted increasingly
+     * @param count    the number of cleavage positions
+     * @param consumer the consumer of the peptide bounds
+     */
+    void forEach(int[] sites, int count, PeptideConsumer consumer) {
+        for (int i = 0; i < count - 1; i++) {
+            int last = Math.min(i + 1 + missedCleavages, count - 1);
+            for (int j = i + 1; j <= last; j++) {
+                int length = sites[j] - sites[i];
+                if (length > maxLength) break;
+                if (length >= minLength) consumer.accept(sites[i], sites[j]);
+            }
+        }
+    }
+}
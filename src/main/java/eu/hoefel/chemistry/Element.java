@@ -1242,6 +1242,16 @@ public enum Element implements Nuclide {
         return isotopes;
     }
 
+    /**
+     * Gets the natural isotopic composition, i.e. the naturally occurring isotopes
+     * sorted by decreasing abundance.
+     * 
+     * @return the natural isotopic composition
+     */
+    public IsotopicComposition isotopicComposition() {
+        return IsotopicComposition.of(this);
+    }
+
     @Override public Element element() { return this; }
     @Override public boolean isIsotope() { return false; }
     @Override public Set<Nuclide> nuclides() { return Set.of(this); }
@@ -0,0 +1,21 @@
+package eu.hoefel.chemistry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event emitted for each chemical formula that gets parsed. */
+@Name("eu.hoefel.chemistry.FormulaParse")
+@Label("Formula Parse")
+@Category("Chemistry")
+@Description("The parsing of a chemical formula into its components")
+final class FormulaParseEvent extends Event {
+
+    @Label("Formula")
+    String formula;
+
+    @Label("Components")
+    int components;
+}
@@ -0,0 +1,370 @@
+package eu.hoefel.chemistry;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+/**
+ * The natural abundance correction for stable isotope tracing experiments. For
+ * a metabolite with n atoms of the traced element, whose label shifts the
+ * nominal mass by s Da, the measured abundances of the isotopologues M+0 to
+ * M+ns are
+ * <p>
+ * m = C&middot;x,
+ * <p>
+ * where x is the (wanted) distribution of the label states, i.e. of the
+ * number of labelled positions, and the column k of the correction matrix C is
+ * the isotopologue distribution of the metabolite with k labelled positions,
+ * due to the natural abundances of all other atoms and the impurity of the
+ * tracer. For s = 1, e.g. for {@link Label#C13}, the matrix is square and
+ * factorized once (LU decomposition with partial pivoting), so each correction
+ * takes O(n<sup>2</sup>) operations and does not allocate (unless corrected in
+ * place). For s &gt; 1, e.g. for {@link Label#O18}, the matrix has more rows
+ * than columns, and x is the least squares solution, via the (once factorized)
+ * normal equations C<sup>T</sup>C&middot;x = C<sup>T</sup>m.
+ * <p>
+ * Corrections are cached per composition and tracer, in a cache of at most
+ * {@value #CACHE_SIZE} entries.
+ */
+public final class IsotopeCorrection {
+
+    /** The name of the correction cache, as used in the {@link ChemistryMetrics}. */
+    static final String CACHE_NAME = "correction";
+
+    /** The maximum number of cached corrections. */
+    static final int CACHE_SIZE = 1024;
+
+    private record Key(Composition composition, Label tracer) {}
+
+    private static final ConcurrentMap<Key, IsotopeCorrection> cache = new ConcurrentHashMap<>();
+
+    static {
+        ChemistryMetrics.registerCache(CACHE_NAME, cache::size);
+    }
+
+    private final Composition composition;
+    private final Label tracer;
+
+    /** The number of label states, i.e. of columns. */
+    private final int size;
+
+    /** The number of isotopologues, i.e. of rows. */
+    private final int isotopologues;
+
+    /** The correction matrix, row-major. */
+    private final double[] matrix;
+
+    /**
+     * The LU decomposition of the row permuted matrix (or, if it is not square,
+     * of the matrix of the normal equations), row-major.
+     */
+    private final double[] lu;
+
+    /** The row permutation. */
+    private final int[] permutation;
+
+    private IsotopeCorrection(Composition composition, Label tracer) {
+        this.composition = composition;
+        this.tracer = tracer;
+        int shift = (int) Math.round(tracer.massShift(MassMode.NOMINAL));
+        if (shift < 1) {
+            throw new IllegalArgumentException("Cannot correct for %s, as it does not increase the nominal mass"
+                    .formatted(tracer));
+        }
+        int atoms = composition.count(tracer.element());
+        size = atoms + 1;
+        isotopologues = Math.addExact(Math.multiplyExact(atoms, shift), 1);
+
+        // column k is the distribution of the state with k labelled positions
+        double[][] abundances = IsotopePatternCalculator.COARSE.labelledAbundances(composition, tracer, isotopologues);
+        matrix = new double[isotopologues * size];
+        for (int k = 0; k < size; k++) {
+            for (int i = 0; i < isotopologues; i++) {
+                matrix[i * size + k] = abundances[k][i];
+            }
+        }
+
+        if (isotopologues == size) {
+            lu = matrix.clone();
+        } else {
+            lu = new double[size * size];
+            for (int a = 0; a < size; a++) {
+                for (int b = 0; b < size; b++) {
+                    double sum = 0;
+                    for (int i = 0; i < isotopologues; i++) {
+                        sum += matrix[i * size + a] * matrix[i * size + b];
+                    }
+                    lu[a * size + b] = sum;
+                }
+            }
+        }
+        permutation = new int[size];
+        decompose();
+    }
+
+    /** Decomposes the matrix in place, via Doolittle's algorithm with partial pivoting. */
+    private void decompose() {
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+
+        for (int c = 0; c < size; c++) {
+            int pivot = c;
+            for (int r = c + 1; r < size; r++) {
+                if (Math.abs(lu[r * size + c]) > Math.abs(lu[pivot * size + c])) pivot = r;
+            }
+            if (lu[pivot * size + c] == 0) {
+                throw new IllegalArgumentException("The correction matrix of %s for %s is singular"
+                        .formatted(composition, tracer));
+            }
+
+            if (pivot != c) {
+                for (int j = 0; j < size; j++) {
+                    double tmp = lu[c * size + j];
+                    lu[c * size + j] = lu[pivot * size + j];
+                    lu[pivot * size + j] = tmp;
+                }
+                int tmp = permutation[c];
+                permutation[c] = permutation[pivot];
+                permutation[pivot] = tmp;
+            }
+
+            double diagonal = lu[c * size + c];
+            for (int r = c + 1; r < size; r++) {
+                double factor = lu[r * size + c] / diagonal;
+                lu[r * size + c] = factor;
+                if (factor == 0) continue;
+                for (int j = c + 1; j < size; j++) {
+                    lu[r * size + j] -= factor * lu[c * size + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the (cached) correction for the given metabolite and tracer.
+     *
+     * @param composition the unlabelled composition of the metabolite, not
+     *                    {@code null}
+     * @param tracer      the tracer, e.g. {@link Label#C13}, not {@code null}
+     * @return the correction
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if the tracer does not increase the
+     *                                  nominal mass or the correction matrix is
+     *                                  singular
+     */
+    public static IsotopeCorrection of(Composition composition, Label tracer) {
+        Key key = new Key(Objects.requireNonNull(composition), Objects.requireNonNull(tracer));
+        IsotopeCorrection correction = cache.get(key);
+        if (correction != null) {
+            ChemistryMetrics.cacheHit(CACHE_NAME);
+            return correction;
+        }
+
+        ChemistryMetrics.cacheMiss(CACHE_NAME);
+        correction = cache.computeIfAbsent(key, k -> new IsotopeCorrection(k.composition(), k.tracer()));
+
+        // bound the cache by evicting arbitrary other entries
+        Iterator<Key> keys = cache.keySet().iterator();
+        while (cache.size() > CACHE_SIZE && keys.hasNext()) {
+            if (!keys.next().equals(key)) {
+                keys.remove();
+                ChemistryMetrics.cacheEviction(CACHE_NAME);
+            }
+        }
+        return correction;
+    }
+
+    /**
+     * Gets the unlabelled composition of the metabolite.
+     *
+     * @return the composition
+     */
+    public Composition composition() {
+        return composition;
+    }
+
+    /**
+     * Gets the tracer.
+     *
+     * @return the tracer
+     */
+    public Label tracer() {
+        return tracer;
+    }
+
+    /**
+     * Gets the number of label states, i.e. the number of atoms of the traced
+     * element plus 1.
+     *
+     * @return the number of columns of the correction matrix
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of isotopologues, i.e. the number of atoms of the traced
+     * element times the nominal mass shift of the tracer plus 1. This equals the
+     * {@link #size()} for tracers shifting the nominal mass by 1 Da.
+     *
+     * @return the number of rows of the correction matrix
+     */
+    public int isotopologues() {
+        return isotopologues;
+    }
+
+    /**
+     * Gets the entry of the correction matrix, i.e. the abundance of the
+     * isotopologue M+{@code row} for the state with {@code column} labelled
+     * positions.
+     *
+     * @param row    the row, from 0 to {@link #isotopologues()} (exclusive)
+     * @param column the column, from 0 to {@link #size()} (exclusive)
+     * @return the entry
+     */
+    public double get(int row, int column) {
+        Objects.checkIndex(row, isotopologues);
+        Objects.checkIndex(column, size);
+        return matrix[row * size + column];
+    }
+
+    /**
+     * Corrects the given measured isotopologue abundances. Negative fractions
+     * (due to measurement noise) are set to 0, and the result is normalized to
+     * a sum of 1.
+     *
+     * @param measured  the measured abundances of M+0 to M+ns, at least
+     *                  {@link #isotopologues()} long, not {@code null}
+     * @param corrected the array to store the fractions of the label states in,
+     *                  at least {@link #size()} long, may be {@code measured}
+     * @throws NullPointerException      if any of the arrays is {@code null}
+     * @throws IndexOutOfBoundsException if any of the arrays is too short
+     */
+    public void correct(double[] measured, double[] corrected) {
+        correct(measured, corrected, 1);
+    }
+
+    /**
+     * Corrects a batch of measured isotopologue abundances, e.g. of several
+     * samples, cf. {@link #correct(double[], double[])}. The measured vector j
+     * is stored from {@code j * isotopologues()} on, the corrected one from
+     * {@code j * size()} on.
+     *
+     * @param measured  the measured abundances, at least
+     *                  {@code vectors * isotopologues()} long, not {@code null}
+     * @param corrected the array to store the fractions of the label states in,
+     *                  at least {@code vectors * size()} long, may be
+     *                  {@code measured}
+     * @param vectors   the number of vectors
+     * @throws NullPointerException      if any of the arrays is {@code null}
+     * @throws IndexOutOfBoundsException if any of the arrays is too short
+     */
+    public void correct(double[] measured, double[] corrected, int vectors) {
+        Objects.checkFromIndexSize(0, Math.multiplyExact(vectors, isotopologues), measured.length);
+        Objects.checkFromIndexSize(0, Math.multiplyExact(vectors, size), corrected.length);
+
+        double[] row = null;
+        for (int v = 0; v < vectors; v++) {
+            int from = v * isotopologues;
+            int to = v * size;
+            if (isotopologues != size) {
+                // the right-hand side of the normal equations, i.e. C^T m
+                if (row == null) row = new double[size];
+                for (int k = 0; k < size; k++) {
+                    double sum = 0;
+                    for (int i = 0; i < isotopologues; i++) {
+                        sum += matrix[i * size + k] * measured[from + i];
+                    }
+                    row[k] = sum;
+                }
+                solve(row, 0, corrected, to);
+            } else if (measured == corrected) {
+                // the permutation needs the original values
+                if (row == null) row = new double[size];
+                System.arraycopy(measured, from, row, 0, size);
+                solve(row, 0, corrected, to);
+            } else {
+                solve(measured, from, corrected, to);
+            }
+        }
+    }
+
+    /** Solves LU x = P b and normalizes x. */
+    private void solve(double[] b, int from, double[] x, int to) {
+        // forward substitution, L has a unit diagonal
+        for (int i = 0; i < size; i++) {
+            double sum = b[from + permutation[i]];
+            int row = i * size;
+            for (int j = 0; j < i; j++) {
+                sum -= lu[row + j] * x[to + j];
+            }
+            x[to + i] = sum;
+        }
+
+        // back substitution
+        for (int i = size - 1; i >= 0; i--) {
+            double sum = x[to + i];
+            int row = i * size;
+            for (int j = i + 1; j < size; j++) {
+                sum -= lu[row + j] * x[to + j];
+            }
+            x[to + i] = sum / lu[row + i];
+        }
+
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            double value = Math.max(0, x[to + i]);
+            x[to + i] = value;
+            total += value;
+        }
+        if (total > 0) {
+            for (int i = 0; i < size; i++) {
+                x[to + i] /= total;
+            }
+        }
+    }
+
+    /**
+     * Corrects the measured isotopologue abundances of several metabolites in
+     * parallel, cf. {@link #correct(double[], double[], int)}.
+     *
+     * @param corrections the corrections of the metabolites, not {@code null}
+     * @param measured    the measured abundances per metabolite, each a multiple
+     *                    of the isotopologues of the corresponding correction
+     *                    long, not {@code null}
+     * @param corrected   the arrays to store the fractions of the label states
+     *                    in, at least as long as the measured ones, not
+     *                    {@code null}
+     * @throws NullPointerException      if any argument is {@code null}
+     * @throws IllegalArgumentException  if the sizes do not match
+     * @throws IndexOutOfBoundsException if any of the arrays is too short
+     */
+    public static void correctAll(List<IsotopeCorrection> corrections, List<double[]> measured,
+            List<double[]> corrected) {
+        int n = corrections.size();
+        if (measured.size() != n || corrected.size() != n) {
+            throw new IllegalArgumentException("Need one measured and one corrected array per correction");
+        }
+        for (int j = 0; j < n; j++) {
+            if (measured.get(j).length % corrections.get(j).isotopologues() != 0) {
+                throw new IllegalArgumentException("The measured abundances %d are not a multiple of %d long"
+                        .formatted(j, corrections.get(j).isotopologues()));
+            }
+        }
+
+        IntStream.range(0, n).parallel().forEach(j -> {
+            IsotopeCorrection correction = corrections.get(j);
+            double[] m = measured.get(j);
+            correction.correct(m, corrected.get(j), m.length / correction.isotopologues());
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "IsotopeCorrection[" + composition + ", " + tracer + "]";
+    }
+}
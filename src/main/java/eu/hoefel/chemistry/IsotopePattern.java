@@ -0,0 +1,133 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+
+/**
+ * A theoretical isotope pattern, i.e. the masses and probabilities of the
+ * isotopic variants of a compound, as calculated by the
+ * {@link IsotopePatternCalculator}.
+ *
+ * @param masses        the masses in Da, sorted increasingly
+ * @param probabilities the probabilities of the corresponding peaks
+ */
+public record IsotopePattern(double[] masses, double[] probabilities) {
+
+    /**
+     * Creates the isotope pattern.
+     *
+     * @param masses        the masses in Da, sorted increasingly, not {@code null}
+     * @param probabilities the probabilities of the corresponding peaks, not
+     *                      {@code null}
+     * @throws NullPointerException     if {@code masses} or {@code probabilities}
+     *                                  is {@code null}
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    public IsotopePattern {
+        if (masses.length != probabilities.length) {
+            throw new IllegalArgumentException("Got %d masses, but %d probabilities"
+                    .formatted(masses.length, probabilities.length));
+        }
+        masses = masses.clone();
+        probabilities = probabilities.clone();
+    }
+
+    @Override
+    public double[] masses() {
+        return masses.clone();
+    }
+
+    @Override
+    public double[] probabilities() {
+        return probabilities.clone();
+    }
+
+    /**
+     * Gets the number of peaks.
+     *
+     * @return the number of peaks
+     */
+    public int size() {
+        return masses.length;
+    }
+
+    /**
+     * Gets the mass of the i-th peak.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the mass in Da
+     */
+    public double mass(int i) {
+        return masses[i];
+    }
+
+    /**
+     * Gets the probability of the i-th peak.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the probability
+     */
+    public double probability(int i) {
+        return probabilities[i];
+    }
+
+    /**
+     * Gets the index of the most probable peak.
+     *
+     * @return the index of the most probable peak, or -1 if there are no peaks
+     */
+    public int mostProbable() {
+        int max = -1;
+        for (int i = 0; i < probabilities.length; i++) {
+            if (max < 0 || probabilities[i] > probabilities[max]) max = i;
+        }
+        return max;
+    }
+
+    /**
+     * Gets the sum of the probabilities, i.e. 1 minus the pruned probability.
+     *
+     * @return the covered probability
+     */
+    public double coverage() {
+        double sum = 0;
+        for (double p : probabilities) {
+            sum += p;
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the probability weighted mean of the masses.
+     *
+     * @return the average mass in Da, or {@link Double#NaN NaN} if there are no
+     *         peaks
+     */
+    public double averageMass() {
+        double mass = 0;
+        for (int i = 0; i < masses.length; i++) {
+            mass += masses[i] * probabilities[i];
+        }
+        return mass / coverage();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof IsotopePattern other && Arrays.equals(masses, other.masses)
+                && Arrays.equals(probabilities, other.probabilities);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(masses) + Arrays.hashCode(probabilities);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IsotopePattern[");
+        for (int i = 0; i < masses.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(masses[i]).append('=').append(probabilities[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,500 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calculates theoretical isotope patterns from the
+ * {@link IsotopicComposition natural isotopic compositions} of the contained
+ * elements. The pattern of n atoms of an element is obtained by convolving the
+ * elemental pattern with itself via repeated squaring, i.e. with
+ * O(log<sub>2</sub> n) convolutions, and the patterns of the elements are then
+ * convolved with each other. After each convolution, peaks less probable than
+ * {@code pruning} times the most probable peak are dropped, which keeps the
+ * patterns small even for proteins with thousands of atoms.
+ * <p>
+ * In {@link Mode#COARSE} mode, peaks are aggregated by nominal mass (and the
+ * mass of a peak is the probability weighted mean of the aggregated variants).
+ * In {@link Mode#FINE} mode, the isotopic fine structure is kept, apart from
+ * peaks that cannot be separated at the given {@code resolution}
+ * (m/&Delta;m), which get merged.
+ * <p>
+ * Isotopes contained in the composition (e.g. "[13C]") are treated as pure, and
+ * elements that do not occur naturally contribute their {@link Element#mass()
+ * mass}. Partially enriched positions are described by a {@link Label}.
+ *
+ * @param mode       the mode, i.e. whether to aggregate by nominal mass
+ * @param pruning    the relative probability threshold below which peaks are
+ *                   dropped, between 0 (inclusive) and 1 (exclusive)
+ * @param resolution the resolving power m/&Delta;m used to merge peaks in
+ *                   {@link Mode#FINE} mode, {@link Double#POSITIVE_INFINITY} to
+ *                   only merge identical masses
+ */
+public record IsotopePatternCalculator(Mode mode, double pruning, double resolution) {
+
+    /** Calculates coarse patterns, pruning below 10<sup>-6</sup>. */
+    public static final IsotopePatternCalculator COARSE = new IsotopePatternCalculator(Mode.COARSE, 1e-6, Double.POSITIVE_INFINITY);
+
+    /**
+     * Calculates fine structure patterns at a resolution of 10<sup>6</sup>,
+     * pruning below 10<sup>-4</sup>.
+     */
+    public static final IsotopePatternCalculator FINE = new IsotopePatternCalculator(Mode.FINE, 1e-4, 1e6);
+
+    /** Masses closer than this (in Da) are always considered identical. */
+    private static final double MASS_TOLERANCE = 1e-9;
+
+    /** The modes of the calculation. */
+    public enum Mode {
+        /** Aggregates the isotopic variants by nominal mass. */
+        COARSE,
+
+        /** Keeps the isotopic fine structure, up to the resolution. */
+        FINE
+    }
+
+    /**
+     * Creates a new calculator.
+     *
+     * @param mode       the mode, not {@code null}
+     * @param pruning    the relative probability threshold below which peaks are
+     *                   dropped, between 0 (inclusive) and 1 (exclusive)
+     * @param resolution the resolving power m/&Delta;m used to merge peaks in
+     *                   {@link Mode#FINE} mode, positive
+     * @throws NullPointerException     if {@code mode} is {@code null}
+     * @throws IllegalArgumentException if {@code pruning} or {@code resolution}
+     *                                  are out of range
+     */
+    public IsotopePatternCalculator {
+        Objects.requireNonNull(mode);
+        if (!(pruning >= 0 && pruning < 1)) {
+            throw new IllegalArgumentException("The pruning threshold needs to be in [0,1), but was " + pruning);
+        } else if (!(resolution > 0)) {
+            throw new IllegalArgumentException("The resolution needs to be positive, but was " + resolution);
+        }
+    }
+
+    /**
+     * Calculates the isotope pattern of the given compound.
+     *
+     * @param compound the compound, not {@code null}
+     * @return the isotope pattern
+     * @throws NullPointerException     if {@code compound} is {@code null}
+     * @throws IllegalArgumentException if the composition of the compound is not
+     *                                  known
+     * @see Composition#of(ChemicalCompound)
+     */
+    public IsotopePattern calculate(ChemicalCompound compound) {
+        return calculate(Composition.of(compound));
+    }
+
+    /**
+     * Calculates the isotope pattern of the given formula.
+     *
+     * @param formula the chemical formula, e.g. "C6H12O6", not {@code null}
+     * @return the isotope pattern
+     * @throws NullPointerException     if {@code formula} is {@code null}
+     * @throws IllegalArgumentException if {@code formula} cannot be parsed
+     * @see Composition#parse(String)
+     */
+    public IsotopePattern calculate(String formula) {
+        return calculate(Composition.parse(formula));
+    }
+
+    /**
+     * Calculates the isotope pattern of the given composition.
+     *
+     * @param composition the composition, not {@code null}
+     * @return the isotope pattern
+     * @throws NullPointerException if {@code composition} is {@code null}
+     */
+    public IsotopePattern calculate(Composition composition) {
+        Distribution total = Distribution.unit(mode);
+        for (int i = 0; i < composition.size(); i++) {
+            Distribution nuclide = Distribution.of(mode, composition.id(i));
+            total = total.convolve(power(nuclide, composition.count(i)), this);
+        }
+        return total.toPattern();
+    }
+
+    /**
+     * Calculates the isotope pattern of the given composition with the given
+     * number of labelled positions.
+     *
+     * @param composition the unlabelled composition, not {@code null}
+     * @param label       the label, not {@code null}
+     * @param count       the number of labelled positions, from 0 to the number
+     *                    of atoms of the labelled element
+     * @return the isotope pattern
+     * @throws NullPointerException     if {@code composition} or {@code label} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if {@code count} is out of range
+     */
+    public IsotopePattern calculate(Composition composition, Label label, int count) {
+        int n = composition.count(label.element());
+        if (count < 0 || count > n) {
+            throw new IllegalArgumentException("Cannot label %d of the %d atoms of %s in %s"
+                    .formatted(count, n, label.element(), composition));
+        }
+
+        Distribution natural = Distribution.of(mode, Nuclides.id(label.element()));
+        return unlabelled(composition, label).convolve(power(natural, n - count), this)
+                                             .convolve(power(Distribution.of(mode, label), count), this)
+                                             .toPattern();
+    }
+
+    /**
+     * Calculates the isotope patterns of all label states of the given
+     * composition, i.e. with 0 to n labelled positions, where n is the number of
+     * atoms of the labelled element. The pattern of the rest of the composition
+     * is calculated once, and the patterns of the labelled and unlabelled
+     * positions are built up atom by atom, so each state costs a single
+     * convolution.
+     *
+     * @param composition the unlabelled composition, not {@code null}
+     * @param label       the label, not {@code null}
+     * @return the isotope patterns, indexed by the number of labelled positions
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public List<IsotopePattern> calculateLabelled(Composition composition, Label label) {
+        Distribution[] states = labelStates(composition, label);
+        IsotopePattern[] patterns = new IsotopePattern[states.length];
+        for (int k = 0; k < states.length; k++) {
+            patterns[k] = states[k].toPattern();
+        }
+        return List.of(patterns);
+    }
+
+    /**
+     * Calculates the abundances of the isotopologues by nominal mass of all label
+     * states of the given composition, i.e. with 0 to n labelled positions. The
+     * nominal masses are relative to the lightest isotopologue of the unlabelled
+     * composition. Only available in {@link Mode#COARSE} mode.
+     *
+     * @param composition the unlabelled composition
+     * @param label       the label
+     * @param size        the number of isotopologues to return per state
+     * @return the abundances, indexed by the number of labelled positions and the
+     *         nominal mass shift
+     */
+    double[][] labelledAbundances(Composition composition, Label label, int size) {
+        if (mode != Mode.COARSE) throw new IllegalStateException("Nominal abundances need the coarse mode");
+
+        int lightest = 0;
+        for (int i = 0; i < composition.size(); i++) {
+            lightest += Distribution.of(mode, composition.id(i)).offset * composition.count(i);
+        }
+
+        Distribution[] states = labelStates(composition, label);
+        double[][] abundances = new double[states.length][size];
+        for (int k = 0; k < states.length; k++) {
+            Distribution state = states[k];
+            for (int i = 0; i < state.size; i++) {
+                int shift = state.offset + i - lightest;
+                if (shift >= 0 && shift < size) abundances[k][shift] = state.probabilities[i];
+            }
+        }
+        return abundances;
+    }
+
+    /**
+     * Calculates the distributions of all label states. The distribution of the
+     * rest of the composition is calculated once, and the labelled and
+     * unlabelled positions are built up atom by atom.
+     */
+    private Distribution[] labelStates(Composition composition, Label label) {
+        int n = composition.count(label.element());
+        Distribution natural = Distribution.of(mode, Nuclides.id(label.element()));
+        Distribution labelled = Distribution.of(mode, label);
+
+        // rest[j] is the distribution with j unlabelled positions of the element
+        Distribution[] rest = new Distribution[n + 1];
+        rest[0] = unlabelled(composition, label);
+        for (int j = 1; j <= n; j++) {
+            rest[j] = rest[j - 1].convolve(natural, this);
+        }
+
+        Distribution[] states = new Distribution[n + 1];
+        Distribution labels = Distribution.unit(mode);
+        for (int k = 0; k <= n; k++) {
+            states[k] = rest[n - k].convolve(labels, this);
+            labels = labels.convolve(labelled, this);
+        }
+        return states;
+    }
+
+    /** Gets the distribution of the composition without the labelled element. */
+    private Distribution unlabelled(Composition composition, Label label) {
+        int element = Nuclides.id(label.element());
+        Distribution total = Distribution.unit(mode);
+        for (int i = 0; i < composition.size(); i++) {
+            if (composition.id(i) == element) continue;
+            Distribution nuclide = Distribution.of(mode, composition.id(i));
+            total = total.convolve(power(nuclide, composition.count(i)), this);
+        }
+        return total;
+    }
+
+    /**
+     * Calculates the isotope patterns of the given compounds in parallel.
+     *
+     * @param compounds the compounds, not {@code null}
+     * @return the isotope patterns, in the same order as the compounds
+     * @throws NullPointerException     if {@code compounds} is {@code null}
+     * @throws IllegalArgumentException if the composition of any compound is not
+     *                                  known
+     */
+    public List<IsotopePattern> calculateAll(List<? extends ChemicalCompound> compounds) {
+        return compounds.parallelStream().map(this::calculate).toList();
+    }
+
+    /**
+     * Raises the distribution to the given power via repeated squaring.
+     *
+     * @param base     the distribution of a single atom
+     * @param exponent the number of atoms
+     * @return the distribution of all atoms
+     */
+    private Distribution power(Distribution base, int exponent) {
+        Distribution result = null;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) result = result == null ? base : result.convolve(base, this);
+            exponent >>>= 1;
+            if (exponent > 0) base = base.convolve(base, this);
+        }
+        return result == null ? Distribution.unit(mode) : result;
+    }
+
+    /**
+     * A (sub-)pattern during the calculation. In coarse mode, the peak i
+     * corresponds to the nominal mass {@code offset + i} and the masses are
+     * probability weighted mass sums. In fine mode, the peaks are sorted by
+     * decreasing probability, such that the convolution can stop early.
+     */
+    private static final class Distribution {
+        private final Mode mode;
+        private final double[] masses;
+        private final double[] probabilities;
+        private final int size;
+        private final int offset;
+
+        private Distribution(Mode mode, double[] masses, double[] probabilities, int size, int offset) {
+            this.mode = mode;
+            this.masses = masses;
+            this.probabilities = probabilities;
+            this.size = size;
+            this.offset = offset;
+        }
+
+        /** Gets the distribution of nothing, i.e. the neutral element of the convolution. */
+        static Distribution unit(Mode mode) {
+            return new Distribution(mode, new double[] { 0 }, new double[] { 1 }, 1, 0);
+        }
+
+        /** Gets the distribution of a single atom of the nuclide with the given id. */
+        static Distribution of(Mode mode, int id) {
+            if (Nuclides.isIsotope(id)) {
+                int index = Nuclides.index(id);
+                return single(mode, NuclideTable.mass(index), NuclideTable.massNumber(index));
+            }
+
+            Element element = Nuclides.element(id);
+            IsotopicComposition composition = element.isotopicComposition();
+            if (composition.isEmpty()) return single(mode, element.mass(), (int) Math.round(element.mass()));
+
+            int n = composition.size();
+            if (mode == Mode.FINE) {
+                // the composition is already sorted by decreasing abundance
+                return new Distribution(mode, composition.masses(), composition.abundances(), n, 0);
+            }
+
+            int[] massNumbers = new int[n];
+            for (int i = 0; i < n; i++) {
+                massNumbers[i] = composition.massNumber(i);
+            }
+            return of(mode, massNumbers, composition.masses(), composition.abundances(), n);
+        }
+
+        /** Gets the distribution of a single labelled position. */
+        static Distribution of(Mode mode, Label label) {
+            int n = label.element().isotopicComposition().size() + 1;
+            int[] massNumbers = new int[n];
+            double[] masses = new double[n];
+            double[] probabilities = new double[n];
+            n = label.peaks(massNumbers, masses, probabilities);
+            return of(mode, massNumbers, masses, probabilities, n);
+        }
+
+        /** Gets the distribution of a single atom with the given isotopes. */
+        private static Distribution of(Mode mode, int[] massNumbers, double[] masses, double[] probabilities, int n) {
+            if (mode == Mode.FINE) {
+                double[] m = Arrays.copyOf(masses, n);
+                double[] p = Arrays.copyOf(probabilities, n);
+                sort(p, m, 0, n - 1, -1);
+                return new Distribution(mode, m, p, n, 0);
+            }
+
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < n; i++) {
+                min = Math.min(min, massNumbers[i]);
+                max = Math.max(max, massNumbers[i]);
+            }
+            double[] m = new double[max - min + 1];
+            double[] p = new double[max - min + 1];
+            for (int i = 0; i < n; i++) {
+                int k = massNumbers[i] - min;
+                m[k] = masses[i] * probabilities[i];
+                p[k] = probabilities[i];
+            }
+            return new Distribution(mode, m, p, m.length, min);
+        }
+
+        private static Distribution single(Mode mode, double mass, int massNumber) {
+            return new Distribution(mode, new double[] { mass }, new double[] { 1 }, 1,
+                    mode == Mode.COARSE ? massNumber : 0);
+        }
+
+        Distribution convolve(Distribution other, IsotopePatternCalculator calculator) {
+            return mode == Mode.COARSE ? convolveCoarse(other, calculator.pruning())
+                    : convolveFine(other, calculator.pruning(), calculator.resolution());
+        }
+
+        private Distribution convolveCoarse(Distribution other, double pruning) {
+            int n = size + other.size - 1;
+            double[] m = new double[n];
+            double[] p = new double[n];
+            for (int i = 0; i < size; i++) {
+                double pi = probabilities[i];
+                double mi = masses[i];
+                for (int j = 0; j < other.size; j++) {
+                    double pj = other.probabilities[j];
+                    p[i + j] += pi * pj;
+                    // sum over p_i p_j (m_i/p_i + m_j/p_j)
+                    m[i + j] += mi * pj + pi * other.masses[j];
+                }
+            }
+
+            double max = 0;
+            for (int k = 0; k < n; k++) {
+                max = Math.max(max, p[k]);
+            }
+            double threshold = pruning * max;
+            int start = 0;
+            while (start < n - 1 && p[start] < threshold) start++;
+            int end = n;
+            while (end > start + 1 && p[end - 1] < threshold) end--;
+
+            if (start > 0) {
+                System.arraycopy(m, start, m, 0, end - start);
+                System.arraycopy(p, start, p, 0, end - start);
+            }
+            return new Distribution(mode, m, p, end - start, offset + other.offset + start);
+        }
+
+        private Distribution convolveFine(Distribution other, double pruning, double resolution) {
+            double threshold = pruning * probabilities[0] * other.probabilities[0];
+            double[] m = new double[size * other.size];
+            double[] p = new double[m.length];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                double pi = probabilities[i];
+                if (pi * other.probabilities[0] < threshold) break;
+
+                for (int j = 0; j < other.size; j++) {
+                    double pij = pi * other.probabilities[j];
+                    if (pij < threshold) break;
+
+                    m[n] = masses[i] + other.masses[j];
+                    p[n++] = pij;
+                }
+            }
+
+            // merge peaks that cannot be resolved
+            sort(m, p, 0, n - 1, 1);
+            int merged = 0;
+            for (int i = 0; i < n;) {
+                double mass = m[i] * p[i];
+                double probability = p[i];
+                double centroid = m[i];
+                int j = i + 1;
+                for (; j < n && m[j] - centroid <= Math.max(MASS_TOLERANCE, centroid / resolution); j++) {
+                    mass += m[j] * p[j];
+                    probability += p[j];
+                    centroid = mass / probability;
+                }
+                m[merged] = centroid;
+                p[merged++] = probability;
+                i = j;
+            }
+
+            sort(p, m, 0, merged - 1, -1);
+            return new Distribution(mode, m, p, merged, 0);
+        }
+
+        IsotopePattern toPattern() {
+            double[] m = new double[size];
+            double[] p = new double[size];
+            if (mode == Mode.COARSE) {
+                int n = 0;
+                for (int k = 0; k < size; k++) {
+                    if (probabilities[k] == 0) continue;
+                    m[n] = masses[k] / probabilities[k];
+                    p[n++] = probabilities[k];
+                }
+                return new IsotopePattern(Arrays.copyOf(m, n), Arrays.copyOf(p, n));
+            }
+
+            System.arraycopy(masses, 0, m, 0, size);
+            System.arraycopy(probabilities, 0, p, 0, size);
+            sort(m, p, 0, size - 1, 1);
+            return new IsotopePattern(m, p);
+        }
+
+        /**
+         * Sorts the keys (and permutes the values accordingly) via quicksort.
+         *
+         * @param keys   the keys to sort by
+         * @param values the values to permute
+         * @param lo     the first index (inclusive)
+         * @param hi     the last index (inclusive)
+         * @param sign   1 to sort increasingly, -1 to sort decreasingly
+         */
+        private static void sort(double[] keys, double[] values, int lo, int hi, int sign) {
+            while (hi - lo > 16) {
+                double pivot = sign * keys[(lo + hi) >>> 1];
+                int i = lo;
+                int j = hi;
+                while (i <= j) {
+                    while (sign * keys[i] < pivot) i++;
+                    while (sign * keys[j] > pivot) j--;
+                    if (i <= j) swap(keys, values, i++, j--);
+                }
+                // recurse into the smaller part to bound the stack depth
+                if (j - lo < hi - i) {
+                    sort(keys, values, lo, j, sign);
+                    lo = i;
+                } else {
+                    sort(keys, values, i, hi, sign);
+                    hi = j;
+                }
+            }
+
+            for (int i = lo + 1; i <= hi; i++) {
+                for (int j = i; j > lo && sign * keys[j - 1] > sign * keys[j]; j--) {
+                    swap(keys, values, j, j - 1);
+                }
+            }
+        }
+
+        private static void swap(double[] keys, double[] values, int i, int j) {
+            double key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
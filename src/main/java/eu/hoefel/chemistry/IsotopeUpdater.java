@@ -1,6 +1,11 @@
 package eu.hoefel.chemistry;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -23,13 +28,18 @@ final class IsotopeUpdater {
     private static final Pattern NEW_ELEMENT_NUMBER = Pattern.compile("(\\d+)(?=\\s+\\w+\\s+\\d+\\s+\\d+\\.\\d+.*)");
     private static final Pattern NEW_NAME = Pattern.compile("(\\w+)(?=\\s+\\d+\\s+\\d+\\.\\d+.*)");
     private static final Pattern NEW_ISOTOPE_MASS_NUMBER = Pattern.compile("(\\d+)(?=\\s+\\d+\\.\\d+.*)");
-    private static final Pattern NEW_ISOTOPE_ATOMIC_MASS = Pattern.compile("(\\d+.\\d+)(?=\\(\\d+#*\\))");
+    private static final Pattern NEW_ISOTOPE_ATOMIC_MASS_WITH_UNCERTAINTY = Pattern.compile("(\\d+\\.\\d+)\\((\\d+)#*\\)");
+    private static final Pattern ISOTOPIC_COMPOSITION = Pattern.compile("(\\d+(?:\\.\\d+)?)(?:\\(\\d+\\))?");
     private static final Pattern NEW_NAME_PATTERN = Pattern.compile("\\w+\\s+\\d+\\s+\\d+\\.\\d+.*");
     private static final Pattern NEW_ISOTOPE_PATTERN = Pattern.compile("\\d+\\s+\\d+\\.\\d+.*");
 
+    /** The date of the NIST data as yyyymmdd. */
+    private static final int DATA_DATE = 20191126;
+
     private static final String LB = "\n";
 
-    private record Isotope(Element element, String name, int massNumber, double atomicMass) implements Comparable<Isotope> {
+    private record Isotope(Element element, String name, int massNumber, double atomicMass,
+            double atomicMassUncertainty, double abundance) implements Comparable<Isotope> {
 
         @Override
         public int compareTo(Isotope other) {
@@ -40,7 +50,7 @@ final class IsotopeUpdater {
     }
 
     /**
-     * Creates the enum for the isotope enum.
+     * Creates the enum for the isotope enum and the binary nuclide data table.
      * 
      * @param args none
      */
@@ -52,8 +62,11 @@ final class IsotopeUpdater {
         // Weights and Isotopic Compositions (version 4.1). [Online] Available:
         // http://physics.nist.gov/Comp [2019, 11, 26]. National Institute of Standards
         // and Technology, Gaithersburg, MD.
-        createIsotopeClasses(IOs.getStringFromResources("/isotope_2019_11_26.txt", IsotopeUpdater.class), 
+        String input = IOs.getStringFromResources("/isotope_2019_11_26.txt", IsotopeUpdater.class);
+        createIsotopeClasses(input, 
                 new File("src/main/java/" + IsotopeUpdater.class.getPackage().getName()).getAbsolutePath().replace(".", "/") + "/");
+        createNuclideTable(input, DATA_DATE, Path.of("src/main/resources/" 
+                + IsotopeUpdater.class.getPackage().getName().replace(".", "/"), NuclideTable.RESOURCE));
     }
 
     /**
@@ -71,6 +84,48 @@ final class IsotopeUpdater {
         IOs.writeToFile(new File(targetFolder + "Isotopes.java"), constructIsotopeUtils(data));
     }
 
+    /**
+     * Creates the binary nuclide data table (see {@link NuclideTable} for the
+     * layout) from the source text file.
+     * 
+     * @param input  the content of the NIST file as a String
+     * @param date   the date of the NIST data as yyyymmdd
+     * @param target the file to save the table to
+     */
+    private static void createNuclideTable(String input, int date, Path target) {
+        var data = parseData(input.split("\r\n|\n"));
+
+        ByteBuffer table = ByteBuffer.allocate(NuclideTable.HEADER_SIZE + NuclideTable.INDEX_SIZE
+                + data.size() * NuclideTable.RECORD_SIZE);
+        table.putInt(NuclideTable.MAGIC);
+        table.putShort(NuclideTable.VERSION);
+        table.putShort(NuclideTable.RECORD_SIZE);
+        table.putInt(date);
+        table.putInt(data.size());
+
+        int index = 0;
+        for (int z = 0; z <= NuclideTable.MAX_ATOMIC_NUMBER + 1; z++) {
+            table.putInt(index);
+            for (var iso : data) {
+                if (iso.element().atomicNumber() == z) index++;
+            }
+        }
+
+        for (var iso : data) {
+            table.putShort((short) iso.element().atomicNumber());
+            table.putShort((short) iso.massNumber());
+            table.putDouble(iso.atomicMass());
+            table.putDouble(iso.atomicMassUncertainty());
+            table.putDouble(iso.abundance());
+        }
+
+        try {
+            Files.write(target, table.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the nuclide table to " + target, e);
+        }
+    }
+
     /**
      * Constructs the enum source code for the given data.
      * 
@@ -131,8 +186,8 @@ final class IsotopeUpdater {
                 };
 
                 isos.add("""
-                         %-24s%5s(%19.15f)\
-                         """.formatted("        /** " + javadoc + " */", enumName, iso.atomicMass()));
+                         %-24s%5s(%3d, %19.15f)\
+                         """.formatted("        /** " + javadoc + " */", enumName, iso.massNumber(), iso.atomicMass()));
             }
 
             sb.append(String.join(","+LB, isos));
@@ -140,15 +195,18 @@ final class IsotopeUpdater {
             sb.append("""
 
 
+                    private int massNumber;
                     private double atomicMass;
 
-                    %s(double avgAtomicMass) { atomicMass = avgAtomicMass; }
+                    %s(int a, double avgAtomicMass) { massNumber = a; atomicMass = NuclideTable.mass(%s.%s, a, avgAtomicMass); }
 
                     @Override public double mass() { return atomicMass; }
+                    @Override public int massNumber() { return massNumber; }
                     @Override public %s element() { return %s.%s; }
                     @Override public Set<Nuclide> nuclides() { return Set.of(this); }
                 }
-            """.formatted(element.name(), Element.class.getSimpleName(), Element.class.getSimpleName(), element.name()));
+            """.formatted(element.name(), Element.class.getSimpleName(), element.name(),
+                    Element.class.getSimpleName(), Element.class.getSimpleName(), element.name()));
         }
 
         sb.append(LB);
@@ -156,19 +214,47 @@ final class IsotopeUpdater {
         sb.append(String.format(Locale.ENGLISH,
             """
                 @Override default boolean isIsotope() { return true; }
+
+                /**
+                 * Gets the mass number, i.e. the number of protons and neutrons.
+                 *
+                 * @return the mass number
+                 */
+                public int massNumber();
+
+                /**
+                 * Gets the (standard) uncertainty of the {@link #mass() atomic mass}.
+                 *
+                 * @return the uncertainty in Da, or {@link Double#NaN NaN} if the
+                 *         nuclide data table does not contain the isotope
+                 */
+                public default double massUncertainty() {
+                    int index = NuclideTable.indexOf(this);
+                    return index < 0 ? Double.NaN : NuclideTable.massUncertainty(index);
+                }
+
+                /**
+                 * Gets the natural abundance, i.e. the fraction of atoms of the element
+                 * found in nature that are this isotope.
+                 *
+                 * @return the natural abundance (between 0 and 1, 0 if the isotope does
+                 *         not occur naturally)
+                 * @see IsotopicComposition
+                 */
+                public default double abundance() {
+                    int index = NuclideTable.indexOf(this);
+                    return index < 0 ? 0 : NuclideTable.abundance(index);
+                }
     
                 /**
-                 * Gets the isotopes for the requested element.
+                 * Gets the isotopes for the requested element. Only the isotopes of the
+                 * requested element get initialized.
                  *
                  * @param elem the element for which the isotopes are requested
-                 * @return the isotopes of elem
+                 * @return a new (modifiable) list of the isotopes of elem
                  */
                 public static List<Isotope> ofElement(%s elem) {
-                    List<Isotope> correspondingIsotopes = new ArrayList<>();
-                    for (Isotope isotope : Isotope.values()) {
-                        if (isotope.element() == elem) correspondingIsotopes.add(isotope);
-                    }
-                    return correspondingIsotopes;
+                    return new ArrayList<>(Isotopes.of(elem));
                 }
             
                 /**
@@ -207,24 +293,15 @@ final class IsotopeUpdater {
                 }
         
                 /**
-                 * Parses the given name and returns the matching element, if found.
+                 * Parses the given name and returns the matching element, if found. Only
+                 * the isotopes of the element matching the name get initialized.
                  * 
                  * @param name the name, e.g. "He3"
                  * @return the corresponding isotope or null if no matching isotope has been
                  *         found
                  */
                 public static Isotope parseName(String name) {
-                    for (Isotope isotope : values()) {
-                        if (isotope.toString().equalsIgnoreCase(name)) {
-                            return isotope;
-                        }
-                    }
-        
-                    // special cases
-                    if ("deuterium".equalsIgnoreCase(name)) return H.D;
-                    if ("tritium".equalsIgnoreCase(name)) return H.T;
-        
-                    return null;
+                    return Isotopes.parseName(name);
                 }
             }
             """,
@@ -247,6 +324,7 @@ final class IsotopeUpdater {
         sb.append("package " + IsotopeUpdater.class.getPackage().getName() + ";" + LB);
         sb.append(LB);
 
+        sb.append("import java.util.List;" + LB);
         sb.append("import java.util.stream.Stream;" + LB);
         sb.append(LB);
 
@@ -255,41 +333,35 @@ final class IsotopeUpdater {
             sb.append(LB);
         }
 
-        for (Element e : elements) {
-            sb.append("import " + Element.class.getPackage().getName() + "." + Isotope.class.getSimpleName() + "." + e.name() + ";" + LB);
-        }
-        sb.append(LB);
-
-        StringBuilder elementValues = new StringBuilder();
-        int counter = 1;
-        int stringLength = 2;
+        String iso = Isotope.class.getSimpleName();
+        StringBuilder cases = new StringBuilder();
         for (Element elem : elements) {
-            elementValues.append(String.format(Locale.ENGLISH, "%" + stringLength + "s.values()", elem.name()) + (counter == elements.size() ? " " : ","));
-            if (counter++ % 10 == 0) {
-                elementValues.append(LB + "            ");
-                stringLength = 2;
-            } else {
-                stringLength = 3;
-            }
+            cases.append(String.format(Locale.ENGLISH, "            case %-2s -> %s.%s.values();" + LB, elem.name(), iso, elem.name()));
         }
 
         sb.append("""
                 /**
-                 * Utility methods for the {@link Isotope isotopes}.
+                 * Utility methods for the {@link Isotope isotopes}. The isotopes of each
+                 * element are a separate enum, which gets only initialized once an isotope of
+                 * the element is requested.
                  * 
                  * @see %s
                  */
                 final class Isotopes {
 
-                    /** Represents all isotopes. */
-                    private static final Isotope[] values;
+                    /** All elements, to avoid the copy of {@code values()}. */
+                    private static final %s[] elements = %s.values();
 
-                    static {
-                        Isotope[][] isotopes = {
-                            %s
-                        };
+                    /** The isotopes by element, filled on first request. */
+                    @SuppressWarnings({ "unchecked", "rawtypes" })
+                    private static final List<Isotope>[] byElement = new List[elements.length];
 
-                        values = Stream.of(isotopes).flatMap(Stream::of).toArray(Isotope[]::new);
+                    /** Holder for all isotopes, to only initialize them if really needed. */
+                    private static final class All {
+                        private static final Isotope[] values = Stream.of(elements)
+                                                                      .map(Isotopes::of)
+                                                                      .flatMap(List::stream)
+                                                                      .toArray(Isotope[]::new);
                     }
 
                     private Isotopes() {
@@ -302,9 +374,75 @@ final class IsotopeUpdater {
                      * @return all isotopes
                      */
                     public static final Isotope[] values() {
-                        return values.clone();
+                        return All.values.clone();
                     }
-                """.formatted(Isotope.class.getSimpleName(), elementValues.toString()));
+
+                    /**
+                     * Gets the isotopes of the given element.
+                     *
+                     * @param element the element
+                     * @return the (unmodifiable) isotopes of the element
+                     */
+                    static final List<Isotope> of(%s element) {
+                        // benign race, the lists are immutable
+                        List<Isotope> isotopes = byElement[element.ordinal()];
+                        if (isotopes == null) {
+                            isotopes = List.of(valuesOf(element));
+                            byElement[element.ordinal()] = isotopes;
+                        }
+                        return isotopes;
+                    }
+
+                    /**
+                     * Parses the given name and returns the matching isotope, if found. As the
+                     * isotopes are named by the element symbol followed by the mass number (apart
+                     * from deuterium and tritium), only the isotopes of the corresponding element
+                     * need to be checked.
+                     *
+                     * @param name the name, e.g. "He3"
+                     * @return the corresponding isotope or null if no matching isotope has been
+                     *         found
+                     */
+                    static final Isotope parseName(String name) {
+                        if (name == null) return null;
+
+                        // special cases
+                        if ("D".equalsIgnoreCase(name) || "deuterium".equalsIgnoreCase(name)) return Isotope.H.D;
+                        if ("T".equalsIgnoreCase(name) || "tritium".equalsIgnoreCase(name)) return Isotope.H.T;
+
+                        int symbolLength = name.length();
+                        while (symbolLength > 0 && Character.isDigit(name.charAt(symbolLength - 1))) {
+                            symbolLength--;
+                        }
+                        if (symbolLength == 0 || symbolLength == name.length()) return null;
+
+                        for (%s element : elements) {
+                            String symbol = element.name();
+                            if (symbol.length() == symbolLength && name.regionMatches(true, 0, symbol, 0, symbolLength)) {
+                                for (Isotope isotope : of(element)) {
+                                    if (isotope.toString().equalsIgnoreCase(name)) return isotope;
+                                }
+                                return null;
+                            }
+                        }
+
+                        return null;
+                    }
+
+                    /**
+                     * Gets the isotopes of the given element, without initializing the
+                     * isotopes of any other element.
+                     *
+                     * @param element the element
+                     * @return the isotopes of the element
+                     */
+                    private static final Isotope[] valuesOf(%s element) {
+                        return switch (element) {
+                %s        };
+                    }
+                """.formatted(iso, Element.class.getSimpleName(), Element.class.getSimpleName(),
+                        Element.class.getSimpleName(), Element.class.getSimpleName(), Element.class.getSimpleName(),
+                        cases.toString()));
         sb.append("}");
 
         return sb.toString();
@@ -321,9 +459,9 @@ final class IsotopeUpdater {
 
         int currentElementNumber = 0;
         String currentName = "";
-        for (String line : lines) {
+        for (String rawLine : lines) {
 
-            line = line.trim();
+            String line = rawLine.trim();
             if (line.isEmpty()) continue;
 
             Matcher newElement = NEW_ELEMENT_PATTERN.matcher(line);
@@ -343,13 +481,8 @@ final class IsotopeUpdater {
                 newElementIsotopeMassNumber.find();
                 var massNumber = Integer.parseInt(newElementIsotopeMassNumber.group());
 
-                Matcher newElementIsotopeAtomicMass = NEW_ISOTOPE_ATOMIC_MASS.matcher(line);
-                newElementIsotopeAtomicMass.find(); // here we need only the first one!
-                var atomicMass = Double.parseDouble(newElementIsotopeAtomicMass.group());
-
                 var elem = Element.withAtomicNumber(currentElementNumber);
-                var iso = new Isotope(elem, currentName, massNumber, atomicMass);
-                data.add(iso);
+                data.add(parseIsotope(elem, currentName, massNumber, rawLine));
             } else if (newName.matches()) {
                 Matcher newElementName = NEW_NAME.matcher(line);
                 newElementName.find();
@@ -359,31 +492,64 @@ final class IsotopeUpdater {
                 newElementIsotopeMassNumber.find();
                 var massNumber = Integer.parseInt(newElementIsotopeMassNumber.group());
 
-                Matcher newElementIsotopeAtomicMass = NEW_ISOTOPE_ATOMIC_MASS.matcher(line);
-                newElementIsotopeAtomicMass.find(); // here we need only the first one!
-                var atomicMass = Double.parseDouble(newElementIsotopeAtomicMass.group());
-
                 var elem = Element.withAtomicNumber(currentElementNumber);
-                var iso = new Isotope(elem, currentName, massNumber, atomicMass);
-                data.add(iso);
+                data.add(parseIsotope(elem, currentName, massNumber, rawLine));
             } else if (newIsotope.matches()) {
                 Matcher newElementIsotopeMassNumber = NEW_ISOTOPE_MASS_NUMBER.matcher(line);
                 newElementIsotopeMassNumber.find();
                 var massNumber = Integer.parseInt(newElementIsotopeMassNumber.group());
 
-                Matcher newElementIsotopeAtomicMass = NEW_ISOTOPE_ATOMIC_MASS.matcher(line);
-                newElementIsotopeAtomicMass.find(); // here we need only the first one!
-                var atomicMass = Double.parseDouble(newElementIsotopeAtomicMass.group());
-
                 var elem = Element.withAtomicNumber(currentElementNumber);
-                var iso = new Isotope(elem, currentName, massNumber, atomicMass);
-                data.add(iso);
+                data.add(parseIsotope(elem, currentName, massNumber, rawLine));
             }
         }
 
         return data;
     }
 
+    /**
+     * Parses the atomic mass and the isotopic composition (including their
+     * uncertainties) of an isotope from a line of the NIST file.
+     * 
+     * @param element    the element of the isotope
+     * @param name       the name of the isotope, e.g. "D"
+     * @param massNumber the mass number of the isotope
+     * @param rawLine    the (untrimmed) line
+     * @return the isotope
+     */
+    private static Isotope parseIsotope(Element element, String name, int massNumber, String rawLine) {
+        Matcher atomicMass = NEW_ISOTOPE_ATOMIC_MASS_WITH_UNCERTAINTY.matcher(rawLine);
+        atomicMass.find(); // here we need only the first one!
+        var mass = Double.parseDouble(atomicMass.group(1));
+        var massUncertainty = uncertainty(atomicMass.group(1), atomicMass.group(2));
+
+        // the fields after the atomic mass are the isotopic composition, the standard
+        // atomic weight and the notes, each of them possibly empty. The composition
+        // is the only one that is a plain value of at most 1, as the weights are
+        // either intervals or above 1 and the notes are letters
+        var abundance = 0.0;
+        String[] fields = rawLine.substring(atomicMass.end()).trim().split("\\s+");
+        Matcher composition = ISOTOPIC_COMPOSITION.matcher(fields[0]);
+        if (composition.matches() && Double.parseDouble(composition.group(1)) <= 1) {
+            abundance = Double.parseDouble(composition.group(1));
+        }
+
+        return new Isotope(element, name, massNumber, mass, massUncertainty, abundance);
+    }
+
+    /**
+     * Converts the concise notation of uncertainties to absolute values, e.g.
+     * "1.0078250322" with "9" to 9e-10.
+     * 
+     * @param value       the value, e.g. "1.0078250322"
+     * @param uncertainty the uncertainty of the last digits, e.g. "9"
+     * @return the absolute uncertainty
+     */
+    private static double uncertainty(String value, String uncertainty) {
+        int decimals = value.length() - value.indexOf('.') - 1;
+        return Double.parseDouble(uncertainty + "e-" + decimals);
+    }
+
     private static final String sanitizeNames(String name) {
         return switch (name) {
             case "Uup" -> Element.Mc.name();
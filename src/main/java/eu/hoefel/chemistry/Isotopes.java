@@ -1,153 +1,30 @@
 package eu.hoefel.chemistry;
 
+import java.util.List;
 import java.util.stream.Stream;
 
-import eu.hoefel.chemistry.Isotope.H;
-import eu.hoefel.chemistry.Isotope.He;
-import eu.hoefel.chemistry.Isotope.Li;
-import eu.hoefel.chemistry.Isotope.Be;
-import eu.hoefel.chemistry.Isotope.B;
-import eu.hoefel.chemistry.Isotope.C;
-import eu.hoefel.chemistry.Isotope.N;
-import eu.hoefel.chemistry.Isotope.O;
-import eu.hoefel.chemistry.Isotope.F;
-import eu.hoefel.chemistry.Isotope.Ne;
-import eu.hoefel.chemistry.Isotope.Na;
-import eu.hoefel.chemistry.Isotope.Mg;
-import eu.hoefel.chemistry.Isotope.Al;
-import eu.hoefel.chemistry.Isotope.Si;
-import eu.hoefel.chemistry.Isotope.P;
-import eu.hoefel.chemistry.Isotope.S;
-import eu.hoefel.chemistry.Isotope.Cl;
-import eu.hoefel.chemistry.Isotope.Ar;
-import eu.hoefel.chemistry.Isotope.K;
-import eu.hoefel.chemistry.Isotope.Ca;
-import eu.hoefel.chemistry.Isotope.Sc;
-import eu.hoefel.chemistry.Isotope.Ti;
-import eu.hoefel.chemistry.Isotope.V;
-import eu.hoefel.chemistry.Isotope.Cr;
-import eu.hoefel.chemistry.Isotope.Mn;
-import eu.hoefel.chemistry.Isotope.Fe;
-import eu.hoefel.chemistry.Isotope.Co;
-import eu.hoefel.chemistry.Isotope.Ni;
-import eu.hoefel.chemistry.Isotope.Cu;
-import eu.hoefel.chemistry.Isotope.Zn;
-import eu.hoefel.chemistry.Isotope.Ga;
-import eu.hoefel.chemistry.Isotope.Ge;
-import eu.hoefel.chemistry.Isotope.As;
-import eu.hoefel.chemistry.Isotope.Se;
-import eu.hoefel.chemistry.Isotope.Br;
-import eu.hoefel.chemistry.Isotope.Kr;
-import eu.hoefel.chemistry.Isotope.Rb;
-import eu.hoefel.chemistry.Isotope.Sr;
-import eu.hoefel.chemistry.Isotope.Y;
-import eu.hoefel.chemistry.Isotope.Zr;
-import eu.hoefel.chemistry.Isotope.Nb;
-import eu.hoefel.chemistry.Isotope.Mo;
-import eu.hoefel.chemistry.Isotope.Tc;
-import eu.hoefel.chemistry.Isotope.Ru;
-import eu.hoefel.chemistry.Isotope.Rh;
-import eu.hoefel.chemistry.Isotope.Pd;
-import eu.hoefel.chemistry.Isotope.Ag;
-import eu.hoefel.chemistry.Isotope.Cd;
-import eu.hoefel.chemistry.Isotope.In;
-import eu.hoefel.chemistry.Isotope.Sn;
-import eu.hoefel.chemistry.Isotope.Sb;
-import eu.hoefel.chemistry.Isotope.Te;
-import eu.hoefel.chemistry.Isotope.I;
-import eu.hoefel.chemistry.Isotope.Xe;
-import eu.hoefel.chemistry.Isotope.Cs;
-import eu.hoefel.chemistry.Isotope.Ba;
-import eu.hoefel.chemistry.Isotope.La;
-import eu.hoefel.chemistry.Isotope.Ce;
-import eu.hoefel.chemistry.Isotope.Pr;
-import eu.hoefel.chemistry.Isotope.Nd;
-import eu.hoefel.chemistry.Isotope.Pm;
-import eu.hoefel.chemistry.Isotope.Sm;
-import eu.hoefel.chemistry.Isotope.Eu;
-import eu.hoefel.chemistry.Isotope.Gd;
-import eu.hoefel.chemistry.Isotope.Tb;
-import eu.hoefel.chemistry.Isotope.Dy;
-import eu.hoefel.chemistry.Isotope.Ho;
-import eu.hoefel.chemistry.Isotope.Er;
-import eu.hoefel.chemistry.Isotope.Tm;
-import eu.hoefel.chemistry.Isotope.Yb;
-import eu.hoefel.chemistry.Isotope.Lu;
-import eu.hoefel.chemistry.Isotope.Hf;
-import eu.hoefel.chemistry.Isotope.Ta;
-import eu.hoefel.chemistry.Isotope.W;
-import eu.hoefel.chemistry.Isotope.Re;
-import eu.hoefel.chemistry.Isotope.Os;
-import eu.hoefel.chemistry.Isotope.Ir;
-import eu.hoefel.chemistry.Isotope.Pt;
-import eu.hoefel.chemistry.Isotope.Au;
-import eu.hoefel.chemistry.Isotope.Hg;
-import eu.hoefel.chemistry.Isotope.Tl;
-import eu.hoefel.chemistry.Isotope.Pb;
-import eu.hoefel.chemistry.Isotope.Bi;
-import eu.hoefel.chemistry.Isotope.Po;
-import eu.hoefel.chemistry.Isotope.At;
-import eu.hoefel.chemistry.Isotope.Rn;
-import eu.hoefel.chemistry.Isotope.Fr;
-import eu.hoefel.chemistry.Isotope.Ra;
-import eu.hoefel.chemistry.Isotope.Ac;
-import eu.hoefel.chemistry.Isotope.Th;
-import eu.hoefel.chemistry.Isotope.Pa;
-import eu.hoefel.chemistry.Isotope.U;
-import eu.hoefel.chemistry.Isotope.Np;
-import eu.hoefel.chemistry.Isotope.Pu;
-import eu.hoefel.chemistry.Isotope.Am;
-import eu.hoefel.chemistry.Isotope.Cm;
-import eu.hoefel.chemistry.Isotope.Bk;
-import eu.hoefel.chemistry.Isotope.Cf;
-import eu.hoefel.chemistry.Isotope.Es;
-import eu.hoefel.chemistry.Isotope.Fm;
-import eu.hoefel.chemistry.Isotope.Md;
-import eu.hoefel.chemistry.Isotope.No;
-import eu.hoefel.chemistry.Isotope.Lr;
-import eu.hoefel.chemistry.Isotope.Rf;
-import eu.hoefel.chemistry.Isotope.Db;
-import eu.hoefel.chemistry.Isotope.Sg;
-import eu.hoefel.chemistry.Isotope.Bh;
-import eu.hoefel.chemistry.Isotope.Hs;
-import eu.hoefel.chemistry.Isotope.Mt;
-import eu.hoefel.chemistry.Isotope.Ds;
-import eu.hoefel.chemistry.Isotope.Rg;
-import eu.hoefel.chemistry.Isotope.Cn;
-import eu.hoefel.chemistry.Isotope.Nh;
-import eu.hoefel.chemistry.Isotope.Fl;
-import eu.hoefel.chemistry.Isotope.Mc;
-import eu.hoefel.chemistry.Isotope.Lv;
-import eu.hoefel.chemistry.Isotope.Ts;
-import eu.hoefel.chemistry.Isotope.Og;
-
 /**
- * Utility methods for the {@link Isotope isotopes}.
+ * Utility methods for the {@link Isotope isotopes}. The isotopes of each
+ * element are a separate enum, which gets only initialized once an isotope of
+ * the element is requested.
  *
  * @see Isotope
  */
 final class Isotopes {
 
-    /** Represents all isotopes. */
-    private static final Isotope[] values;
+    /** All elements, to avoid the copy of {@code values()}. */
+    private static final Element[] elements = Element.values();
 
-    static {
-        Isotope[][] isotopes = {
-             H.values(), He.values(), Li.values(), Be.values(),  B.values(),  C.values(),  N.values(),  O.values(),  F.values(), Ne.values(),
-            Na.values(), Mg.values(), Al.values(), Si.values(),  P.values(),  S.values(), Cl.values(), Ar.values(),  K.values(), Ca.values(),
-            Sc.values(), Ti.values(),  V.values(), Cr.values(), Mn.values(), Fe.values(), Co.values(), Ni.values(), Cu.values(), Zn.values(),
-            Ga.values(), Ge.values(), As.values(), Se.values(), Br.values(), Kr.values(), Rb.values(), Sr.values(),  Y.values(), Zr.values(),
-            Nb.values(), Mo.values(), Tc.values(), Ru.values(), Rh.values(), Pd.values(), Ag.values(), Cd.values(), In.values(), Sn.values(),
-            Sb.values(), Te.values(),  I.values(), Xe.values(), Cs.values(), Ba.values(), La.values(), Ce.values(), Pr.values(), Nd.values(),
-            Pm.values(), Sm.values(), Eu.values(), Gd.values(), Tb.values(), Dy.values(), Ho.values(), Er.values(), Tm.values(), Yb.values(),
-            Lu.values(), Hf.values(), Ta.values(),  W.values(), Re.values(), Os.values(), Ir.values(), Pt.values(), Au.values(), Hg.values(),
-            Tl.values(), Pb.values(), Bi.values(), Po.values(), At.values(), Rn.values(), Fr.values(), Ra.values(), Ac.values(), Th.values(),
-            Pa.values(),  U.values(), Np.values(), Pu.values(), Am.values(), Cm.values(), Bk.values(), Cf.values(), Es.values(), Fm.values(),
-            Md.values(), No.values(), Lr.values(), Rf.values(), Db.values(), Sg.values(), Bh.values(), Hs.values(), Mt.values(), Ds.values(),
-            Rg.values(), Cn.values(), Nh.values(), Fl.values(), Mc.values(), Lv.values(), Ts.values(), Og.values() 
-        };
+    /** The isotopes by element, filled on first request. */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final List<Isotope>[] byElement = new List[elements.length];
 
-        values = Stream.of(isotopes).flatMap(Stream::of).toArray(Isotope[]::new);
+    /** Holder for all isotopes, to only initialize them if really needed. */
+    private static final class All {
+        private static final Isotope[] values = Stream.of(elements)
+                                                      .map(Isotopes::of)
+                                                      .flatMap(List::stream)
+                                                      .toArray(Isotope[]::new);
     }
 
     private Isotopes() {
@@ -160,6 +37,188 @@ final class Isotopes {
      * @return all isotopes
      */
     public static final Isotope[] values() {
-        return values.clone();
+        return All.values.clone();
+    }
+
+    /**
+     * Gets the isotopes of the given element.
+     *
+     * @param element the element
+     * @return the (unmodifiable) isotopes of the element
+     */
+    static final List<Isotope> of(Element element) {
+        // benign race, the lists are immutable
+        List<Isotope> isotopes = byElement[element.ordinal()];
+        if (isotopes == null) {
+            isotopes = List.of(valuesOf(element));
+            byElement[element.ordinal()] = isotopes;
+        }
+        return isotopes;
+    }
+
+    /**
+     * Parses the given name and returns the matching isotope, if found. As the
+     * isotopes are named by the element symbol followed by the mass number (apart
+     * from deuterium and tritium), only the isotopes of the corresponding element
+     * need to be checked.
+     *
+     * @param name the name, e.g. "He3"
+     * @return the corresponding isotope or null if no matching isotope has been
+     *         found
+     */
+    static final Isotope parseName(String name) {
+        if (name == null) return null;
+
+        // special cases
+        if ("D".equalsIgnoreCase(name) || "deuterium".equalsIgnoreCase(name)) return Isotope.H.D;
+        if ("T".equalsIgnoreCase(name) || "tritium".equalsIgnoreCase(name)) return Isotope.H.T;
+
+        int symbolLength = name.length();
+        while (symbolLength > 0 && Character.isDigit(name.charAt(symbolLength - 1))) {
+            symbolLength--;
+        }
+        if (symbolLength == 0 || symbolLength == name.length()) return null;
+
+        for (Element element : elements) {
+            String symbol = element.name();
+            if (symbol.length() == symbolLength && name.regionMatches(true, 0, symbol, 0, symbolLength)) {
+                for (Isotope isotope : of(element)) {
+                    if (isotope.toString().equalsIgnoreCase(name)) return isotope;
+                }
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the isotopes of the given element, without initializing the
+     * isotopes of any other element.
+     *
+     * @param element the element
+     * @return the isotopes of the element
+     */
+    private static final Isotope[] valuesOf(Element element) {
+        return switch (element) {
+            case H  -> Isotope.H.values();
+            case He -> Isotope.He.values();
+            case Li -> Isotope.Li.values();
+            case Be -> Isotope.Be.values();
+            case B  -> Isotope.B.values();
+            case C  -> Isotope.C.values();
+            case N  -> Isotope.N.values();
+            case O  -> Isotope.O.values();
+            case F  -> Isotope.F.values();
+            case Ne -> Isotope.Ne.values();
+            case Na -> Isotope.Na.values();
+            case Mg -> Isotope.Mg.values();
+            case Al -> Isotope.Al.values();
+            case Si -> Isotope.Si.values();
+            case P  -> Isotope.P.values();
+            case S  -> Isotope.S.values();
+            case Cl -> Isotope.Cl.values();
+            case Ar -> Isotope.Ar.values();
+            case K  -> Isotope.K.values();
+            case Ca -> Isotope.Ca.values();
+            case Sc -> Isotope.Sc.values();
+            case Ti -> Isotope.Ti.values();
+            case V  -> Isotope.V.values();
+            case Cr -> Isotope.Cr.values();
+            case Mn -> Isotope.Mn.values();
+            case Fe -> Isotope.Fe.values();
+            case Co -> Isotope.Co.values();
+            case Ni -> Isotope.Ni.values();
+            case Cu -> Isotope.Cu.values();
+            case Zn -> Isotope.Zn.values();
+            case Ga -> Isotope.Ga.values();
+            case Ge -> Isotope.Ge.values();
+            case As -> Isotope.As.values();
+            case Se -> Isotope.Se.values();
+            case Br -> Isotope.Br.values();
+            case Kr -> Isotope.Kr.values();
+            case Rb -> Isotope.Rb.values();
+            case Sr -> Isotope.Sr.values();
+            case Y  -> Isotope.Y.values();
+            case Zr -> Isotope.Zr.values();
+            case Nb -> Isotope.Nb.values();
+            case Mo -> Isotope.Mo.values();
+            case Tc -> Isotope.Tc.values();
+            case Ru -> Isotope.Ru.values();
+            case Rh -> Isotope.Rh.values();
+            case Pd -> Isotope.Pd.values();
+            case Ag -> Isotope.Ag.values();
+            case Cd -> Isotope.Cd.values();
+            case In -> Isotope.In.values();
+            case Sn -> Isotope.Sn.values();
+            case Sb -> Isotope.Sb.values();
+            case Te -> Isotope.Te.values();
+            case I  -> Isotope.I.values();
+            case Xe -> Isotope.Xe.values();
+            case Cs -> Isotope.Cs.values();
+            case Ba -> Isotope.Ba.values();
+            case La -> Isotope.La.values();
+            case Ce -> Isotope.Ce.values();
+            case Pr -> Isotope.Pr.values();
+            case Nd -> Isotope.Nd.values();
+            case Pm -> Isotope.Pm.values();
+            case Sm -> Isotope.Sm.values();
+            case Eu -> Isotope.Eu.values();
+            case Gd -> Isotope.Gd.values();
+            case Tb -> Isotope.Tb.values();
+            case Dy -> Isotope.Dy.values();
+            case Ho -> Isotope.Ho.values();
+            case Er -> Isotope.Er.values();
+            case Tm -> Isotope.Tm.values();
+            case Yb -> Isotope.Yb.values();
+            case Lu -> Isotope.Lu.values();
+            case Hf -> Isotope.Hf.values();
+            case Ta -> Isotope.Ta.values();
+            case W  -> Isotope.W.values();
+            case Re -> Isotope.Re.values();
+            case Os -> Isotope.Os.values();
+            case Ir -> Isotope.Ir.values();
+            case Pt -> Isotope.Pt.values();
+            case Au -> Isotope.Au.values();
+            case Hg -> Isotope.Hg.values();
+            case Tl -> Isotope.Tl.values();
+            case Pb -> Isotope.Pb.values();
+            case Bi -> Isotope.Bi.values();
+            case Po -> Isotope.Po.values();
+            case At -> Isotope.At.values();
+            case Rn -> Isotope.Rn.values();
+            case Fr -> Isotope.Fr.values();
+            case Ra -> Isotope.Ra.values();
+            case Ac -> Isotope.Ac.values();
+            case Th -> Isotope.Th.values();
+            case Pa -> Isotope.Pa.values();
+            case U  -> Isotope.U.values();
+            case Np -> Isotope.Np.values();
+            case Pu -> Isotope.Pu.values();
+            case Am -> Isotope.Am.values();
+            case Cm -> Isotope.Cm.values();
+            case Bk -> Isotope.Bk.values();
+            case Cf -> Isotope.Cf.values();
+            case Es -> Isotope.Es.values();
+            case Fm -> Isotope.Fm.values();
+            case Md -> Isotope.Md.values();
+            case No -> Isotope.No.values();
+            case Lr -> Isotope.Lr.values();
+            case Rf -> Isotope.Rf.values();
+            case Db -> Isotope.Db.values();
+            case Sg -> Isotope.Sg.values();
+            case Bh -> Isotope.Bh.values();
+            case Hs -> Isotope.Hs.values();
+            case Mt -> Isotope.Mt.values();
+            case Ds -> Isotope.Ds.values();
+            case Rg -> Isotope.Rg.values();
+            case Cn -> Isotope.Cn.values();
+            case Nh -> Isotope.Nh.values();
+            case Fl -> Isotope.Fl.values();
+            case Mc -> Isotope.Mc.values();
+            case Lv -> Isotope.Lv.values();
+            case Ts -> Isotope.Ts.values();
+            case Og -> Isotope.Og.values();
+        };
     }
 }
\ No newline at end of file
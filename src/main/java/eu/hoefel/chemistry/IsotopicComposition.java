@@ -0,0 +1,244 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * The natural isotopic composition of an {@link Element element}, i.e. its
+ * naturally occurring isotopes and their abundances. The isotopes are sorted by
+ * decreasing abundance (ties by increasing mass number), such that the first
+ * one is the most abundant one and e.g. sampling or the convolution of isotope
+ * patterns can stop early. The data is held in primitive arrays, read once from
+ * the nuclide data table, and does not require the isotope enums to be
+ * initialized.
+ * <p>
+ * Synthetic elements, as well as elements without a representative terrestrial
+ * composition (like technetium), have an empty composition.
+ *
+ * @see Isotope#abundance()
+ */
+public final class IsotopicComposition {
+
+    /** The compositions by element ordinal, filled on first request. */
+    private static final IsotopicComposition[] compositions = new IsotopicComposition[NuclideTable.MAX_ATOMIC_NUMBER];
+
+    private final Element element;
+    private final int[] massNumbers;
+    private final double[] masses;
+    private final double[] abundances;
+
+    /** The cumulative abundances, for sampling. */
+    private final double[] cumulative;
+
+    private IsotopicComposition(Element element, int[] massNumbers, double[] masses, double[] abundances) {
+        this.element = element;
+        this.massNumbers = massNumbers;
+        this.masses = masses;
+        this.abundances = abundances;
+
+        cumulative = new double[abundances.length];
+        double sum = 0;
+        for (int i = 0; i < abundances.length; i++) {
+            sum += abundances[i];
+            cumulative[i] = sum;
+        }
+    }
+
+    /**
+     * Gets the natural isotopic composition of the given element.
+     *
+     * @param element the element, not {@code null}
+     * @return the isotopic composition
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    public static IsotopicComposition of(Element element) {
+        Objects.requireNonNull(element);
+
+        // benign race, the compositions are immutable
+        IsotopicComposition composition = compositions[element.ordinal()];
+        if (composition == null) {
+            composition = load(element);
+            compositions[element.ordinal()] = composition;
+        }
+        return composition;
+    }
+
+    /**
+     * Reads the naturally occurring isotopes of the element from the nuclide data
+     * table and sorts them.
+     *
+     * @param element the element
+     * @return the isotopic composition
+     */
+    private static IsotopicComposition load(Element element) {
+        int z = element.atomicNumber();
+        int first = NuclideTable.first(z);
+        int end = NuclideTable.end(z);
+
+        Integer[] indices = new Integer[end - first];
+        int size = 0;
+        for (int i = first; i < end; i++) {
+            if (NuclideTable.abundance(i) > 0) indices[size++] = i;
+        }
+        indices = Arrays.copyOf(indices, size);
+        Arrays.sort(indices, (i, j) -> {
+            int cmp = Double.compare(NuclideTable.abundance(j), NuclideTable.abundance(i));
+            return cmp != 0 ? cmp : Integer.compare(i, j);
+        });
+
+        int[] massNumbers = new int[size];
+        double[] masses = new double[size];
+        double[] abundances = new double[size];
+        for (int i = 0; i < size; i++) {
+            massNumbers[i] = NuclideTable.massNumber(indices[i]);
+            masses[i] = NuclideTable.mass(indices[i]);
+            abundances[i] = NuclideTable.abundance(indices[i]);
+        }
+        return new IsotopicComposition(element, massNumbers, masses, abundances);
+    }
+
+    /**
+     * Gets the element.
+     *
+     * @return the element
+     */
+    public Element element() {
+        return element;
+    }
+
+    /**
+     * Gets the number of naturally occurring isotopes.
+     *
+     * @return the number of naturally occurring isotopes
+     */
+    public int size() {
+        return abundances.length;
+    }
+
+    /**
+     * Checks whether the element has no natural isotopic composition.
+     *
+     * @return true if no isotope of the element occurs naturally
+     */
+    public boolean isEmpty() {
+        return abundances.length == 0;
+    }
+
+    /**
+     * Gets the mass number of the i-th most abundant isotope.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the mass number
+     */
+    public int massNumber(int i) {
+        return massNumbers[i];
+    }
+
+    /**
+     * Gets the atomic mass of the i-th most abundant isotope.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the atomic mass in Da
+     */
+    public double mass(int i) {
+        return masses[i];
+    }
+
+    /**
+     * Gets the abundance of the i-th most abundant isotope.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the abundance as a fraction
+     */
+    public double abundance(int i) {
+        return abundances[i];
+    }
+
+    /**
+     * Gets the i-th most abundant isotope.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the isotope
+     */
+    public Isotope isotope(int i) {
+        int massNumber = massNumbers[i];
+        for (Isotope isotope : Isotopes.of(element)) {
+            if (isotope.massNumber() == massNumber) return isotope;
+        }
+        throw new IllegalStateException("Found no isotope of " + element + " with a mass number of " + massNumber);
+    }
+
+    /**
+     * Gets the atomic masses, sorted by decreasing abundance.
+     *
+     * @return the atomic masses in Da
+     */
+    public double[] masses() {
+        return masses.clone();
+    }
+
+    /**
+     * Gets the abundances, sorted decreasingly.
+     *
+     * @return the abundances as fractions
+     */
+    public double[] abundances() {
+        return abundances.clone();
+    }
+
+    /**
+     * Gets the mass of the most abundant isotope.
+     *
+     * @return the atomic mass in Da, or {@link Double#NaN NaN} if the composition
+     *         is empty
+     */
+    public double mostAbundantMass() {
+        return isEmpty() ? Double.NaN : masses[0];
+    }
+
+    /**
+     * Gets the average atomic mass, i.e. the abundance weighted mean of the
+     * isotope masses.
+     *
+     * @return the average atomic mass in Da, or {@link Double#NaN NaN} if the
+     *         composition is empty
+     */
+    public double averageMass() {
+        if (isEmpty()) return Double.NaN;
+
+        double mass = 0;
+        for (int i = 0; i < masses.length; i++) {
+            mass += masses[i] * abundances[i];
+        }
+        return mass / cumulative[cumulative.length - 1];
+    }
+
+    /**
+     * Draws the index of an isotope according to the abundances.
+     *
+     * @param random the random generator, not {@code null}
+     * @return the index of the drawn isotope, cf. e.g. {@link #mass(int)}
+     * @throws IllegalStateException if the composition is empty
+     */
+    public int sample(RandomGenerator random) {
+        if (isEmpty()) throw new IllegalStateException(element + " does not occur naturally");
+
+        double r = random.nextDouble() * cumulative[cumulative.length - 1];
+        // linear search, as the most abundant isotopes come first
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (r < cumulative[i]) return i;
+        }
+        return cumulative.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(element.name()).append('[');
+        for (int i = 0; i < massNumbers.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(massNumbers[i]).append('=').append(abundances[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
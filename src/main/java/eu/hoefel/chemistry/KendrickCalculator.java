@@ -0,0 +1,244 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Calculates Kendrick masses and Kendrick mass defects for a base unit, e.g.
+ * CH<sub>2</sub>. The Kendrick mass rescales the masses such that the base unit
+ * has an integer mass,
+ * <p>
+ * KM = m &middot; nominal(base) / exact(base),
+ * <p>
+ * and the Kendrick mass defect is KMD = round(KM) - KM. Compounds that only
+ * differ by multiples of the base unit (a homologous series) share the same
+ * defect, which allows to {@link #series(double[], double, int[]) group}
+ * large sets of masses quickly.
+ * <p>
+ * The bulk methods are plain loops over primitive arrays without calls or
+ * branches, which the JIT compiles to SIMD instructions.
+ */
+public final class KendrickCalculator {
+
+    /** The calculator for the methylene base unit, as used e.g. in petroleomics. */
+    public static final KendrickCalculator CH2 = of("CH2");
+
+    /** The calculator for the difluoromethylene base unit, e.g. for PFAS. */
+    public static final KendrickCalculator CF2 = of("CF2");
+
+    /** The calculator for the ethylene oxide base unit, e.g. for polyethylene glycols. */
+    public static final KendrickCalculator C2H4O = of("C2H4O");
+
+    private final Composition base;
+    private final int nominal;
+    private final double factor;
+
+    private KendrickCalculator(Composition base) {
+        this.base = base;
+        nominal = (int) base.mass(MassMode.NOMINAL);
+        factor = nominal / base.mass(MassMode.MONOISOTOPIC);
+    }
+
+    /**
+     * Gets the calculator for the given base unit.
+     *
+     * @param base the base unit, not {@code null} or empty
+     * @return the calculator
+     * @throws NullPointerException     if {@code base} is {@code null}
+     * @throws IllegalArgumentException if {@code base} is empty
+     */
+    public static KendrickCalculator of(Composition base) {
+        if (base.isEmpty()) throw new IllegalArgumentException("The base unit cannot be empty");
+        return new KendrickCalculator(base);
+    }
+
+    /**
+     * Gets the calculator for the given base unit.
+     *
+     * @param formula the base unit, e.g. "CH2", not {@code null}
+     * @return the calculator
+     * @throws NullPointerException     if {@code formula} is {@code null}
+     * @throws IllegalArgumentException if {@code formula} cannot be parsed or is
+     *                                  empty
+     */
+    public static KendrickCalculator of(String formula) {
+        return of(Composition.parse(formula));
+    }
+
+    /**
+     * Gets the base unit.
+     *
+     * @return the base unit
+     */
+    public Composition base() {
+        return base;
+    }
+
+    /**
+     * Gets the factor converting (monoisotopic) masses to Kendrick masses.
+     *
+     * @return the nominal mass of the base unit divided by its exact mass
+     */
+    public double factor() {
+        return factor;
+    }
+
+    /**
+     * Gets the Kendrick mass.
+     *
+     * @param mass the (monoisotopic) mass in Da
+     * @return the Kendrick mass
+     */
+    public double mass(double mass) {
+        return mass * factor;
+    }
+
+    /**
+     * Gets the Kendrick mass defect.
+     *
+     * @param mass the (monoisotopic) mass in Da
+     * @return the Kendrick mass defect
+     */
+    public double defect(double mass) {
+        double kendrick = mass * factor;
+        return Math.rint(kendrick) - kendrick;
+    }
+
+    /**
+     * Calculates the Kendrick masses of the given masses.
+     *
+     * @param masses    the (monoisotopic) masses in Da, not {@code null}
+     * @param kendricks the array to store the Kendrick masses in, at least as
+     *                  long as {@code masses}, may be {@code masses}
+     * @throws NullPointerException      if any of the arrays is {@code null}
+     * @throws IndexOutOfBoundsException if {@code kendricks} is too short
+     */
+    public void masses(double[] masses, double[] kendricks) {
+        Objects.checkFromIndexSize(0, masses.length, kendricks.length);
+        double f = factor;
+        for (int i = 0; i < masses.length; i++) {
+            kendricks[i] = masses[i] * f;
+        }
+    }
+
+    /**
+     * Calculates the Kendrick mass defects of the given masses.
+     *
+     * @param masses  the (monoisotopic) masses in Da, not {@code null}
+     * @param defects the array to store the Kendrick mass defects in, at least as
+     *                long as {@code masses}, may be {@code masses}
+     * @throws NullPointerException      if any of the arrays is {@code null}
+     * @throws IndexOutOfBoundsException if {@code defects} is too short
+     */
+    public void defects(double[] masses, double[] defects) {
+        Objects.checkFromIndexSize(0, masses.length, defects.length);
+        double f = factor;
+        for (int i = 0; i < masses.length; i++) {
+            double kendrick = masses[i] * f;
+            defects[i] = Math.rint(kendrick) - kendrick;
+        }
+    }
+
+    /**
+     * Groups the given masses into homologous series, i.e. masses that have the
+     * same Kendrick mass defect (within the tolerance) and whose nominal Kendrick
+     * masses differ by multiples of the nominal mass of the base unit. The
+     * defects are binned by the tolerance and the groups are found via a
+     * primitive hash table in a single pass, i.e. two masses whose defects are
+     * within the tolerance but in adjacent bins end up in different groups.
+     *
+     * @param masses    the (monoisotopic) masses in Da, not {@code null}
+     * @param tolerance the bin width of the defects, e.g. 0.001, positive
+     * @param groups    the array to store the group of each mass in, at least as
+     *                  long as {@code masses}; groups are numbered by their first
+     *                  occurrence
+     * @return the number of groups
+     * @throws NullPointerException      if any of the arrays is {@code null}
+     * @throws IllegalArgumentException  if {@code tolerance} is not positive
+     * @throws IndexOutOfBoundsException if {@code groups} is too short
+     */
+    public int series(double[] masses, double tolerance, int[] groups) {
+        Objects.checkFromIndexSize(0, masses.length, groups.length);
+        if (!(tolerance > 0)) throw new IllegalArgumentException("The tolerance needs to be positive, but was " + tolerance);
+
+        GroupTable table = new GroupTable(masses.length);
+        double f = factor;
+        double scale = 1 / tolerance;
+        for (int i = 0; i < masses.length; i++) {
+            double kendrick = masses[i] * f;
+            double rounded = Math.rint(kendrick);
+            long bin = (long) Math.rint((rounded - kendrick) * scale);
+            long residue = Math.floorMod((long) rounded, nominal);
+            groups[i] = table.group(bin * nominal + residue);
+        }
+        return table.size;
+    }
+
+    /** An open addressing hash table from the keys of the series to their group. */
+    private static final class GroupTable {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys;
+        private int[] values;
+        private int mask;
+        private int size;
+
+        private GroupTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, Math.min(expected, 1 << 20)) * 2 - 1) << 1;
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private int group(long key) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) return values[slot];
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            values[slot] = size;
+            if (++size * 2 > keys.length) grow();
+            return size - 1;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> 32) & mask;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            allocate(2 * oldKeys.length);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) continue;
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof KendrickCalculator other && base.equals(other.base);
+    }
+
+    @Override
+    public int hashCode() {
+        return base.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "KendrickCalculator[" + base + "]";
+    }
+}
@@ -0,0 +1,153 @@
+package eu.hoefel.chemistry;
+
+import java.util.Objects;
+
+/**
+ * A stable isotope label, i.e. an isotope enriched at the labelled positions
+ * of a compound. A labelled position carries the isotope with the probability
+ * given by the enrichment, and otherwise one of the other natural isotopes of
+ * the element (in their natural proportions).
+ * <p>
+ * The label states of a compound (0 to n labelled positions) only differ by
+ * multiples of the {@link #massShift(MassMode) mass shift}, so their masses
+ * are obtained from the mass of the unlabelled composition without
+ * recalculation, cf. {@link #masses(Composition, MassMode)}. For their isotope
+ * patterns see {@link IsotopePatternCalculator#calculateLabelled(Composition, Label)}.
+ *
+ * @param isotope    the isotope
+ * @param enrichment the fraction of the labelled positions carrying the
+ *                   isotope
+ * @see Composition#label(Isotope, int)
+ */
+public record Label(Isotope isotope, double enrichment) {
+
+    /** Fully enriched carbon-13. */
+    public static final Label C13 = of(Isotope.C.C13);
+
+    /** Fully enriched nitrogen-15. */
+    public static final Label N15 = of(Isotope.N.N15);
+
+    /** Fully enriched deuterium. */
+    public static final Label D = of(Isotope.H.D);
+
+    /** Fully enriched oxygen-18. */
+    public static final Label O18 = of(Isotope.O.O18);
+
+    /**
+     * Creates the label.
+     *
+     * @param isotope    the isotope, not {@code null}
+     * @param enrichment the fraction of the labelled positions carrying the
+     *                   isotope, in (0,1]
+     * @throws NullPointerException     if {@code isotope} is {@code null}
+     * @throws IllegalArgumentException if {@code enrichment} is out of range
+     */
+    public Label {
+        Objects.requireNonNull(isotope);
+        if (!(enrichment > 0 && enrichment <= 1)) {
+            throw new IllegalArgumentException("The enrichment needs to be in (0,1], but was " + enrichment);
+        }
+    }
+
+    /**
+     * Creates a fully enriched label.
+     *
+     * @param isotope the isotope, not {@code null}
+     * @return the label
+     * @throws NullPointerException if {@code isotope} is {@code null}
+     */
+    public static Label of(Isotope isotope) {
+        return new Label(isotope, 1);
+    }
+
+    /**
+     * Gets the labelled element.
+     *
+     * @return the element
+     */
+    public Element element() {
+        return isotope.element();
+    }
+
+    /**
+     * Gets the change of the mass per labelled position. For
+     * {@link MassMode#AVERAGE} this takes the enrichment into account, for the
+     * other modes it is the difference between the isotope and the unlabelled
+     * element, e.g. 1.00335 Da for {@link #C13}.
+     *
+     * @param mode the mass mode, not {@code null}
+     * @return the mass shift in Da
+     * @throws NullPointerException if {@code mode} is {@code null}
+     */
+    public double massShift(MassMode mode) {
+        if (mode != MassMode.AVERAGE) return mode.mass(isotope) - mode.mass(element());
+
+        int n = element().isotopicComposition().size() + 1;
+        int[] massNumbers = new int[n];
+        double[] masses = new double[n];
+        double[] probabilities = new double[n];
+        n = peaks(massNumbers, masses, probabilities);
+        double average = 0;
+        for (int i = 0; i < n; i++) {
+            average += masses[i] * probabilities[i];
+        }
+        return average - mode.mass(element());
+    }
+
+    /**
+     * Gets the masses of all label states of the given composition, i.e. with 0
+     * to n labelled positions, where n is the number of atoms of the labelled
+     * element.
+     *
+     * @param composition the unlabelled composition, not {@code null}
+     * @param mode        the mass mode, not {@code null}
+     * @return the masses in Da, indexed by the number of labelled positions
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public double[] masses(Composition composition, MassMode mode) {
+        double base = composition.mass(mode);
+        double shift = massShift(mode);
+        double[] masses = new double[composition.count(element()) + 1];
+        for (int k = 0; k < masses.length; k++) {
+            masses[k] = base + k * shift;
+        }
+        return masses;
+    }
+
+    /**
+     * Gets the isotopic distribution of a labelled position, i.e. the isotope
+     * and the other natural isotopes of the element.
+     *
+     * @param massNumbers   the array to store the mass numbers in, at least one
+     *                      longer than the natural composition
+     * @param masses        the array to store the masses in
+     * @param probabilities the array to store the probabilities in
+     * @return the number of isotopes
+     */
+    int peaks(int[] massNumbers, double[] masses, double[] probabilities) {
+        IsotopicComposition natural = element().isotopicComposition();
+        double others = 0;
+        for (int i = 0; i < natural.size(); i++) {
+            if (natural.massNumber(i) != isotope.massNumber()) others += natural.abundance(i);
+        }
+
+        massNumbers[0] = isotope.massNumber();
+        masses[0] = isotope.mass();
+        probabilities[0] = others > 0 ? enrichment : 1;
+        int n = 1;
+        if (others == 0 || enrichment == 1) return n;
+
+        for (int i = 0; i < natural.size(); i++) {
+            if (natural.massNumber(i) == isotope.massNumber()) continue;
+            massNumbers[n] = natural.massNumber(i);
+            masses[n] = natural.mass(i);
+            probabilities[n++] = (1 - enrichment) * natural.abundance(i) / others;
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return enrichment == 1 ? isotope.toString() : "%s (%s%%)".formatted(isotope, 100 * enrichment);
+    }
+}
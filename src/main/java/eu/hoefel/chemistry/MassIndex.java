@@ -0,0 +1,235 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable index of compounds, sorted by mass, for the lookup of candidates
+ * within a relative (ppm) mass tolerance, e.g. for the annotation of peaks in
+ * mass spectra. Lookups are binary searches on a primitive array and do not
+ * allocate. Many lookups are best done in bulk via
+ * {@link #query(double[], double, int[], int[])}, which merges the sorted
+ * queries with the index in a single pass.
+ * <p>
+ * A candidate with mass m matches a query mass M at a tolerance of x ppm if
+ * |m - M| &le; M&middot;x&middot;10<sup>-6</sup>.
+ *
+ * @param <T> the type of the compounds
+ */
+public final class MassIndex<T extends ChemicalCompound> {
+
+    private final MassMode mode;
+    private final double[] masses;
+    private final Object[] compounds;
+
+    private MassIndex(MassMode mode, double[] masses, Object[] compounds) {
+        this.mode = mode;
+        this.masses = masses;
+        this.compounds = compounds;
+    }
+
+    /**
+     * Creates the index of the given compounds.
+     *
+     * @param <T>       the type of the compounds
+     * @param compounds the compounds, not {@code null}
+     * @param mode      the mass to index, not {@code null}
+     * @return the index
+     * @throws NullPointerException     if {@code compounds} or {@code mode} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if the mass of any compound is not known
+     */
+    public static <T extends ChemicalCompound> MassIndex<T> of(Collection<? extends T> compounds, MassMode mode) {
+        Objects.requireNonNull(mode);
+
+        Object[] unsorted = compounds.toArray();
+        double[] unsortedMasses = new double[unsorted.length];
+        for (int i = 0; i < unsorted.length; i++) {
+            unsortedMasses[i] = ((ChemicalCompound) unsorted[i]).mass(mode);
+            if (Double.isNaN(unsortedMasses[i])) {
+                throw new IllegalArgumentException("Unknown mass of " + unsorted[i]);
+            }
+        }
+
+        int[] order = Sorting.order(unsortedMasses);
+        double[] masses = new double[order.length];
+        Object[] sorted = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            masses[i] = unsortedMasses[order[i]];
+            sorted[i] = unsorted[order[i]];
+        }
+        return new MassIndex<>(mode, masses, sorted);
+    }
+
+    /**
+     * Creates the index of the given formulas.
+     *
+     * @param formulas the chemical formulas, not {@code null}
+     * @param mode     the mass to index, not {@code null}
+     * @return the index
+     * @throws NullPointerException     if {@code formulas} or {@code mode} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if any formula cannot be parsed
+     * @see Composition#parse(String)
+     */
+    public static MassIndex<Composition> ofFormulas(Collection<String> formulas, MassMode mode) {
+        List<Composition> compositions = new ArrayList<>(formulas.size());
+        for (String formula : formulas) {
+            compositions.add(Composition.parse(formula));
+        }
+        return of(compositions, mode);
+    }
+
+    /**
+     * Creates the index of all molecules that are currently cached, i.e. that
+     * have been created before.
+     *
+     * @param mode the mass to index, not {@code null}
+     * @return the index
+     * @throws NullPointerException if {@code mode} is {@code null}
+     */
+    public static MassIndex<Molecule> ofCachedMolecules(MassMode mode) {
+        return of(Molecule.cached(), mode);
+    }
+
+    /**
+     * Gets the indexed mass.
+     *
+     * @return the mass mode
+     */
+    public MassMode mode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of indexed compounds.
+     *
+     * @return the number of compounds
+     */
+    public int size() {
+        return masses.length;
+    }
+
+    /**
+     * Gets the i-th lightest mass.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the mass in Da
+     */
+    public double mass(int i) {
+        return masses[i];
+    }
+
+    /**
+     * Gets the i-th lightest compound.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the compound
+     */
+    @SuppressWarnings("unchecked")
+    public T compound(int i) {
+        return (T) compounds[i];
+    }
+
+    /**
+     * Gets the index of the first compound with a mass of at least the given mass.
+     *
+     * @param mass the mass in Da
+     * @return the index, {@link #size()} if all compounds are lighter
+     */
+    public int lowerBound(double mass) {
+        return MassSearch.lowerBound(masses, mass, 0, masses.length);
+    }
+
+    /**
+     * Gets the index after the last compound with a mass of at most the given
+     * mass.
+     *
+     * @param mass the mass in Da
+     * @return the index, 0 if all compounds are heavier
+     */
+    public int upperBound(double mass) {
+        return MassSearch.upperBound(masses, mass, 0, masses.length);
+    }
+
+    /**
+     * Gets the index of the first candidate matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the index of the first candidate, cf. {@link #to(double, double)}
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public int from(double mass, double ppm) {
+        return lowerBound(mass - MassSearch.tolerance(mass, ppm));
+    }
+
+    /**
+     * Gets the index after the last candidate matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the index after the last candidate, cf.
+     *         {@link #from(double, double)}
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public int to(double mass, double ppm) {
+        return upperBound(mass + MassSearch.tolerance(mass, ppm));
+    }
+
+    /**
+     * Gets the number of candidates matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the number of candidates
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public int count(double mass, double ppm) {
+        return to(mass, ppm) - from(mass, ppm);
+    }
+
+    /**
+     * Gets the candidates matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the candidates, sorted by mass
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public List<T> candidates(double mass, double ppm) {
+        int from = from(mass, ppm);
+        int to = to(mass, ppm);
+        List<T> candidates = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            candidates.add(compound(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Looks up all the given masses at once. As both the queries and the index
+     * are sorted, the bounds of the candidate ranges only move forward, so the
+     * lookup is a merge of the two, where the bounds are advanced by galloping
+     * (exponential search), i.e. the costs are linear for dense queries and
+     * logarithmic for sparse ones. The candidates for {@code masses[i]} are
+     * {@code from[i]} (inclusive) to {@code to[i]} (exclusive).
+     *
+     * @param masses the (measured) masses in Da, sorted increasingly, not
+     *               {@code null}
+     * @param ppm    the tolerance in ppm
+     * @param from   the array to store the indices of the first candidates in, at
+     *               least as long as {@code masses}
+     * @param to     the array to store the indices after the last candidates in,
+     *               at least as long as {@code masses}
+     * @throws NullPointerException     if any of the arrays is {@code null}
+     * @throws IllegalArgumentException if {@code masses} is not sorted, the
+     *                                  output arrays are too short or
+     *                                  {@code ppm} is negative
+     */
+    public void query(double[] masses, double ppm, int[] from, int[] to) {
+        MassSearch.query(this.masses, masses, ppm, from, to);
+    }
+}
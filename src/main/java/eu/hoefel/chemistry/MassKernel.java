@@ -0,0 +1,26 @@
+package eu.hoefel.chemistry;
+
+/**
+ * A kernel for the multiply-add loops of {@link CompositionMatrix}. The
+ * implementation using the (incubating) Vector API is compiled separately from
+ * the rest of the module, such that the main compilation does not depend on
+ * {@code jdk.incubator.vector}, and it is only loaded if the module is
+ * available, cf. {@link CompositionMatrix#VECTORIZED}.
+ */
+interface MassKernel {
+
+    /**
+     * Multiplies the counts by the factor and stores or adds them, i.e.
+     * {@code out[i] = counts[offset + i] * factor (+ out[i])}. The products are
+     * rounded before they are added (i.e. no fused multiply-add), such that all
+     * implementations give the same results.
+     *
+     * @param counts the counts
+     * @param offset the index of the first count
+     * @param factor the factor, e.g. a mass
+     * @param out    the array to store the results in
+     * @param n      the number of values
+     * @param add    whether to add to the values in {@code out}
+     */
+    void multiply(int[] counts, int offset, double factor, double[] out, int n, boolean add);
+}
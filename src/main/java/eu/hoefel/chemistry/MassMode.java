@@ -0,0 +1,96 @@
+package eu.hoefel.chemistry;
+
+/**
+ * The different masses of a compound as used e.g. in mass spectrometry. The
+ * masses of all nuclides are precomputed (on first use) in a single primitive
+ * table, such that the mass of a {@link Composition} can be computed without
+ * any lookups of isotopes.
+ *
+ * @see ChemicalCompound#mass(MassMode)
+ */
+public enum MassMode {
+
+    /**
+     * The average mass, i.e. the abundance weighted mean of the isotope masses
+     * (cf. {@link ChemicalCompound#mass()}).
+     */
+    AVERAGE,
+
+    /**
+     * The monoisotopic mass, i.e. the mass of the compound if all elements are
+     * their most abundant isotope.
+     */
+    MONOISOTOPIC,
+
+    /**
+     * The nominal mass, i.e. the sum of the mass numbers of the most abundant
+     * isotopes.
+     */
+    NOMINAL;
+
+    /** The number of modes, i.e. the stride in {@link Table#masses}. */
+    static final int MODES = 3;
+
+    /**
+     * Holder for the masses, to only compute them if really needed. The masses of
+     * the nuclide with id i are at {@code MODES * i + mode.ordinal()}.
+     */
+    private static final class Table {
+        private static final double[] masses = new double[MODES * Nuclides.SIZE];
+
+        static {
+            for (Element element : Element.values()) {
+                int id = Nuclides.id(element);
+                IsotopicComposition composition = element.isotopicComposition();
+                masses[MODES * id] = element.mass();
+                if (composition.isEmpty()) {
+                    // synthetic elements, here the mass is the one of the most stable isotope
+                    masses[MODES * id + 1] = element.mass();
+                    masses[MODES * id + 2] = Math.round(element.mass());
+                } else {
+                    masses[MODES * id + 1] = composition.mass(0);
+                    masses[MODES * id + 2] = composition.massNumber(0);
+                }
+            }
+
+            for (int index = 0; index < NuclideTable.size(); index++) {
+                int id = Nuclides.isotopeId(index);
+                masses[MODES * id] = NuclideTable.mass(index);
+                masses[MODES * id + 1] = NuclideTable.mass(index);
+                masses[MODES * id + 2] = NuclideTable.massNumber(index);
+            }
+        }
+    }
+
+    /**
+     * Gets the mass of the given nuclide in this mode. For isotopes, all modes
+     * apart from {@link #NOMINAL} yield the atomic mass.
+     *
+     * @param nuclide the nuclide, not {@code null}
+     * @return the mass in Da
+     * @throws NullPointerException if {@code nuclide} is {@code null}
+     */
+    public double mass(Nuclide nuclide) {
+        return mass(Nuclides.id(nuclide));
+    }
+
+    /**
+     * Gets the mass of the nuclide with the given dense id.
+     *
+     * @param id the id, cf. {@link Nuclides}
+     * @return the mass in Da
+     */
+    double mass(int id) {
+        return Table.masses[MODES * id + ordinal()];
+    }
+
+    /**
+     * Gets the table of masses, where the masses of the nuclide with id i are at
+     * {@code MODES * i + mode.ordinal()}. Must not be modified.
+     *
+     * @return the table of masses
+     */
+    static double[] table() {
+        return Table.masses;
+    }
+}
@@ -0,0 +1,146 @@
+package eu.hoefel.chemistry;
+
+/**
+ * Searches in sorted arrays of masses, as used by the mass indices.
+ *
+ * @see MassIndex
+ * @see PeptideIndex
+ */
+final class MassSearch {
+
+    private MassSearch() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the absolute tolerance.
+     *
+     * @param mass the mass in Da
+     * @param ppm  the relative tolerance in ppm
+     * @return the absolute tolerance in Da
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    static double tolerance(double mass, double ppm) {
+        return Math.abs(mass) * requireValidPpm(ppm) * 1e-6;
+    }
+
+    /**
+     * Checks that the relative tolerance is non-negative.
+     *
+     * @param ppm the relative tolerance in ppm
+     * @return the relative tolerance
+     * @throws IllegalArgumentException if {@code ppm} is negative (or NaN)
+     */
+    static double requireValidPpm(double ppm) {
+        if (!(ppm >= 0)) throw new IllegalArgumentException("The tolerance needs to be non-negative, but was " + ppm);
+        return ppm;
+    }
+
+    /**
+     * Gets the index of the first mass of at least the given mass.
+     *
+     * @param masses the sorted masses
+     * @param mass   the mass in Da
+     * @param low    the first index to consider
+     * @param high   the index after the last index to consider
+     * @return the index, {@code high} if all masses are lighter
+     */
+    static int lowerBound(double[] masses, double mass, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (masses[mid] < mass) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the index after the last mass of at most the given mass.
+     *
+     * @param masses the sorted masses
+     * @param mass   the mass in Da
+     * @param low    the first index to consider
+     * @param high   the index after the last index to consider
+     * @return the index, {@code low} if all masses are heavier
+     */
+    static int upperBound(double[] masses, double mass, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (masses[mid] <= mass) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Looks up all the given masses at once. As both the queries and the masses
+     * are sorted, the bounds of the candidate ranges only move forward, so the
+     * lookup is a merge of the two, where the bounds are advanced by galloping
+     * (exponential search), i.e. the costs are linear for dense queries and
+     * logarithmic for sparse ones.
+     *
+     * @param masses  the sorted masses
+     * @param queries the (measured) masses in Da, sorted increasingly
+     * @param ppm     the tolerance in ppm
+     * @param from    the array to store the indices of the first candidates in
+     * @param to      the array to store the indices after the last candidates in
+     * @throws IllegalArgumentException if {@code queries} is not sorted, the
+     *                                  output arrays are too short or
+     *                                  {@code ppm} is negative
+     */
+    static void query(double[] masses, double[] queries, double ppm, int[] from, int[] to) {
+        requireValidPpm(ppm);
+        if (from.length < queries.length || to.length < queries.length) {
+            throw new IllegalArgumentException("The output arrays need to hold at least %d values"
+                    .formatted(queries.length));
+        }
+
+        int low = 0;
+        int high = 0;
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < queries.length; i++) {
+            double mass = queries[i];
+            if (!(mass >= previous)) {
+                throw new IllegalArgumentException("The masses need to be sorted, but %s follows %s"
+                        .formatted(mass, previous));
+            }
+            previous = mass;
+
+            double tolerance = tolerance(mass, ppm);
+            low = gallopLowerBound(masses, mass - tolerance, low);
+            high = gallopUpperBound(masses, mass + tolerance, Math.max(low, high));
+            from[i] = low;
+            to[i] = high;
+        }
+    }
+
+    /** Gets the lower bound, knowing that it is at least {@code start}. */
+    private static int gallopLowerBound(double[] masses, double mass, int start) {
+        int step = 1;
+        int end = start;
+        while (end < masses.length && masses[end] < mass) {
+            start = end + 1;
+            end += step;
+            step <<= 1;
+        }
+        return lowerBound(masses, mass, start, Math.min(end, masses.length));
+    }
+
+    /** Gets the upper bound, knowing that it is at least {@code start}. */
+    private static int gallopUpperBound(double[] masses, double mass, int start) {
+        int step = 1;
+        int end = start;
+        while (end < masses.length && masses[end] <= mass) {
+            start = end + 1;
+            end += step;
+            step <<= 1;
+        }
+        return upperBound(masses, mass, start, Math.min(end, masses.length));
+    }
+}
@@ -0,0 +1,470 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * An immutable mixture of compounds, i.e. a non-pure compound, e.g. air as
+ * 78.1% N2, 20.9% O2 and 0.9% Ar by amount of substance. Its {@link #mass()
+ * mass} is the average molar mass (in g/mol, or u per molecule), with the
+ * molar masses of the components being the average masses of their
+ * compositions.
+ * <p>
+ * The components are converted to their {@link Composition compositions} once,
+ * and the molar masses of the components, the average molar mass and the amount
+ * of each nuclide per average molecule are cached in primitive arrays. Changing
+ * the fraction of one component (with the others scaled proportionally) via
+ * {@link #withMoleFraction(int, double)} or
+ * {@link #withMassFraction(int, double)} updates these quantities
+ * incrementally instead of recomputing them from the compositions.
+ */
+public final class Mixture implements ChemicalCompound {
+
+    private final List<ChemicalCompound> components;
+
+    /** The compositions of the components. */
+    private final Composition[] compositions;
+
+    /** The (average) molar masses of the components. */
+    private final double[] molarMasses;
+
+    /** The sorted ids of the nuclides of all components, cf. {@link Nuclides}. */
+    private final int[] ids;
+
+    /** The count of the j-th nuclide in the i-th component at {@code i * ids.length + j}. */
+    private final double[] counts;
+
+    /** The normalized mole fractions of the components. */
+    private final double[] moleFractions;
+
+    /** The average molar mass. */
+    private final double mass;
+
+    /** The amount of each nuclide per average molecule. */
+    private final double[] amounts;
+
+    /** The lazily computed nuclides, cf. {@link #nuclides()}. */
+    private Set<Nuclide> nuclides;
+
+    /** The lazily computed elemental mass fractions, cf. {@link #elementalMassFractions()}. */
+    private Map<Element, Double> elementalMassFractions;
+
+    private Mixture(List<ChemicalCompound> components, Composition[] compositions, double[] molarMasses, int[] ids,
+            double[] counts, double[] moleFractions, double mass, double[] amounts) {
+        this.components = components;
+        this.compositions = compositions;
+        this.molarMasses = molarMasses;
+        this.ids = ids;
+        this.counts = counts;
+        this.moleFractions = moleFractions;
+        this.mass = mass;
+        this.amounts = amounts;
+    }
+
+    /**
+     * Gets the mixture of the given components with the given mole fractions, e.g.
+     * {@code Mixture.ofMoleFractions(List.of(water, ethanol), new double[] { 0.9, 0.1 })}.
+     * The fractions are normalized, i.e. they may be given as amounts of substance.
+     *
+     * @param components    the components, not {@code null}
+     * @param moleFractions the non-negative mole fractions of the components, not
+     *                      {@code null}
+     * @return the mixture
+     * @throws NullPointerException     if any argument or component is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if the composition of any component is not
+     *                                  known, the number of fractions does not
+     *                                  match, any fraction is negative or not
+     *                                  finite, or all fractions are 0
+     */
+    public static Mixture ofMoleFractions(List<? extends ChemicalCompound> components, double[] moleFractions) {
+        return of(components, moleFractions, false);
+    }
+
+    /**
+     * Gets the mixture of the given components with the given mass fractions. The
+     * fractions are normalized, i.e. they may be given as masses.
+     *
+     * @param components    the components, not {@code null}
+     * @param massFractions the non-negative mass fractions of the components, not
+     *                      {@code null}
+     * @return the mixture
+     * @throws NullPointerException     if any argument or component is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if the composition of any component is not
+     *                                  known or has no mass, the number of
+     *                                  fractions does not match, any fraction is
+     *                                  negative or not finite, or all fractions are
+     *                                  0
+     */
+    public static Mixture ofMassFractions(List<? extends ChemicalCompound> components, double[] massFractions) {
+        return of(components, massFractions, true);
+    }
+
+    private static Mixture of(List<? extends ChemicalCompound> components, double[] fractions, boolean byMass) {
+        int n = components.size();
+        if (n != fractions.length) {
+            throw new IllegalArgumentException("The number of fractions needs to match the number of components");
+        }
+
+        Composition[] compositions = new Composition[n];
+        double[] molarMasses = new double[n];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            compositions[i] = Composition.of(components.get(i));
+            molarMasses[i] = compositions[i].mass(MassMode.AVERAGE);
+            if (byMass && !(molarMasses[i] > 0)) {
+                throw new IllegalArgumentException("The mass of %s needs to be positive".formatted(components.get(i)));
+            }
+            size += compositions[i].size();
+        }
+
+        int[] ids = new int[size];
+        size = 0;
+        for (Composition composition : compositions) {
+            for (int j = 0; j < composition.size(); j++) {
+                ids[size++] = composition.id(j);
+            }
+        }
+        ids = Arrays.stream(ids).sorted().distinct().toArray();
+
+        double[] counts = new double[n * ids.length];
+        for (int i = 0; i < n; i++) {
+            Composition composition = compositions[i];
+            for (int j = 0; j < composition.size(); j++) {
+                counts[i * ids.length + Arrays.binarySearch(ids, composition.id(j))] = composition.count(j);
+            }
+        }
+
+        double[] moleFractions = new double[n];
+        if (byMass) {
+            toMoleFractions(fractions, molarMasses, moleFractions);
+        } else {
+            System.arraycopy(fractions, 0, moleFractions, 0, n);
+            normalize(moleFractions);
+        }
+
+        double mass = 0;
+        double[] amounts = new double[ids.length];
+        for (int i = 0; i < n; i++) {
+            mass += moleFractions[i] * molarMasses[i];
+            for (int j = 0; j < ids.length; j++) {
+                amounts[j] += moleFractions[i] * counts[i * ids.length + j];
+            }
+        }
+        return new Mixture(List.copyOf(components), compositions, molarMasses, ids, counts, moleFractions, mass,
+                amounts);
+    }
+
+    /**
+     * Converts the given mass fractions to mole fractions.
+     *
+     * @param massFractions the non-negative mass fractions, normalized or not, not
+     *                      {@code null}
+     * @param molarMasses   the positive molar masses, not {@code null}
+     * @param moleFractions the array for the (normalized) mole fractions, which
+     *                      may be the array of the mass fractions, not
+     *                      {@code null}
+     * @throws NullPointerException     if any array is {@code null}
+     * @throws IllegalArgumentException if the lengths differ, any fraction is
+     *                                  negative or not finite, or all fractions are
+     *                                  0
+     */
+    public static void toMoleFractions(double[] massFractions, double[] molarMasses, double[] moleFractions) {
+        convert(massFractions, molarMasses, moleFractions, true);
+    }
+
+    /**
+     * Converts the given mole fractions to mass fractions.
+     *
+     * @param moleFractions the non-negative mole fractions, normalized or not, not
+     *                      {@code null}
+     * @param molarMasses   the positive molar masses, not {@code null}
+     * @param massFractions the array for the (normalized) mass fractions, which
+     *                      may be the array of the mole fractions, not
+     *                      {@code null}
+     * @throws NullPointerException     if any array is {@code null}
+     * @throws IllegalArgumentException if the lengths differ, any fraction is
+     *                                  negative or not finite, or all fractions are
+     *                                  0
+     */
+    public static void toMassFractions(double[] moleFractions, double[] molarMasses, double[] massFractions) {
+        convert(moleFractions, molarMasses, massFractions, false);
+    }
+
+    private static void convert(double[] fractions, double[] molarMasses, double[] out, boolean divide) {
+        if (fractions.length != molarMasses.length || fractions.length != out.length) {
+            throw new IllegalArgumentException("The lengths of the fractions and molar masses need to be equal");
+        }
+
+        for (int i = 0; i < fractions.length; i++) {
+            out[i] = divide ? fractions[i] / molarMasses[i] : fractions[i] * molarMasses[i];
+        }
+        normalize(out);
+    }
+
+    /** Normalizes the given fractions to a sum of 1. */
+    private static void normalize(double[] fractions) {
+        double sum = 0;
+        for (double fraction : fractions) {
+            if (!(fraction >= 0) || Double.isInfinite(fraction)) {
+                throw new IllegalArgumentException("The fractions need to be non-negative and finite, but were "
+                        + Arrays.toString(fractions));
+            }
+            sum += fraction;
+        }
+        if (sum == 0) throw new IllegalArgumentException("At least one fraction needs to be positive");
+
+        for (int i = 0; i < fractions.length; i++) {
+            fractions[i] /= sum;
+        }
+    }
+
+    /**
+     * Gets the number of components.
+     *
+     * @return the number of components
+     */
+    public int size() {
+        return components.size();
+    }
+
+    /**
+     * Gets the components.
+     *
+     * @return the (unmodifiable) components
+     */
+    public List<ChemicalCompound> components() {
+        return components;
+    }
+
+    /**
+     * Gets the mole fraction of the i-th component.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the mole fraction
+     */
+    public double moleFraction(int i) {
+        return moleFractions[i];
+    }
+
+    /**
+     * Gets the mass fraction of the i-th component.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the mass fraction
+     */
+    public double massFraction(int i) {
+        return moleFractions[i] * molarMasses[i] / mass;
+    }
+
+    /**
+     * Gets the mole fractions of the components.
+     *
+     * @return the mole fractions, in the order of the components
+     */
+    public double[] moleFractions() {
+        return moleFractions.clone();
+    }
+
+    /**
+     * Gets the mass fractions of the components.
+     *
+     * @return the mass fractions, in the order of the components
+     */
+    public double[] massFractions() {
+        double[] massFractions = new double[moleFractions.length];
+        toMassFractions(moleFractions, molarMasses, massFractions);
+        return massFractions;
+    }
+
+    /**
+     * Gets the mixture where the i-th component has the given mole fraction, with
+     * the mole fractions of the other components scaled proportionally. The
+     * derived quantities are updated incrementally.
+     *
+     * @param i        the index, from 0 to {@link #size()} (exclusive)
+     * @param fraction the new mole fraction, from 0 to 1
+     * @return the mixture
+     * @throws IllegalArgumentException if {@code fraction} is out of range, or the
+     *                                  other components have no fraction to scale
+     */
+    public Mixture withMoleFraction(int i, double fraction) {
+        Objects.checkIndex(i, moleFractions.length);
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("The fraction needs to be within [0, 1], but was " + fraction);
+        }
+        if (fraction == moleFractions[i]) return this;
+
+        double others = 1 - moleFractions[i];
+        if (!(others > 0) && fraction < 1) {
+            throw new IllegalArgumentException("Cannot distribute the fraction among the other components");
+        }
+        double scale = fraction == 1 ? 0 : (1 - fraction) / others;
+
+        double[] newFractions = new double[moleFractions.length];
+        for (int k = 0; k < newFractions.length; k++) {
+            newFractions[k] = k == i ? fraction : scale * moleFractions[k];
+        }
+
+        // x' M_i + s (M - x M_i), likewise for the amounts of the nuclides
+        double x = moleFractions[i];
+        double newMass = fraction * molarMasses[i] + scale * (mass - x * molarMasses[i]);
+        double[] newAmounts = new double[amounts.length];
+        int offset = i * ids.length;
+        for (int j = 0; j < amounts.length; j++) {
+            newAmounts[j] = Math.max(0, fraction * counts[offset + j] + scale * (amounts[j] - x * counts[offset + j]));
+        }
+        return new Mixture(components, compositions, molarMasses, ids, counts, newFractions, newMass, newAmounts);
+    }
+
+    /**
+     * Gets the mixture where the i-th component has the given mass fraction, with
+     * the mass fractions of the other components scaled proportionally. The
+     * derived quantities are updated incrementally.
+     *
+     * @param i        the index, from 0 to {@link #size()} (exclusive)
+     * @param fraction the new mass fraction, from 0 to 1
+     * @return the mixture
+     * @throws IllegalArgumentException if {@code fraction} is out of range, or the
+     *                                  other components have no fraction to scale
+     */
+    public Mixture withMassFraction(int i, double fraction) {
+        Objects.checkIndex(i, moleFractions.length);
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("The fraction needs to be within [0, 1], but was " + fraction);
+        }
+
+        // scaling the other mass fractions proportionally keeps their mole ratios, so
+        // only the mole fraction of the component changes: with w the mass fraction
+        // and M' the average molar mass of the others, x = (w / M_i) / (w / M_i + (1 - w) / M')
+        double x = moleFractions[i];
+        double others = 1 - x;
+        if (fraction == 1 || !(others > 0)) return withMoleFraction(i, fraction);
+
+        double othersMass = (mass - x * molarMasses[i]) / others;
+        double moles = fraction / molarMasses[i];
+        return withMoleFraction(i, moles / (moles + (1 - fraction) / othersMass));
+    }
+
+    @Override
+    public double mass() {
+        return mass;
+    }
+
+    @Override
+    public double mass(MassMode mode) {
+        if (mode == MassMode.AVERAGE) return mass;
+
+        double mass = 0;
+        for (int j = 0; j < ids.length; j++) {
+            mass += amounts[j] * mode.mass(ids[j]);
+        }
+        return mass;
+    }
+
+    /**
+     * Gets the mass fraction of the given element including its isotopes.
+     *
+     * @param element the element, not {@code null}
+     * @return the mass fraction, 0 if not contained
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    public double massFraction(Element element) {
+        int atomicNumber = element.atomicNumber();
+        double elementMass = 0;
+        for (int j = 0; j < ids.length; j++) {
+            if (Nuclides.atomicNumber(ids[j]) == atomicNumber) {
+                elementMass += amounts[j] * MassMode.AVERAGE.mass(ids[j]);
+            }
+        }
+        return elementMass / mass;
+    }
+
+    /**
+     * Gets the mass fractions of the contained elements (including their
+     * isotopes).
+     *
+     * @return the (unmodifiable) elements and their mass fraction, in the order
+     *         of increasing atomic number
+     */
+    public Map<Element, Double> elementalMassFractions() {
+        Map<Element, Double> fractions = elementalMassFractions;
+        if (fractions == null) {
+            Map<Element, Double> map = new EnumMap<>(Element.class);
+            for (int j = 0; j < ids.length; j++) {
+                if (amounts[j] > 0) {
+                    map.merge(Nuclides.element(ids[j]), amounts[j] * MassMode.AVERAGE.mass(ids[j]) / mass, Double::sum);
+                }
+            }
+            fractions = Collections.unmodifiableMap(map);
+            elementalMassFractions = fractions;
+        }
+        return fractions;
+    }
+
+    /**
+     * Gets the amount of the given nuclide per average molecule, e.g. 1.56 N for
+     * air. Note that isotopes are counted separately from their element, cf.
+     * {@link Composition#count(Nuclide)}.
+     *
+     * @param nuclide the nuclide, not {@code null}
+     * @return the amount, 0 if not contained
+     * @throws NullPointerException if {@code nuclide} is {@code null}
+     */
+    public double amount(Nuclide nuclide) {
+        int j = Arrays.binarySearch(ids, Nuclides.id(nuclide));
+        return j < 0 ? 0 : amounts[j];
+    }
+
+    /**
+     * Gets the nuclides of the components with a positive fraction.
+     *
+     * @return the (unmodifiable) nuclides
+     */
+    @Override
+    public Set<Nuclide> nuclides() {
+        Set<Nuclide> set = nuclides;
+        if (set == null) {
+            Set<Nuclide> contained = new LinkedHashSet<>();
+            for (int j = 0; j < ids.length; j++) {
+                if (amounts[j] > 0) contained.add(Nuclides.nuclide(ids[j]));
+            }
+            set = Collections.unmodifiableSet(contained);
+            nuclides = set;
+        }
+        return set;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Mixture other && components.equals(other.components)
+                && Arrays.equals(moleFractions, other.moleFractions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * components.hashCode() + Arrays.hashCode(moleFractions);
+    }
+
+    /**
+     * Gets the components as Hill formulas with their mole fractions, e.g.
+     * "Mixture[N2 0.781, O2 0.209, Ar 0.00934]".
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "Mixture[", "]");
+        for (int i = 0; i < compositions.length; i++) {
+            joiner.add(String.format(Locale.ENGLISH, "%s %.3g", compositions[i].hill(), moleFractions[i]));
+        }
+        return joiner.toString();
+    }
+}
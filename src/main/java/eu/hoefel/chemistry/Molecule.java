@@ -1,5 +1,8 @@
 package eu.hoefel.chemistry;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,14 +18,24 @@ import eu.hoefel.jatex.Texable;
  * Record for handling all kind of molecules. Note that the first call for a
  * given name may be slow, subsequent calls should be fast as the results of the
  * first call are cached. Note further that non-valid molecule names (that
- * includes elements!) will throw an exception.
+ * includes elements!) will throw an exception. The information is fetched from
+ * the <a href="https://cactus.nci.nih.gov/chemical/structure">CACTUS</a>
+ * resolver, unless the system property {@code eu.hoefel.chemistry.resolver}
+ * points to a different one.
  * 
  * @param name the name, e.g. "hydroxychloroquine", "water" or "h2o"
  */
 public final record Molecule(String name) implements ChemicalCompound, Texable {
 
+    /** The name of the molecule cache, as used in the {@link ChemistryMetrics}. */
+    static final String CACHE_NAME = "molecule";
+
     private static final ConcurrentMap<String, MoleculeInfo> info = new ConcurrentHashMap<>();
 
+    static {
+        ChemistryMetrics.registerCache(CACHE_NAME, info::size);
+    }
+
     /**
      * Gets a new molecule with the specified name.
      * 
@@ -33,7 +46,20 @@ public final record Molecule(String name) implements ChemicalCompound, Texable {
     public Molecule {
         Objects.requireNonNull(name);
 
-        MoleculeInfo mi = info.computeIfAbsent(name, MoleculeInfo::forMolecule);
+        MoleculeInfo mi = info.get(name);
+        if (mi == null) {
+            // only the thread that actually fetches records the miss, concurrent
+            // requests for the same molecule wait for it and count as hits
+            boolean[] fetched = { false };
+            mi = info.computeIfAbsent(name, key -> {
+                fetched[0] = true;
+                ChemistryMetrics.cacheMiss(CACHE_NAME);
+                return MoleculeInfo.forMolecule(key);
+            });
+            if (!fetched[0]) ChemistryMetrics.cacheHit(CACHE_NAME);
+        } else {
+            ChemistryMetrics.cacheHit(CACHE_NAME);
+        }
 
         if (!mi.isValid()) {
             throw new IllegalArgumentException(
@@ -41,6 +67,60 @@ public final record Molecule(String name) implements ChemicalCompound, Texable {
         }
     }
 
+    /**
+     * Gets all valid molecules that are currently cached.
+     * 
+     * @return the cached molecules
+     */
+    static final List<Molecule> cached() {
+        return info.entrySet()
+                   .stream()
+                   .filter(entry -> entry.getValue().isValid())
+                   .map(entry -> new Molecule(entry.getKey()))
+                   .toList();
+    }
+
+    /**
+     * Writes the information of all valid cached molecules, e.g. to ship it to
+     * another service or to disk, cf. {@link BinaryCodec}.
+     * 
+     * @param out the output to write to, not {@code null}
+     * @return the number of molecules written
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IOException          if the output cannot be written
+     * @see #readCache(DataInput)
+     */
+    public static final int writeCache(DataOutput out) throws IOException {
+        List<MoleculeInfo> infos = info.values().stream().filter(MoleculeInfo::isValid).toList();
+        out.writeInt(infos.size());
+        for (MoleculeInfo mi : infos) {
+            BinaryCodec.write(mi, out);
+        }
+        return infos.size();
+    }
+
+    /**
+     * Reads the information of molecules written via
+     * {@link #writeCache(DataOutput)} into the cache, such that they are not
+     * fetched from the resolver. Molecules that are already cached are kept.
+     * 
+     * @param in the input to read from, not {@code null}
+     * @return the number of molecules read
+     * @throws NullPointerException     if {@code in} is {@code null}
+     * @throws IllegalArgumentException if the input is invalid
+     * @throws IOException              if the input cannot be read
+     */
+    public static final int readCache(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) throw new IllegalArgumentException("Invalid number of molecules: " + size);
+
+        for (int i = 0; i < size; i++) {
+            MoleculeInfo mi = BinaryCodec.readMoleculeInfo(in);
+            info.putIfAbsent(mi.name(), mi);
+        }
+        return size;
+    }
+
     /**
      * Gets the average mass in atomic units (see unified atomic mass unit and
      * Dalton). This method neglects binding energy effects and is thus just the sum
@@ -94,6 +174,27 @@ public final record Molecule(String name) implements ChemicalCompound, Texable {
         return info.getOrDefault(name, MoleculeInfo.INVALID_NAME).formula();
     }
 
+    /**
+     * Gets the chemical formula in canonical Hill notation, i.e. independent of
+     * the notation of the resolver.
+     *
+     * @return the Hill formula
+     * @see Composition#hill()
+     */
+    public final String hill() {
+        return composition().hill();
+    }
+
+    /**
+     * Gets the components as composition, which is built once per molecule
+     * information.
+     * 
+     * @return the composition
+     */
+    final Composition composition() {
+        return info.getOrDefault(name, MoleculeInfo.INVALID_NAME).composition();
+    }
+
     /**
      * Gets the standard InChI key.
      * 
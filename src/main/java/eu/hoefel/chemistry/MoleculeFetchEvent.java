@@ -0,0 +1,24 @@
+package eu.hoefel.chemistry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event emitted for each request to the remote molecule resolver. */
+@Name("eu.hoefel.chemistry.MoleculeFetch")
+@Label("Molecule Fetch")
+@Category({ "Chemistry", "Network" })
+@Description("A request to the remote resolver of molecule information")
+final class MoleculeFetchEvent extends Event {
+
+    @Label("Molecule")
+    String molecule;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Success")
+    boolean success;
+}
@@ -14,20 +14,46 @@ import java.util.Map;
 /**
  * Record that holds the information required for a molecule.
  * 
- * @param name       the name, e.g. "water" or "h2o"
- * @param formula    the formula, e.g. "H2O"
- * @param isValid    true if the name corresponds to a valid molecule (that also
- *                   implies that it is not a {@link Nuclide nuclide})
- * @param key        the reference InChI key
- * @param components the components that make up this molecule
- * @param mass       the mass of the molecule in Da
- * @param iupac      the IUPAC name of the molecule
- * @param names      a list of names referring to this molecule
+ * @param name        the name, e.g. "water" or "h2o"
+ * @param formula     the formula, e.g. "H2O"
+ * @param isValid     true if the name corresponds to a valid molecule (that
+ *                    also implies that it is not a {@link Nuclide nuclide})
+ * @param key         the reference InChI key
+ * @param components  the components that make up this molecule
+ * @param mass        the mass of the molecule in Da
+ * @param iupac       the IUPAC name of the molecule
+ * @param names       a list of names referring to this molecule
+ * @param composition the components as composition, such that e.g. the
+ *                    {@link Composition#hill() Hill formula} is built only once
  */
 final record MoleculeInfo(String name, String formula, boolean isValid, String key, Map<Nuclide, Integer> components,
-        double mass, String iupac, List<String> names) {
+        double mass, String iupac, List<String> names, Composition composition) {
 
-    static final String REF_URL = "https://cactus.nci.nih.gov/chemical/structure/";
+    /**
+     * Creates the information, with the composition built from the components.
+     * 
+     * @param name       the name, e.g. "water" or "h2o"
+     * @param formula    the formula, e.g. "H2O"
+     * @param isValid    true if the name corresponds to a valid molecule
+     * @param key        the reference InChI key
+     * @param components the components that make up this molecule
+     * @param mass       the mass of the molecule in Da
+     * @param iupac      the IUPAC name of the molecule
+     * @param names      a list of names referring to this molecule
+     */
+    MoleculeInfo(String name, String formula, boolean isValid, String key, Map<Nuclide, Integer> components,
+            double mass, String iupac, List<String> names) {
+        this(name, formula, isValid, key, components, mass, iupac, names, Composition.of(components));
+    }
+
+    /**
+     * The system property that can be used to point to a different resolver, e.g.
+     * a mirror or a local stub. It needs to be set before the first molecule gets
+     * created.
+     */
+    static final String RESOLVER_PROPERTY = "eu.hoefel.chemistry.resolver";
+
+    static final String REF_URL = System.getProperty(RESOLVER_PROPERTY, "https://cactus.nci.nih.gov/chemical/structure/");
     static final String STD_IN_CH_I_TARGET = "/stdinchikey";
     static final String CHEMICAL_FORMULA_TARGET = "/formula";
     static final String IUPAC_NAME = "/iupac_name";
@@ -52,6 +78,22 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
         boolean isValid = !Nuclide.isNuclide(name);
         if (!isValid) return INVALID_NAME;
 
+        ChemistryMetrics.fetchStarted();
+        try {
+            return fetch(name);
+        } finally {
+            ChemistryMetrics.fetchFinished();
+        }
+    }
+
+    /**
+     * Fetches the information for the given (non-nuclide) name from the remote
+     * resolver.
+     * 
+     * @param name the name of the molecule, e.g. "water" or "h2o"
+     * @return the MoleculeInfo corresponding to the given name
+     */
+    private static final MoleculeInfo fetch(String name) {
         String formula;
         try {
             formula = toFormula(name);
@@ -60,7 +102,7 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
                     + "Are you sure the spelling is correct?");
         }
 
-        isValid = !Nuclide.isNuclide(formula);
+        boolean isValid = !Nuclide.isNuclide(formula);
         if (!isValid) return INVALID_NAME;
 
         String key = toKey(name);
@@ -79,7 +121,7 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
      * @return the standard InChI identifier
      */
     private static final String toKey(String name) {
-        return readUrl(REF_URL + name + STD_IN_CH_I_TARGET);
+        return readUrl(name, STD_IN_CH_I_TARGET);
     }
 
     /**
@@ -89,7 +131,7 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
      * @return the chemical formula
      */
     private static final String toFormula(String name) {
-        return readUrl(REF_URL + name + CHEMICAL_FORMULA_TARGET);
+        return readUrl(name, CHEMICAL_FORMULA_TARGET);
     }
 
     /**
@@ -99,7 +141,7 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
      * @return the IUPAC name
      */
     private static final String toIupac(String name) {
-        return readUrl(REF_URL + name + IUPAC_NAME);
+        return readUrl(name, IUPAC_NAME);
     }
 
     /**
@@ -110,7 +152,7 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
      * @return a list of other, synonymous, names for the given name
      */
     private static final List<String> getNames(String name) {
-        return Arrays.asList(readUrl(REF_URL + name + NAMES).split("\\R"));
+        return Arrays.asList(readUrl(name, NAMES).split("\\R"));
     }
 
     /**
@@ -121,7 +163,19 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
      * @return the components in the molecule and their frequency
      */
     private static final Map<Nuclide, Integer> getComponents(String name) {
-        String formula = readUrl(REF_URL + name + CHEMICAL_FORMULA_TARGET);
+        return parseFormula(readUrl(name, CHEMICAL_FORMULA_TARGET));
+    }
+
+    /**
+     * Parses the components (including their frequency) from the given formula.
+     * 
+     * @param formula the chemical formula, e.g. "H2O"
+     * @return the components in the formula and their frequency
+     */
+    static final Map<Nuclide, Integer> parseFormula(String formula) {
+        FormulaParseEvent event = new FormulaParseEvent();
+        event.begin();
+
         Map<Nuclide, Integer> moleculeComponents = new LinkedHashMap<>();
         for (int i = 0; i < formula.length(); i++) {
             if (Character.isDigit(formula.charAt(i))) {
@@ -166,7 +220,15 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
             }
         }
 
-        return Map.copyOf(moleculeComponents);
+        Map<Nuclide, Integer> components = Map.copyOf(moleculeComponents);
+
+        if (event.shouldCommit()) {
+            event.formula = formula;
+            event.components = components.size();
+            event.commit();
+        }
+
+        return components;
     }
 
     /**
@@ -176,36 +238,51 @@ final record MoleculeInfo(String name, String formula, boolean isValid, String k
      * @param components the components of the molecule
      * @return the binding-energy-neglecting mass of the molecule in Da
      */
-    private static final double calculateMass(Map<Nuclide, Integer> components) {
+    static final double calculateMass(Map<Nuclide, Integer> components) {
         // This method could be updated and use the mass as given by the webservice as
         // well. Not sure if it is worth the loss in speed though. It would however take
         // the binding energy into account, I guess.
-        double mass = components.entrySet()
-                                .stream()
-                                .mapToDouble(component -> component.getKey().mass()*component.getValue())
-                                .sum();
+        double mass = 0;
+        for (Map.Entry<Nuclide, Integer> component : components.entrySet()) {
+            mass += component.getKey().mass() * component.getValue();
+        }
 
         return mass == 0 ? Double.NaN : mass;
     }
 
     /**
-     * Reads the specified URL.
+     * Reads the specified target for the given name from the remote resolver.
      * 
-     * @param url the URL to read from
-     * @return the text at the given URL
+     * @param name   the name, e.g. "hydroxychloroquine" or "h2o"
+     * @param target the target, e.g. {@link #CHEMICAL_FORMULA_TARGET}
+     * @return the text at the corresponding URL
      */
-    private static final String readUrl(String url) {
+    private static final String readUrl(String name, String target) {
         URI u;
         try {
-            u = new URI(url);
+            u = new URI(REF_URL + name + target);
         } catch (URISyntaxException e) {
             throw new IllegalArgumentException(e);
         }
 
+        MoleculeFetchEvent event = new MoleculeFetchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean success = false;
         try (InputStream in = u.toURL().openStream()) {
-            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            success = true;
+            return text;
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot read from " + u, e);
+        } finally {
+            ChemistryMetrics.request(target, System.nanoTime() - start, success);
+            if (event.shouldCommit()) {
+                event.molecule = name;
+                event.endpoint = target;
+                event.success = success;
+                event.commit();
+            }
         }
     }
 }
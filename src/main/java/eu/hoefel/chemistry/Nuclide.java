@@ -22,6 +22,11 @@ public sealed interface Nuclide extends ChemicalCompound permits Element,Isotope
      */
     public boolean isIsotope();
 
+    @Override
+    public default double mass(MassMode mode) {
+        return mode.mass(this);
+    }
+
     /**
      * Checks whether a nuclide with the given name exists.
      * 
@@ -0,0 +1,284 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The binary nuclide data table, as written by {@link IsotopeUpdater}. The table
+ * is memory-mapped (or, if bundled in a jar, read in one go) and the values are
+ * read directly from the buffer, i.e. there is no parsing on startup. A newer
+ * table can be used without recompiling by pointing the system property
+ * {@value #TABLE_PROPERTY} to it.
+ * <p>
+ * The layout (big endian) is
+ * <ul>
+ * <li>the header: the magic number {@value #MAGIC}, the version (short), the
+ * record size (short), the date of the source data as yyyymmdd (int) and the
+ * number of records (int)</li>
+ * <li>the index of the first record for each atomic number, i.e. 120 ints, where
+ * the last one is the number of records</li>
+ * <li>the records, sorted by atomic number and mass number, consisting of the
+ * atomic number (short), the mass number (short), the atomic mass in Da
+ * (double), its uncertainty (double) and the natural abundance (double, 0 if it
+ * does not occur naturally)</li>
+ * </ul>
+ */
+final class NuclideTable {
+
+    /** The system property pointing to a table to use instead of the bundled one. */
+    static final String TABLE_PROPERTY = "eu.hoefel.chemistry.nuclides";
+
+    /** The name of the bundled table. */
+    static final String RESOURCE = "nuclides.bin";
+
+    /** "NUCL" */
+    static final int MAGIC = 0x4E55434C;
+
+    /** The version of the layout. */
+    static final short VERSION = 1;
+
+    /** The size of a record in bytes. */
+    static final short RECORD_SIZE = 2 + 2 + 8 + 8 + 8;
+
+    /** The largest atomic number that can be stored. */
+    static final int MAX_ATOMIC_NUMBER = 118;
+
+    static final int HEADER_SIZE = 4 + 2 + 2 + 4 + 4;
+    static final int INDEX_SIZE = 4 * (MAX_ATOMIC_NUMBER + 2);
+
+    private static final int Z = 0;
+    private static final int A = 2;
+    private static final int MASS = 4;
+    private static final int MASS_UNCERTAINTY = 12;
+    private static final int ABUNDANCE = 20;
+
+    private static final ByteBuffer table = load();
+    private static final int size = table.getInt(12);
+
+    private NuclideTable() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Loads the table, either from the file specified via {@value #TABLE_PROPERTY}
+     * or the bundled one.
+     *
+     * @return the (read-only) table
+     */
+    private static ByteBuffer load() {
+        String file = System.getProperty(TABLE_PROPERTY);
+        ByteBuffer buffer;
+        try {
+            if (file != null) {
+                buffer = map(Path.of(file));
+            } else {
+                URL url = NuclideTable.class.getResource(RESOURCE);
+                if (url == null) throw new IllegalStateException("Cannot find the nuclide table " + RESOURCE);
+
+                if ("file".equals(url.getProtocol())) {
+                    buffer = map(Path.of(url.toURI()));
+                } else {
+                    try (InputStream in = url.openStream()) {
+                        buffer = ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the nuclide table", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Cannot locate the nuclide table", e);
+        }
+
+        return validate(buffer);
+    }
+
+    /**
+     * Checks that the header and the index of the table are consistent with each
+     * other and with the size of the table, such that no lookup can read beyond
+     * the records.
+     *
+     * @param buffer the table
+     * @return the table
+     * @throws IllegalStateException if the table is invalid
+     */
+    static ByteBuffer validate(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE + INDEX_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("The nuclide table is no nuclide table");
+        } else if (buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IllegalStateException("Unsupported nuclide table version " + buffer.getShort(4));
+        }
+
+        int records = buffer.getInt(12);
+        if (records < 0 || HEADER_SIZE + INDEX_SIZE + (long) records * RECORD_SIZE > buffer.capacity()) {
+            throw new IllegalStateException("The nuclide table is truncated, it cannot hold " + records + " records");
+        }
+
+        int previous = 0;
+        for (int z = 0; z <= MAX_ATOMIC_NUMBER + 1; z++) {
+            int first = buffer.getInt(HEADER_SIZE + 4 * z);
+            if (first < previous || first > records) {
+                throw new IllegalStateException("The nuclide table has an invalid index " + first + " for Z=" + z);
+            }
+            previous = first;
+        }
+        if (previous != records) {
+            throw new IllegalStateException("The nuclide table index ends at " + previous + " instead of " + records);
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Gets the date of the source data.
+     *
+     * @return the date as yyyymmdd
+     */
+    static int date() {
+        return table.getInt(8);
+    }
+
+    /**
+     * Gets the number of records.
+     *
+     * @return the number of records
+     */
+    static int size() {
+        return size;
+    }
+
+    /**
+     * Gets the index of the first record with the given atomic number.
+     *
+     * @param atomicNumber the atomic number
+     * @return the index of the first record
+     */
+    static int first(int atomicNumber) {
+        return table.getInt(HEADER_SIZE + 4 * atomicNumber);
+    }
+
+    /**
+     * Gets the index after the last record with the given atomic number.
+     *
+     * @param atomicNumber the atomic number
+     * @return the index after the last record
+     */
+    static int end(int atomicNumber) {
+        return table.getInt(HEADER_SIZE + 4 * (atomicNumber + 1));
+    }
+
+    /**
+     * Gets the index of the record of the given nuclide.
+     *
+     * @param atomicNumber the atomic number
+     * @param massNumber   the mass number
+     * @return the index of the record, or -1 if there is none
+     */
+    static int indexOf(int atomicNumber, int massNumber) {
+        if (atomicNumber < 1 || atomicNumber > MAX_ATOMIC_NUMBER) return -1;
+
+        int low = first(atomicNumber);
+        int high = end(atomicNumber) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int a = massNumber(mid);
+            if (a < massNumber) {
+                low = mid + 1;
+            } else if (a > massNumber) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the index of the record of the given isotope.
+     *
+     * @param isotope the isotope
+     * @return the index of the record, or -1 if there is none
+     */
+    static int indexOf(Isotope isotope) {
+        return indexOf(isotope.element().atomicNumber(), isotope.massNumber());
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + INDEX_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * Gets the atomic number of the record.
+     *
+     * @param index the index of the record
+     * @return the atomic number
+     */
+    static int atomicNumber(int index) {
+        return table.getShort(offset(index) + Z);
+    }
+
+    /**
+     * Gets the mass number of the record.
+     *
+     * @param index the index of the record
+     * @return the mass number
+     */
+    static int massNumber(int index) {
+        return table.getShort(offset(index) + A);
+    }
+
+    /**
+     * Gets the atomic mass of the record.
+     *
+     * @param index the index of the record
+     * @return the atomic mass in Da
+     */
+    static double mass(int index) {
+        return table.getDouble(offset(index) + MASS);
+    }
+
+    /**
+     * Gets the uncertainty of the atomic mass of the record.
+     *
+     * @param index the index of the record
+     * @return the uncertainty of the atomic mass in Da
+     */
+    static double massUncertainty(int index) {
+        return table.getDouble(offset(index) + MASS_UNCERTAINTY);
+    }
+
+    /**
+     * Gets the natural abundance of the record.
+     *
+     * @param index the index of the record
+     * @return the natural abundance as a fraction (0 if it does not occur
+     *         naturally)
+     */
+    static double abundance(int index) {
+        return table.getDouble(offset(index) + ABUNDANCE);
+    }
+
+    /**
+     * Gets the atomic mass of the given nuclide from the table.
+     *
+     * @param element    the element
+     * @param massNumber the mass number
+     * @param fallback   the mass to use if the table does not contain the nuclide
+     * @return the atomic mass in Da
+     */
+    static double mass(Element element, int massNumber, double fallback) {
+        int index = indexOf(element.atomicNumber(), massNumber);
+        return index < 0 ? fallback : mass(index);
+    }
+}
@@ -0,0 +1,179 @@
+package eu.hoefel.chemistry;
+
+import java.util.List;
+
+/**
+ * Utility methods mapping {@link Nuclide nuclides} to dense ids and back, such
+ * that compositions can be stored in primitive arrays. The ids follow the
+ * nuclide data table, i.e. they are sorted by atomic number and mass number,
+ * with each element directly in front of its isotopes, e.g. H, D, T, He, [3He]
+ * and so on. Hence, sorting by id sorts by atomic number, and an element sorts
+ * before its isotopes.
+ *
+ * @see Composition
+ */
+final class Nuclides {
+
+    /** All elements, to avoid the copy of {@code values()}. */
+    private static final Element[] elements = Element.values();
+
+    /** The number of elements. */
+    static final int ELEMENTS = elements.length;
+
+    /** The number of ids. */
+    static final int SIZE = ELEMENTS + NuclideTable.size();
+
+    /** The atomic numbers by id. */
+    private static final byte[] atomicNumbers = new byte[SIZE];
+
+    /** The indices in the nuclide data table by id, -1 for elements. */
+    private static final int[] indices = new int[SIZE];
+
+    /** The elements by their symbol, cf. {@link #symbolKey(char, char)}. */
+    private static final Element[] bySymbol = new Element[26 * 27];
+
+    static {
+        for (Element element : elements) {
+            String name = element.name();
+            bySymbol[symbolKey(name.charAt(0), name.length() == 1 ? 0 : name.charAt(1))] = element;
+        }
+
+        for (int z = 1; z <= ELEMENTS; z++) {
+            int id = elementId(z);
+            atomicNumbers[id] = (byte) z;
+            indices[id] = -1;
+            for (int index = NuclideTable.first(z); index < NuclideTable.first(z + 1); index++) {
+                atomicNumbers[++id] = (byte) z;
+                indices[id] = index;
+            }
+        }
+    }
+
+    private Nuclides() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the id of the given nuclide.
+     *
+     * @param nuclide the nuclide
+     * @return the id
+     * @throws IllegalArgumentException if the nuclide data table does not contain
+     *                                  the isotope
+     */
+    static int id(Nuclide nuclide) {
+        if (nuclide instanceof Element element) return elementId(element.atomicNumber());
+
+        int index = NuclideTable.indexOf((Isotope) nuclide);
+        if (index < 0) throw new IllegalArgumentException("The nuclide data table does not contain " + nuclide);
+        return isotopeId(index);
+    }
+
+    /**
+     * Gets the id of the element with the given atomic number, i.e. the number of
+     * elements and isotopes with a smaller atomic number.
+     *
+     * @param atomicNumber the atomic number
+     * @return the id
+     */
+    static int elementId(int atomicNumber) {
+        return atomicNumber - 1 + NuclideTable.first(atomicNumber);
+    }
+
+    /**
+     * Gets the id of the isotope with the given index in the nuclide data table,
+     * i.e. the index plus the number of elements up to its atomic number.
+     *
+     * @param index the index in the nuclide data table
+     * @return the id
+     */
+    static int isotopeId(int index) {
+        return NuclideTable.atomicNumber(index) + index;
+    }
+
+    /**
+     * Gets the index in the nuclide data table of the isotope with the given id.
+     *
+     * @param id the id
+     * @return the index, or -1 for elements
+     */
+    static int index(int id) {
+        return indices[id];
+    }
+
+    /**
+     * Gets the nuclide with the given id. Only initializes the isotopes of the
+     * corresponding element.
+     *
+     * @param id the id
+     * @return the nuclide
+     */
+    static Nuclide nuclide(int id) {
+        int index = indices[id];
+        int z = atomicNumbers[id];
+        if (index < 0) return elements[z - 1];
+
+        List<Isotope> isotopes = Isotopes.of(elements[z - 1]);
+        return isotopes.get(index - NuclideTable.first(z));
+    }
+
+    /**
+     * Gets the element of the nuclide with the given id.
+     *
+     * @param id the id
+     * @return the element
+     */
+    static Element element(int id) {
+        return elements[atomicNumber(id) - 1];
+    }
+
+    /**
+     * Gets the atomic number of the nuclide with the given id.
+     *
+     * @param id the id
+     * @return the atomic number
+     */
+    static int atomicNumber(int id) {
+        return atomicNumbers[id];
+    }
+
+    /**
+     * Checks whether the id belongs to an isotope.
+     *
+     * @param id the id
+     * @return true if the id belongs to an isotope
+     */
+    static boolean isIsotope(int id) {
+        return indices[id] >= 0;
+    }
+
+    /**
+     * Gets the element with the given symbol, case-sensitively.
+     *
+     * @param symbol the string containing the symbol
+     * @param start  the index of the first character of the symbol
+     * @param end    the index after the last character of the symbol
+     * @return the element, or null if there is none
+     */
+    static Element element(CharSequence symbol, int start, int end) {
+        int length = end - start;
+        if (length < 1 || length > 2) return null;
+
+        int key = symbolKey(symbol.charAt(start), length == 1 ? 0 : symbol.charAt(start + 1));
+        return key < 0 ? null : bySymbol[key];
+    }
+
+    /**
+     * Gets the index in {@link #bySymbol} for the given symbol.
+     *
+     * @param first  the (upper case) first letter
+     * @param second the (lower case) second letter, or 0 for single letter symbols
+     * @return the index, or -1 if the characters cannot form a symbol
+     */
+    private static int symbolKey(char first, char second) {
+        if (first < 'A' || first > 'Z') return -1;
+        if (second == 0) return (first - 'A') * 27;
+        if (second < 'a' || second > 'z') return -1;
+        return (first - 'A') * 27 + second - 'a' + 1;
+    }
+}
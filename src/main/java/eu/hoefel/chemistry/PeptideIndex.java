@@ -0,0 +1,471 @@
+package eu.hoefel.chemistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable index of the peptides of an in-silico digestion of proteins,
+ * sorted by mass, for the lookup of candidates within a relative (ppm) mass
+ * tolerance. The proteins are typically read from a FASTA file, e.g. a whole
+ * proteome, and are digested in parallel.
+ * <p>
+ * The index is compact: the protein sequences are kept once as ASCII bytes and
+ * each peptide is only its mass and its position within them, i.e. no strings
+ * are created unless requested via {@link #sequence(int)}. Peptides occurring
+ * several times (in one or several proteins) are indexed once, at their first
+ * occurrence. Peptides with residues unknown to the sequence calculator (e.g.
+ * 'X') are skipped.
+ * <p>
+ * A candidate with mass m matches a query mass M at a tolerance of x ppm if
+ * |m - M| &le; M&middot;x&middot;10<sup>-6</sup>.
+ *
+ * @see Digestion
+ * @see MassIndex
+ */
+public final class PeptideIndex {
+
+    /** The size of the buffer for reading the FASTA files. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final MassMode mode;
+
+    /** The residues of all proteins, concatenated. */
+    private final byte[] residues;
+
+    /** The start of each protein in the residues, followed by the total length. */
+    private final int[] proteinStarts;
+    private final String[] accessions;
+
+    /** The peptides, sorted by mass. */
+    private final double[] masses;
+    private final int[] starts;
+    private final short[] lengths;
+
+    private PeptideIndex(MassMode mode, byte[] residues, int[] proteinStarts, String[] accessions, double[] masses,
+            int[] starts, short[] lengths) {
+        this.mode = mode;
+        this.residues = residues;
+        this.proteinStarts = proteinStarts;
+        this.accessions = accessions;
+        this.masses = masses;
+        this.starts = starts;
+        this.lengths = lengths;
+    }
+
+    /**
+     * Creates the peptide index of the proteins in the given FASTA file.
+     *
+     * @param fasta      the FASTA file, not {@code null}
+     * @param digestion  the digestion, not {@code null}
+     * @param calculator the calculator for the peptide masses, e.g.
+     *                   {@link SequenceCalculator#peptide()}, not {@code null}
+     * @param mode       the mass to index, not {@code null}
+     * @return the index
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if a sequence precedes the first header
+     * @throws UncheckedIOException     if the file cannot be read
+     */
+    public static PeptideIndex of(Path fasta, Digestion digestion, SequenceCalculator calculator, MassMode mode) {
+        Objects.requireNonNull(digestion);
+        Objects.requireNonNull(calculator);
+        Objects.requireNonNull(mode);
+        try (FileChannel channel = FileChannel.open(fasta, StandardOpenOption.READ)) {
+            FastaReader reader = new FastaReader(channel.size());
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                reader.read(buffer);
+                buffer.clear();
+            }
+            return reader.index(digestion, calculator, mode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + fasta, e);
+        }
+    }
+
+    /**
+     * Creates the peptide index of the given proteins.
+     *
+     * @param proteins   the protein sequences, not {@code null}
+     * @param digestion  the digestion, not {@code null}
+     * @param calculator the calculator for the peptide masses, e.g.
+     *                   {@link SequenceCalculator#peptide()}, not {@code null}
+     * @param mode       the mass to index, not {@code null}
+     * @return the index, where the accession of a protein is its position in
+     *         {@code proteins}
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if any protein contains non-ASCII
+     *                                  characters
+     */
+    public static PeptideIndex of(List<? extends CharSequence> proteins, Digestion digestion,
+            SequenceCalculator calculator, MassMode mode) {
+        Objects.requireNonNull(digestion);
+        Objects.requireNonNull(calculator);
+        Objects.requireNonNull(mode);
+
+        int total = 0;
+        for (CharSequence protein : proteins) {
+            total = Math.addExact(total, protein.length());
+        }
+        byte[] residues = new byte[total];
+        int[] proteinStarts = new int[proteins.size() + 1];
+        String[] accessions = new String[proteins.size()];
+        int position = 0;
+        for (int p = 0; p < proteins.size(); p++) {
+            CharSequence protein = proteins.get(p);
+            proteinStarts[p] = position;
+            accessions[p] = String.valueOf(p);
+            for (int i = 0; i < protein.length(); i++) {
+                char c = protein.charAt(i);
+                if (c >= 128) throw new IllegalArgumentException("Non-ASCII residue '" + c + "' in protein " + p);
+                residues[position++] = (byte) c;
+            }
+        }
+        proteinStarts[proteins.size()] = position;
+        return index(residues, proteinStarts, accessions, digestion, calculator, mode);
+    }
+
+    /** The peptides of one protein. */
+    private static final class Chunk {
+        private double[] masses = new double[16];
+        private int[] starts = new int[16];
+        private short[] lengths = new short[16];
+        private int size;
+
+        private void add(double mass, int start, int end) {
+            if (size == masses.length) {
+                masses = Arrays.copyOf(masses, 2 * size);
+                starts = Arrays.copyOf(starts, 2 * size);
+                lengths = Arrays.copyOf(lengths, 2 * size);
+            }
+            masses[size] = mass;
+            starts[size] = start;
+            lengths[size] = (short) (end - start);
+            size++;
+        }
+    }
+
+    private static PeptideIndex index(byte[] residues, int[] proteinStarts, String[] accessions, Digestion digestion,
+            SequenceCalculator calculator, MassMode mode) {
+        List<Chunk> chunks = IntStream.range(0, accessions.length).parallel().mapToObj(p -> {
+            int from = proteinStarts[p];
+            int to = proteinStarts[p + 1];
+            int[] sites = new int[to - from + 1];
+            int count = digestion.protease().sites(residues, from, to, sites);
+            Chunk chunk = new Chunk();
+            digestion.forEach(sites, count, (start, end) -> {
+                double mass = calculator.mass(residues, start, end, mode);
+                if (!Double.isNaN(mass)) chunk.add(mass, start, end);
+            });
+            return chunk;
+        }).toList();
+
+        int total = 0;
+        for (Chunk chunk : chunks) {
+            total += chunk.size;
+        }
+        double[] unsortedMasses = new double[total];
+        int[] unsortedStarts = new int[total];
+        short[] unsortedLengths = new short[total];
+        int position = 0;
+        for (Chunk chunk : chunks) {
+            System.arraycopy(chunk.masses, 0, unsortedMasses, position, chunk.size);
+            System.arraycopy(chunk.starts, 0, unsortedStarts, position, chunk.size);
+            System.arraycopy(chunk.lengths, 0, unsortedLengths, position, chunk.size);
+            position += chunk.size;
+        }
+
+        int[] order = Sorting.order(unsortedMasses);
+        double[] masses = new double[total];
+        int[] starts = new int[total];
+        short[] lengths = new short[total];
+        int size = 0;
+        int run = 0; // the first peptide with the same mass as the current one
+        for (int k : order) {
+            double mass = unsortedMasses[k];
+            int start = unsortedStarts[k];
+            int length = unsortedLengths[k];
+            if (size == 0 || masses[size - 1] != mass) run = size;
+
+            // identical sequences have bitwise identical masses, as they are summed up in the same order
+            int duplicate = -1;
+            for (int j = run; j < size && duplicate < 0; j++) {
+                if (lengths[j] == length
+                        && Arrays.equals(residues, starts[j], starts[j] + length, residues, start, start + length)) {
+                    duplicate = j;
+                }
+            }
+
+            if (duplicate < 0) {
+                masses[size] = mass;
+                starts[size] = start;
+                lengths[size] = (short) length;
+                size++;
+            } else if (start < starts[duplicate]) {
+                starts[duplicate] = start;
+            }
+        }
+
+        return new PeptideIndex(mode, residues, proteinStarts, accessions, Arrays.copyOf(masses, size),
+                Arrays.copyOf(starts, size), Arrays.copyOf(lengths, size));
+    }
+
+    /** Reads FASTA files chunk by chunk, keeping only the residues and the accessions. */
+    private static final class FastaReader {
+        private byte[] residues;
+        private int size;
+        private int[] proteinStarts = new int[16];
+        private final List<String> accessions = new ArrayList<>();
+        private byte[] header = new byte[64];
+        private int headerSize;
+        private boolean inHeader;
+
+        private FastaReader(long fileSize) {
+            residues = new byte[(int) Math.min(Math.max(fileSize, 16), Integer.MAX_VALUE - 8)];
+        }
+
+        private void read(ByteBuffer buffer) {
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (inHeader) {
+                    if (b == '\n' || b == '\r') {
+                        endHeader();
+                    } else {
+                        if (headerSize == header.length) header = Arrays.copyOf(header, 2 * headerSize);
+                        header[headerSize++] = b;
+                    }
+                } else if (b == '>') {
+                    inHeader = true;
+                    headerSize = 0;
+                } else if ((b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z')) {
+                    if (accessions.isEmpty()) throw new IllegalArgumentException("Missing FASTA header");
+                    if (size == residues.length) residues = Arrays.copyOf(residues, Math.addExact(size, size / 2));
+                    residues[size++] = b;
+                }
+                // line breaks, white space and the stop codon '*' are skipped
+            }
+        }
+
+        private void endHeader() {
+            inHeader = false;
+            String line = new String(header, 0, headerSize, StandardCharsets.ISO_8859_1).strip();
+            int end = 0;
+            while (end < line.length() && !Character.isWhitespace(line.charAt(end))) end++;
+            if (accessions.size() + 1 >= proteinStarts.length) {
+                proteinStarts = Arrays.copyOf(proteinStarts, 2 * proteinStarts.length);
+            }
+            proteinStarts[accessions.size()] = size;
+            accessions.add(line.substring(0, end));
+        }
+
+        private PeptideIndex index(Digestion digestion, SequenceCalculator calculator, MassMode mode) {
+            if (inHeader) endHeader();
+            proteinStarts[accessions.size()] = size;
+            return PeptideIndex.index(Arrays.copyOf(residues, size),
+                    Arrays.copyOf(proteinStarts, accessions.size() + 1), accessions.toArray(String[]::new),
+                    digestion, calculator, mode);
+        }
+    }
+
+    /**
+     * Gets the indexed mass.
+     *
+     * @return the mass mode
+     */
+    public MassMode mode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of indexed (distinct) peptides.
+     *
+     * @return the number of peptides
+     */
+    public int size() {
+        return masses.length;
+    }
+
+    /**
+     * Gets the number of digested proteins.
+     *
+     * @return the number of proteins
+     */
+    public int proteins() {
+        return accessions.length;
+    }
+
+    /**
+     * Gets the accession of the given protein, i.e. the first word of its FASTA
+     * header.
+     *
+     * @param protein the index of the protein, from 0 to {@link #proteins()}
+     *                (exclusive)
+     * @return the accession
+     */
+    public String accession(int protein) {
+        return accessions[protein];
+    }
+
+    /**
+     * Gets the i-th lightest mass.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the mass in Da
+     */
+    public double mass(int i) {
+        return masses[i];
+    }
+
+    /**
+     * Gets the length of the i-th lightest peptide.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the number of residues
+     */
+    public int length(int i) {
+        return lengths[i];
+    }
+
+    /**
+     * Gets the sequence of the i-th lightest peptide.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the sequence
+     */
+    public String sequence(int i) {
+        return new String(residues, starts[i], lengths[i], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Gets the (first) protein containing the i-th lightest peptide.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the index of the protein
+     */
+    public int protein(int i) {
+        int index = Arrays.binarySearch(proteinStarts, 0, accessions.length, starts[i]);
+        if (index < 0) return -index - 2;
+
+        // skip empty proteins starting at the same position
+        while (index + 1 < accessions.length && proteinStarts[index + 1] == starts[i]) index++;
+        return index;
+    }
+
+    /**
+     * Gets the position of the i-th lightest peptide within its (first) protein.
+     *
+     * @param i the index, from 0 to {@link #size()} (exclusive)
+     * @return the index of the first residue of the peptide in the protein
+     */
+    public int position(int i) {
+        return starts[i] - proteinStarts[protein(i)];
+    }
+
+    /**
+     * Gets the index of the first peptide with a mass of at least the given mass.
+     *
+     * @param mass the mass in Da
+     * @return the index, {@link #size()} if all peptides are lighter
+     */
+    public int lowerBound(double mass) {
+        return MassSearch.lowerBound(masses, mass, 0, masses.length);
+    }
+
+    /**
+     * Gets the index after the last peptide with a mass of at most the given
+     * mass.
+     *
+     * @param mass the mass in Da
+     * @return the index, 0 if all peptides are heavier
+     */
+    public int upperBound(double mass) {
+        return MassSearch.upperBound(masses, mass, 0, masses.length);
+    }
+
+    /**
+     * Gets the index of the first candidate matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the index of the first candidate, cf. {@link #to(double, double)}
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public int from(double mass, double ppm) {
+        return lowerBound(mass - MassSearch.tolerance(mass, ppm));
+    }
+
+    /**
+     * Gets the index after the last candidate matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the index after the last candidate, cf.
+     *         {@link #from(double, double)}
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public int to(double mass, double ppm) {
+        return upperBound(mass + MassSearch.tolerance(mass, ppm));
+    }
+
+    /**
+     * Gets the number of candidates matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the number of candidates
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public int count(double mass, double ppm) {
+        return to(mass, ppm) - from(mass, ppm);
+    }
+
+    /**
+     * Gets the sequences of the candidates matching the given mass.
+     *
+     * @param mass the (measured) mass in Da
+     * @param ppm  the tolerance in ppm
+     * @return the candidate sequences, sorted by mass
+     * @throws IllegalArgumentException if {@code ppm} is negative
+     */
+    public List<String> candidates(double mass, double ppm) {
+        int from = from(mass, ppm);
+        int to = to(mass, ppm);
+        List<String> candidates = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            candidates.add(sequence(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Looks up all the given masses at once, cf.
+     * {@link MassIndex#query(double[], double, int[], int[])}. The candidates
+     * for {@code masses[i]} are {@code from[i]} (inclusive) to {@code to[i]}
+     * (exclusive).
+     *
+     * @param masses the (measured) masses in Da, sorted increasingly, not
+     *               {@code null}
+     * @param ppm    the tolerance in ppm
+     * @param from   the array to store the indices of the first candidates in, at
+     *               least as long as {@code masses}
+     * @param to     the array to store the indices after the last candidates in,
+     *               at least as long as {@code masses}
+     * @throws NullPointerException     if any of the arrays is {@code null}
+     * @throws IllegalArgumentException if {@code masses} is not sorted, the
+     *                                  output arrays are too short or
+     *                                  {@code ppm} is negative
+     */
+    public void query(double[] masses, double ppm, int[] from, int[] to) {
+        MassSearch.query(this.masses, masses, ppm, from, to);
+    }
+}
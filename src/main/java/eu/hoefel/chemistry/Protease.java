@@ -0,0 +1,114 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A protease, i.e. the rule where a protein is cleaved. The protease cleaves
+ * C-terminal to each of its cleavage sites (residues in the one-letter code),
+ * unless the next residue is one of the blocking residues, e.g. trypsin
+ * cleaves after lysine and arginine, but not before proline.
+ *
+ * @param name     the name, e.g. "Trypsin"
+ * @param sites    the residues after which the protease cleaves, e.g. "KR"
+ * @param blockers the residues before which the protease does not cleave, e.g.
+ *                 "P"
+ * @see Digestion
+ */
+public record Protease(String name, String sites, String blockers) {
+
+    /** Trypsin, cleaving after K and R, but not before P. */
+    public static final Protease TRYPSIN = new Protease("Trypsin", "KR", "P");
+
+    /** Trypsin, cleaving after K and R, also before P. */
+    public static final Protease TRYPSIN_P = new Protease("Trypsin/P", "KR", "");
+
+    /** Lys-C, cleaving after K, but not before P. */
+    public static final Protease LYS_C = new Protease("Lys-C", "K", "P");
+
+    /** Arg-C, cleaving after R, but not before P. */
+    public static final Protease ARG_C = new Protease("Arg-C", "R", "P");
+
+    /** Glu-C (in bicarbonate buffer), cleaving after E, but not before P. */
+    public static final Protease GLU_C = new Protease("Glu-C", "E", "P");
+
+    /** Chymotrypsin (high specificity), cleaving after F, W and Y, but not before P. */
+    public static final Protease CHYMOTRYPSIN = new Protease("Chymotrypsin", "FWY", "P");
+
+    /**
+     * Creates the protease.
+     *
+     * @param name     the name, e.g. "Trypsin", not {@code null}
+     * @param sites    the residues after which the protease cleaves, e.g. "KR",
+     *                 not {@code null} or empty
+     * @param blockers the residues before which the protease does not cleave,
+     *                 e.g. "P", not {@code null}
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code sites} is empty or any residue
+     *                                  is not ASCII
+     */
+    public Protease {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(blockers);
+        if (sites.isEmpty()) throw new IllegalArgumentException("A protease needs at least one cleavage site");
+        if (!(sites + blockers).chars().allMatch(c -> c < 128)) {
+            throw new IllegalArgumentException("Only ASCII residue symbols are supported");
+        }
+    }
+
+    /**
+     * Checks whether the protease cleaves between the given residues.
+     *
+     * @param residue the residue before the bond
+     * @param next    the residue after the bond
+     * @return true if the protease cleaves
+     */
+    public boolean cleaves(char residue, char next) {
+        return sites.indexOf(residue) >= 0 && blockers.indexOf(next) < 0;
+    }
+
+    /**
+     * Gets the positions where the given protein is cleaved, i.e. the start
+     * indices of the peptides, including 0 and the length of the protein.
+     *
+     * @param protein the protein sequence, not {@code null}
+     * @return the cleavage positions, sorted increasingly
+     * @throws NullPointerException if {@code protein} is {@code null}
+     */
+    public int[] sites(CharSequence protein) {
+        int length = protein.length();
+        int[] positions = new int[length + 1];
+        int count = 1;
+        for (int i = 1; i < length; i++) {
+            if (cleaves(protein.charAt(i - 1), protein.charAt(i))) positions[count++] = i;
+        }
+        if (length > 0) positions[count++] = length;
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Gets the positions where the given part of the residues is cleaved, cf.
+     * {@link #sites(CharSequence)}.
+     *
+     * @param residues  the residues as ASCII characters
+     * @param from      the start of the protein (inclusive)
+     * @param to        the end of the protein (exclusive)
+     * @param positions the array to store the positions in, at least
+     *                  {@code to - from + 1} long
+     * @return the number of positions
+     */
+    int sites(byte[] residues, int from, int to, int[] positions) {
+        int count = 0;
+        positions[count++] = from;
+        for (int i = from + 1; i < to; i++) {
+            if (cleaves((char) residues[i - 1], (char) residues[i])) positions[count++] = i;
+        }
+        if (to > from) positions[count++] = to;
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
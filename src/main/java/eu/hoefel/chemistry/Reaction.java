@@ -0,0 +1,422 @@
+package eu.hoefel.chemistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable chemical reaction with stoichiometric coefficients, e.g.
+ * "C6H12O6 + 6 O2 -&gt; 6 CO2 + 6 H2O". The compounds are converted to their
+ * {@link Composition compositions} once, and the (nuclide by compound) element
+ * matrix is built once per reaction and shared with its balanced variant, such
+ * that checking the balance and {@link #balance() balancing} do not involve the
+ * compounds anymore. Isotopes are balanced separately from their element. Charges are not
+ * considered.
+ * <p>
+ * The coefficients are balanced exactly via an integer null space computation
+ * of the element matrix, using fraction-free Gaussian elimination.
+ */
+public final class Reaction {
+
+    /** The pattern of a reaction arrow. */
+    private static final Pattern ARROW = Pattern.compile("\\s*(?:->|→|=)\\s*");
+
+    /** The pattern of a term, e.g. "6 O2" or "2H2O". */
+    private static final Pattern TERM = Pattern.compile("(\\d*)\\s*(.+)");
+
+    private final List<ChemicalCompound> reactants;
+    private final List<ChemicalCompound> products;
+    private final int[] coefficients;
+
+    /** The compositions of the reactants followed by the products. */
+    private final Composition[] compositions;
+
+    /** The element matrix, cf. {@link #matrix(Composition[], int)}. */
+    private final int[][] matrix;
+
+    private Reaction(List<ChemicalCompound> reactants, List<ChemicalCompound> products, int[] coefficients,
+            Composition[] compositions, int[][] matrix) {
+        this.reactants = reactants;
+        this.products = products;
+        this.coefficients = coefficients;
+        this.compositions = compositions;
+        this.matrix = matrix;
+    }
+
+    /**
+     * Gets the reaction with all coefficients being 1, e.g. to {@link #balance()
+     * balance} it afterwards.
+     *
+     * @param reactants the reactants, not {@code null}
+     * @param products  the products, not {@code null}
+     * @return the reaction
+     * @throws NullPointerException     if any argument or compound is {@code null}
+     * @throws IllegalArgumentException if the composition of any compound is not
+     *                                  known or there are no reactants or products
+     */
+    public static Reaction of(List<? extends ChemicalCompound> reactants, List<? extends ChemicalCompound> products) {
+        int[] ones = new int[reactants.size()];
+        Arrays.fill(ones, 1);
+        int[] productOnes = new int[products.size()];
+        Arrays.fill(productOnes, 1);
+        return of(reactants, ones, products, productOnes);
+    }
+
+    /**
+     * Gets the reaction with the given coefficients.
+     *
+     * @param reactants            the reactants, not {@code null}
+     * @param reactantCoefficients the positive coefficients of the reactants, not
+     *                             {@code null}
+     * @param products             the products, not {@code null}
+     * @param productCoefficients  the positive coefficients of the products, not
+     *                             {@code null}
+     * @return the reaction
+     * @throws NullPointerException     if any argument or compound is {@code null}
+     * @throws IllegalArgumentException if the composition of any compound is not
+     *                                  known, there are no reactants or products,
+     *                                  the number of coefficients does not match
+     *                                  or any coefficient is not positive
+     */
+    public static Reaction of(List<? extends ChemicalCompound> reactants, int[] reactantCoefficients,
+            List<? extends ChemicalCompound> products, int[] productCoefficients) {
+        if (reactants.isEmpty() || products.isEmpty()) {
+            throw new IllegalArgumentException("A reaction needs reactants and products");
+        }
+        if (reactants.size() != reactantCoefficients.length || products.size() != productCoefficients.length) {
+            throw new IllegalArgumentException("The number of coefficients needs to match the number of compounds");
+        }
+
+        int[] coefficients = new int[reactants.size() + products.size()];
+        System.arraycopy(reactantCoefficients, 0, coefficients, 0, reactantCoefficients.length);
+        System.arraycopy(productCoefficients, 0, coefficients, reactantCoefficients.length, productCoefficients.length);
+        for (int coefficient : coefficients) {
+            if (coefficient < 1) throw new IllegalArgumentException("The coefficients need to be positive, but were "
+                    + Arrays.toString(reactantCoefficients) + " and " + Arrays.toString(productCoefficients));
+        }
+
+        Composition[] compositions = new Composition[coefficients.length];
+        for (int i = 0; i < compositions.length; i++) {
+            ChemicalCompound compound = i < reactants.size() ? reactants.get(i) : products.get(i - reactants.size());
+            compositions[i] = Composition.of(compound);
+        }
+        return new Reaction(List.copyOf(reactants), List.copyOf(products), coefficients, compositions,
+                matrix(compositions, reactants.size()));
+    }
+
+    /**
+     * Parses the given reaction of formulas separated by " + ", with optional
+     * coefficients and "-&gt;", "→" or "=" as arrow, e.g. "C6H12O6 + 6 O2 -&gt; 6
+     * CO2 + 6 H2O". Missing coefficients are 1. Note that a number directly in
+     * front of a formula is read as coefficient, i.e. "2H2O" is 2 H2O.
+     *
+     * @param reaction the reaction, not {@code null}
+     * @return the reaction, with {@link Composition compositions} as compounds
+     * @throws NullPointerException     if {@code reaction} is {@code null}
+     * @throws IllegalArgumentException if {@code reaction} cannot be parsed
+     */
+    public static Reaction parse(String reaction) {
+        String[] sides = ARROW.split(reaction.strip(), -1);
+        if (sides.length != 2) throw new IllegalArgumentException("Cannot parse the reaction '" + reaction + "'");
+
+        List<List<Composition>> compounds = new ArrayList<>();
+        List<int[]> coefficients = new ArrayList<>();
+        for (String side : sides) {
+            String[] terms = side.split("\\s+\\+\\s+");
+            List<Composition> sideCompounds = new ArrayList<>();
+            int[] sideCoefficients = new int[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                Matcher matcher = TERM.matcher(terms[i].strip());
+                if (!matcher.matches()) {
+                    throw new IllegalArgumentException("Cannot parse the reaction '" + reaction + "'");
+                }
+
+                sideCoefficients[i] = matcher.group(1).isEmpty() ? 1 : Integer.parseInt(matcher.group(1));
+                sideCompounds.add(Composition.parse(matcher.group(2)));
+            }
+            compounds.add(sideCompounds);
+            coefficients.add(sideCoefficients);
+        }
+        return of(compounds.get(0), coefficients.get(0), compounds.get(1), coefficients.get(1));
+    }
+
+    /**
+     * Gets the reactants.
+     *
+     * @return the (unmodifiable) reactants
+     */
+    public List<ChemicalCompound> reactants() {
+        return reactants;
+    }
+
+    /**
+     * Gets the products.
+     *
+     * @return the (unmodifiable) products
+     */
+    public List<ChemicalCompound> products() {
+        return products;
+    }
+
+    /**
+     * Gets the coefficients of the reactants.
+     *
+     * @return the coefficients, in the order of the reactants
+     */
+    public int[] reactantCoefficients() {
+        return Arrays.copyOf(coefficients, reactants.size());
+    }
+
+    /**
+     * Gets the coefficients of the products.
+     *
+     * @return the coefficients, in the order of the products
+     */
+    public int[] productCoefficients() {
+        return Arrays.copyOfRange(coefficients, reactants.size(), coefficients.length);
+    }
+
+    /**
+     * Checks whether every nuclide occurs equally often on both sides.
+     *
+     * @return true if the reaction is balanced
+     */
+    public boolean isBalanced() {
+        for (int[] row : matrix) {
+            long sum = 0;
+            for (int j = 0; j < row.length; j++) {
+                sum += (long) row[j] * coefficients[j];
+            }
+            if (sum != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the mass of the products minus the mass of the reactants, i.e. 0 for
+     * balanced reactions (up to rounding).
+     *
+     * @param mode the mass mode, not {@code null}
+     * @return the mass difference in Da
+     * @throws NullPointerException if {@code mode} is {@code null}
+     */
+    public double massBalance(MassMode mode) {
+        double balance = 0;
+        for (int i = 0; i < compositions.length; i++) {
+            double mass = coefficients[i] * compositions[i].mass(mode);
+            balance += i < reactants.size() ? -mass : mass;
+        }
+        return balance;
+    }
+
+    /**
+     * Gets the reaction with the smallest positive integer coefficients that
+     * balance it, e.g. "C6H12O6 + 6 O2 -&gt; 6 CO2 + 6 H2O" for "C6H12O6 + O2
+     * -&gt; CO2 + H2O".
+     *
+     * @return the balanced reaction
+     * @throws IllegalStateException if the reaction cannot be balanced, or not
+     *                               uniquely (i.e. it is a combination of
+     *                               independent reactions), or if its
+     *                               coefficients would overflow
+     */
+    public Reaction balance() {
+        int[] balanced;
+        try {
+            balanced = balancedCoefficients();
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException("Cannot balance " + this + ", as the coefficients overflow", e);
+        }
+        if (balanced == null) throw new IllegalStateException("Cannot balance " + this + " uniquely");
+        if (Arrays.equals(balanced, coefficients)) return this;
+
+        return new Reaction(reactants, products, balanced, compositions, matrix);
+    }
+
+    /**
+     * Balances the given reactions in parallel. Reactions that cannot be balanced
+     * uniquely, or whose coefficients would overflow, are returned as they are, cf.
+     * {@link #isBalanced()}.
+     *
+     * @param reactions the reactions, not {@code null}
+     * @return the (unmodifiable) balanced reactions, in the order of the given
+     *         reactions
+     * @throws NullPointerException if {@code reactions} or any of its elements is
+     *                              {@code null}
+     */
+    public static List<Reaction> balance(List<Reaction> reactions) {
+        return reactions.parallelStream().map(reaction -> {
+            int[] balanced;
+            try {
+                balanced = reaction.balancedCoefficients();
+            } catch (ArithmeticException e) {
+                return reaction;
+            }
+            return balanced == null ? reaction
+                    : new Reaction(reaction.reactants, reaction.products, balanced, reaction.compositions,
+                            reaction.matrix);
+        }).toList();
+    }
+
+    /**
+     * Gets the element matrix, i.e. the count of each nuclide (row) per compound
+     * (column), negative for the reactants. It does not depend on the
+     * coefficients.
+     *
+     * @param compositions the compositions of the reactants followed by the
+     *                     products
+     * @param reactants    the number of reactants
+     * @return the element matrix
+     */
+    private static int[][] matrix(Composition[] compositions, int reactants) {
+        // the nuclides of all compounds, sorted
+        int size = 0;
+        for (Composition composition : compositions) {
+            size += composition.size();
+        }
+        int[] ids = new int[size];
+        size = 0;
+        for (Composition composition : compositions) {
+            for (int i = 0; i < composition.size(); i++) {
+                ids[size++] = composition.id(i);
+            }
+        }
+        ids = Arrays.stream(ids).sorted().distinct().toArray();
+
+        int[][] matrix = new int[ids.length][compositions.length];
+        for (int j = 0; j < compositions.length; j++) {
+            Composition composition = compositions[j];
+            int sign = j < reactants ? -1 : 1;
+            for (int i = 0; i < composition.size(); i++) {
+                matrix[Arrays.binarySearch(ids, composition.id(i))][j] = sign * composition.count(i);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Gets the smallest positive integer coefficients balancing the reaction, via
+     * fraction-free Gaussian elimination of the element matrix to the reduced row
+     * echelon form, keeping the rows reduced by their greatest common divisor.
+     *
+     * @return the coefficients, or null if the null space of the element matrix is
+     *         not one-dimensional or contains no positive solution
+     * @throws ArithmeticException if the intermediate values overflow
+     */
+    private int[] balancedCoefficients() {
+        int[][] source = matrix;
+        int n = compositions.length;
+        long[][] rows = new long[source.length][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = Arrays.stream(source[i]).asLongStream().toArray();
+        }
+
+        int[] pivotColumns = new int[Math.min(rows.length, n)];
+        int rank = 0;
+        for (int column = 0; column < n && rank < rows.length; column++) {
+            int pivot = rank;
+            while (pivot < rows.length && rows[pivot][column] == 0) pivot++;
+            if (pivot == rows.length) continue;
+
+            long[] tmp = rows[rank];
+            rows[rank] = rows[pivot];
+            rows[pivot] = tmp;
+
+            long[] pivotRow = rows[rank];
+            for (int i = 0; i < rows.length; i++) {
+                long factor = rows[i][column];
+                if (i == rank || factor == 0) continue;
+
+                long[] row = rows[i];
+                long p = pivotRow[column];
+                for (int j = 0; j < n; j++) {
+                    row[j] = Math.subtractExact(Math.multiplyExact(row[j], p), Math.multiplyExact(pivotRow[j], factor));
+                }
+                reduce(row);
+            }
+            pivotColumns[rank++] = column;
+        }
+        if (n - rank != 1) return null;
+
+        // the free column gets the least common multiple of the pivots, the others follow
+        int free = 0;
+        while (free < rank && pivotColumns[free] == free) free++;
+        long lcm = 1;
+        for (int i = 0; i < rank; i++) {
+            long p = Math.abs(rows[i][pivotColumns[i]]);
+            lcm = Math.multiplyExact(lcm / gcd(lcm, p), p);
+        }
+
+        long[] solution = new long[n];
+        solution[free] = lcm;
+        for (int i = 0; i < rank; i++) {
+            long factor = lcm / rows[i][pivotColumns[i]];
+            solution[pivotColumns[i]] = Math.negateExact(Math.multiplyExact(rows[i][free], factor));
+        }
+
+        long sign = Long.signum(solution[0]);
+        long gcd = 0;
+        for (long value : solution) {
+            if (Long.signum(value) != sign) return null;
+            gcd = gcd(gcd, Math.abs(value));
+        }
+
+        int[] coefficients = new int[n];
+        for (int j = 0; j < n; j++) {
+            coefficients[j] = Math.toIntExact(Math.abs(solution[j]) / gcd);
+        }
+        return coefficients;
+    }
+
+    /** Divides the row by the greatest common divisor of its entries. */
+    private static void reduce(long[] row) {
+        long gcd = 0;
+        for (long value : row) {
+            gcd = gcd(gcd, Math.abs(value));
+        }
+        if (gcd <= 1) return;
+
+        for (int j = 0; j < row.length; j++) {
+            row[j] /= gcd;
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long tmp = a % b;
+            a = b;
+            b = tmp;
+        }
+        return a;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Reaction other && reactants.equals(other.reactants) && products.equals(other.products)
+                && Arrays.equals(coefficients, other.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reactants, products, Arrays.hashCode(coefficients));
+    }
+
+    /**
+     * Gets the reaction with the compounds as Hill formulas, e.g. "C6H12O6 + 6 O2
+     * -&gt; 6 CO2 + 6 H2O", which can be {@link #parse(String) parsed}.
+     */
+    @Override
+    public String toString() {
+        StringJoiner left = new StringJoiner(" + ");
+        StringJoiner right = new StringJoiner(" + ");
+        for (int i = 0; i < compositions.length; i++) {
+            String term = (coefficients[i] == 1 ? "" : coefficients[i] + " ") + compositions[i].hill();
+            (i < reactants.size() ? left : right).add(term);
+        }
+        return left + " -> " + right;
+    }
+}
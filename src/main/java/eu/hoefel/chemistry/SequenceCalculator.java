@@ -0,0 +1,399 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Calculates the compositions and masses of biopolymer sequences, i.e. of
+ * peptides and nucleic acids, from precomputed residue tables. Each residue is
+ * a single character, so the tables are indexed by the character, and the mass
+ * of a sequence is the sum of the residue masses plus the terminal groups, i.e.
+ * it takes one pass over the sequence without any allocation.
+ * <p>
+ * Fixed modifications change the composition of a residue (e.g.
+ * carbamidomethylation of all cysteines), variable modifications introduce a
+ * new residue character (e.g. 'm' for oxidized methionine), that can then be
+ * used in the sequences. Modifications are given as deltas, e.g. "+C2H3NO" or
+ * "+H2O-NH3".
+ * <p>
+ * Instances are immutable.
+ */
+public final class SequenceCalculator {
+
+    /** The pattern of a term of a delta, e.g. "+H2O". */
+    private static final Pattern TERM = Pattern.compile("([+-]?)([^+-]+)");
+
+    /** The number of supported residue characters, i.e. ASCII. */
+    private static final int SYMBOLS = 128;
+
+    /** The dense ids of the columns of the count tables. */
+    private final int[] columns;
+
+    /** The counts of the residues by character, null if not defined. */
+    private final int[][] residues;
+
+    /** The counts of the terminal groups (possibly negative). */
+    private final int[] termini;
+
+    /** The masses of the residues and the terminal groups, by mass mode. */
+    private final double[][] masses;
+    private final double[] terminalMasses;
+
+    private SequenceCalculator(int[] columns, int[][] residues, int[] termini) {
+        this.columns = columns;
+        this.residues = residues;
+        this.termini = termini;
+
+        MassMode[] modes = MassMode.values();
+        masses = new double[modes.length][SYMBOLS];
+        terminalMasses = new double[modes.length];
+        for (MassMode mode : modes) {
+            double[] table = masses[mode.ordinal()];
+            Arrays.fill(table, Double.NaN);
+            for (int c = 0; c < SYMBOLS; c++) {
+                if (residues[c] != null) table[c] = mass(residues[c], mode);
+            }
+            terminalMasses[mode.ordinal()] = mass(termini, mode);
+        }
+    }
+
+    private double mass(int[] counts, MassMode mode) {
+        double mass = 0;
+        for (int i = 0; i < columns.length; i++) {
+            mass += counts[i] * mode.mass(columns[i]);
+        }
+        return mass;
+    }
+
+    /**
+     * Gets the calculator for peptides and proteins, with the 20 standard amino
+     * acids as well as selenocysteine (U) and pyrrolysine (O) in the one-letter
+     * code, and a hydrogen and a hydroxyl group as N- and C-terminus.
+     *
+     * @return the calculator for peptides
+     */
+    public static SequenceCalculator peptide() {
+        return Holder.PEPTIDE;
+    }
+
+    /**
+     * Gets the calculator for single-stranded DNA, with the nucleotides A, C, G
+     * and T, and hydroxyl groups at the 5' and the 3' end.
+     *
+     * @return the calculator for DNA
+     */
+    public static SequenceCalculator dna() {
+        return Holder.DNA;
+    }
+
+    /**
+     * Gets the calculator for single-stranded RNA, with the nucleotides A, C, G
+     * and U, and hydroxyl groups at the 5' and the 3' end.
+     *
+     * @return the calculator for RNA
+     */
+    public static SequenceCalculator rna() {
+        return Holder.RNA;
+    }
+
+    /** Holder for the predefined calculators, to only create them if needed. */
+    private static final class Holder {
+        private static final SequenceCalculator EMPTY = new SequenceCalculator(new int[0], new int[SYMBOLS][],
+                new int[0]);
+
+        private static final SequenceCalculator PEPTIDE = EMPTY.withTermini("H2O")
+                .withResidue('G', "C2H3NO").withResidue('A', "C3H5NO").withResidue('S', "C3H5NO2")
+                .withResidue('P', "C5H7NO").withResidue('V', "C5H9NO").withResidue('T', "C4H7NO2")
+                .withResidue('C', "C3H5NOS").withResidue('L', "C6H11NO").withResidue('I', "C6H11NO")
+                .withResidue('N', "C4H6N2O2").withResidue('D', "C4H5NO3").withResidue('Q', "C5H8N2O2")
+                .withResidue('K', "C6H12N2O").withResidue('E', "C5H7NO3").withResidue('M', "C5H9NOS")
+                .withResidue('H', "C6H7N3O").withResidue('F', "C9H9NO").withResidue('R', "C6H12N4O")
+                .withResidue('Y', "C9H9NO2").withResidue('W', "C11H10N2O").withResidue('U', "C3H5NOSe")
+                .withResidue('O', "C12H19N3O2");
+
+        // nucleotide monophosphates minus water, one phosphate less than nucleotides
+        private static final SequenceCalculator DNA = EMPTY.withTermini("H2O-HPO3")
+                .withResidue('A', "C10H12N5O5P").withResidue('C', "C9H12N3O6P")
+                .withResidue('G', "C10H12N5O6P").withResidue('T', "C10H13N2O7P");
+
+        private static final SequenceCalculator RNA = EMPTY.withTermini("H2O-HPO3")
+                .withResidue('A', "C10H12N5O6P").withResidue('C', "C9H12N3O7P")
+                .withResidue('G', "C10H12N5O7P").withResidue('U', "C9H11N2O8P");
+    }
+
+    /**
+     * Gets a calculator with the given residue (re)defined.
+     *
+     * @param symbol  the (ASCII) character of the residue
+     * @param formula the composition of the residue within the chain, not
+     *                {@code null}
+     * @return the new calculator
+     * @throws NullPointerException     if {@code formula} is {@code null}
+     * @throws IllegalArgumentException if {@code symbol} is not ASCII or
+     *                                  {@code formula} cannot be parsed
+     */
+    public SequenceCalculator withResidue(char symbol, String formula) {
+        checkSymbol(symbol);
+        return with(symbol, new int[0], Composition.parse(formula), Composition.EMPTY);
+    }
+
+    /**
+     * Gets a calculator where the given residue is always modified.
+     *
+     * @param residue the (ASCII) character of the residue, e.g. 'C'
+     * @param delta   the change of the composition, e.g. "+C2H3NO" for
+     *                carbamidomethylation, not {@code null}
+     * @return the new calculator
+     * @throws NullPointerException     if {@code delta} is {@code null}
+     * @throws IllegalArgumentException if the residue is not defined or
+     *                                  {@code delta} cannot be parsed
+     */
+    public SequenceCalculator withFixedModification(char residue, String delta) {
+        return withVariableModification(residue, residue, delta);
+    }
+
+    /**
+     * Gets a calculator with a new residue character for a modified residue.
+     *
+     * @param symbol  the (ASCII) character of the modified residue, e.g. 'm'
+     * @param residue the (ASCII) character of the unmodified residue, e.g. 'M'
+     * @param delta   the change of the composition, e.g. "+O" for oxidation, not
+     *                {@code null}
+     * @return the new calculator
+     * @throws NullPointerException     if {@code delta} is {@code null}
+     * @throws IllegalArgumentException if the residue is not defined or
+     *                                  {@code delta} cannot be parsed
+     */
+    public SequenceCalculator withVariableModification(char symbol, char residue, String delta) {
+        checkSymbol(symbol);
+        checkSymbol(residue);
+        if (residues[residue] == null) throw new IllegalArgumentException("Unknown residue '" + residue + "'");
+
+        Composition[] parsed = parseDelta(delta);
+        return with(symbol, residues[residue], parsed[0], parsed[1]);
+    }
+
+    /**
+     * Gets a calculator where all atoms of the element of the isotope in the
+     * given residue are replaced by the isotope, e.g. labelling 'K' with
+     * {@link Isotope.C#C13} and {@link Isotope.N#N15} gives the heavy lysine
+     * (+8 Da) used in SILAC.
+     *
+     * @param residue the (ASCII) character of the residue, e.g. 'K'
+     * @param isotope the isotope, not {@code null}
+     * @return the new calculator
+     * @throws NullPointerException     if {@code isotope} is {@code null}
+     * @throws IllegalArgumentException if the residue is not defined
+     */
+    public SequenceCalculator withLabel(char residue, Isotope isotope) {
+        checkSymbol(residue);
+        if (residues[residue] == null) throw new IllegalArgumentException("Unknown residue '" + residue + "'");
+
+        Composition labelled = Composition.of(columns, residues[residue], columns.length).labelAll(isotope);
+        return with(residue, new int[0], labelled, Composition.EMPTY);
+    }
+
+    /**
+     * Gets a calculator with the given terminal groups, i.e. the change of the
+     * composition of the sum of the residues.
+     *
+     * @param delta the terminal groups, e.g. "+H2O" for peptides, not
+     *              {@code null}
+     * @return the new calculator
+     * @throws NullPointerException     if {@code delta} is {@code null}
+     * @throws IllegalArgumentException if {@code delta} cannot be parsed
+     */
+    public SequenceCalculator withTermini(String delta) {
+        Composition[] parsed = parseDelta(delta);
+        int[] newColumns = columns(parsed[0], parsed[1]);
+        int[] newTermini = add(expand(new int[0], newColumns), newColumns, parsed[0], 1);
+        add(newTermini, newColumns, parsed[1], -1);
+        return new SequenceCalculator(newColumns, expandAll(newColumns), newTermini);
+    }
+
+    private SequenceCalculator with(char symbol, int[] base, Composition gain, Composition loss) {
+        int[] newColumns = columns(gain, loss);
+        int[][] newResidues = expandAll(newColumns);
+        int[] counts = expand(base, newColumns);
+        add(counts, newColumns, gain, 1);
+        add(counts, newColumns, loss, -1);
+        for (int count : counts) {
+            if (count < 0) throw new IllegalArgumentException("Negative composition for residue '" + symbol + "'");
+        }
+        newResidues[symbol] = counts;
+        return new SequenceCalculator(newColumns, newResidues, expand(termini, newColumns));
+    }
+
+    /** Gets the columns extended by the ids of the compositions. */
+    private int[] columns(Composition... compositions) {
+        int[] newColumns = columns;
+        for (Composition composition : compositions) {
+            for (int i = 0; i < composition.size(); i++) {
+                int id = composition.id(i);
+                if (indexOf(newColumns, id) < 0) {
+                    newColumns = Arrays.copyOf(newColumns, newColumns.length + 1);
+                    newColumns[newColumns.length - 1] = id;
+                }
+            }
+        }
+        return newColumns;
+    }
+
+    private static int indexOf(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /** Copies the counts (for the current columns) to the new columns, which extend the current ones. */
+    private int[] expand(int[] counts, int[] newColumns) {
+        return Arrays.copyOf(counts, newColumns.length);
+    }
+
+    private int[][] expandAll(int[] newColumns) {
+        int[][] newResidues = new int[SYMBOLS][];
+        for (int c = 0; c < SYMBOLS; c++) {
+            if (residues[c] != null) newResidues[c] = expand(residues[c], newColumns);
+        }
+        return newResidues;
+    }
+
+    private static int[] add(int[] counts, int[] columns, Composition composition, int sign) {
+        for (int i = 0; i < composition.size(); i++) {
+            counts[indexOf(columns, composition.id(i))] += sign * composition.count(i);
+        }
+        return counts;
+    }
+
+    /** Parses a delta like "+H2O-NH3" into the gained and the lost composition. */
+    private static Composition[] parseDelta(String delta) {
+        StringBuilder gain = new StringBuilder();
+        StringBuilder loss = new StringBuilder();
+        Matcher matcher = TERM.matcher(delta.strip());
+        int end = 0;
+        while (matcher.find()) {
+            if (matcher.start() != end) break;
+            end = matcher.end();
+            StringBuilder target = "-".equals(matcher.group(1)) ? loss : gain;
+            if (!target.isEmpty()) target.append('.');
+            target.append(matcher.group(2));
+        }
+        if (end != delta.strip().length()) throw new IllegalArgumentException("Cannot parse the delta '" + delta + "'");
+        return new Composition[] { Composition.parse(gain.toString()), Composition.parse(loss.toString()) };
+    }
+
+    private static void checkSymbol(char symbol) {
+        if (symbol >= SYMBOLS) throw new IllegalArgumentException("Only ASCII residue symbols are supported");
+    }
+
+    /**
+     * Checks whether the given residue is defined.
+     *
+     * @param symbol the character of the residue
+     * @return true if the residue is defined
+     */
+    public boolean isResidue(char symbol) {
+        return symbol < SYMBOLS && residues[symbol] != null;
+    }
+
+    /**
+     * Gets the mass of the given sequence.
+     *
+     * @param sequence the sequence, e.g. "PEPTIDE", not {@code null}
+     * @param mode     the mass mode, not {@code null}
+     * @return the mass in Da
+     * @throws NullPointerException     if {@code sequence} or {@code mode} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if the sequence contains an unknown
+     *                                  residue
+     */
+    public double mass(CharSequence sequence, MassMode mode) {
+        double[] table = masses[mode.ordinal()];
+        double mass = terminalMasses[mode.ordinal()];
+        for (int i = 0; i < sequence.length(); i++) {
+            char c = sequence.charAt(i);
+            double residue = c < SYMBOLS ? table[c] : Double.NaN;
+            if (Double.isNaN(residue)) throw unknownResidue(sequence, i);
+            mass += residue;
+        }
+        return mass;
+    }
+
+    /**
+     * Gets the mass of the given part of the residues.
+     *
+     * @param residues the residues as ASCII characters
+     * @param from     the start of the sequence (inclusive)
+     * @param to       the end of the sequence (exclusive)
+     * @param mode     the mass mode
+     * @return the mass in Da, NaN if the sequence contains an unknown residue
+     */
+    double mass(byte[] residues, int from, int to, MassMode mode) {
+        double[] table = masses[mode.ordinal()];
+        double mass = terminalMasses[mode.ordinal()];
+        for (int i = from; i < to; i++) {
+            // unknown residues are NaN, so the sum is NaN too
+            mass += table[residues[i] & (SYMBOLS - 1)];
+        }
+        return mass;
+    }
+
+    /**
+     * Gets the composition of the given sequence.
+     *
+     * @param sequence the sequence, e.g. "PEPTIDE", not {@code null}
+     * @return the composition
+     * @throws NullPointerException     if {@code sequence} is {@code null}
+     * @throws IllegalArgumentException if the sequence contains an unknown
+     *                                  residue
+     */
+    public Composition composition(CharSequence sequence) {
+        int[] histogram = new int[SYMBOLS];
+        for (int i = 0; i < sequence.length(); i++) {
+            char c = sequence.charAt(i);
+            if (c >= SYMBOLS || residues[c] == null) throw unknownResidue(sequence, i);
+            histogram[c]++;
+        }
+
+        int[] counts = termini.clone();
+        for (int c = 0; c < SYMBOLS; c++) {
+            if (histogram[c] == 0) continue;
+            int[] residue = residues[c];
+            for (int j = 0; j < counts.length; j++) {
+                counts[j] += histogram[c] * residue[j];
+            }
+        }
+        for (int count : counts) {
+            if (count < 0) throw new IllegalArgumentException("The sequence '" + sequence + "' is too short");
+        }
+        return Composition.of(columns, counts, counts.length);
+    }
+
+    /**
+     * Calculates the masses of the given sequences in parallel.
+     *
+     * @param sequences the sequences, not {@code null}
+     * @param mode      the mass mode, not {@code null}
+     * @param masses    the array to store the masses in, at least as long as
+     *                  {@code sequences}
+     * @throws NullPointerException      if any argument is {@code null}
+     * @throws IllegalArgumentException  if any sequence contains an unknown
+     *                                   residue
+     * @throws IndexOutOfBoundsException if {@code masses} is too short
+     */
+    public void masses(List<? extends CharSequence> sequences, MassMode mode, double[] masses) {
+        Objects.requireNonNull(mode);
+        Objects.checkFromIndexSize(0, sequences.size(), masses.length);
+        IntStream.range(0, sequences.size()).parallel().forEach(i -> masses[i] = mass(sequences.get(i), mode));
+    }
+
+    private static IllegalArgumentException unknownResidue(CharSequence sequence, int index) {
+        return new IllegalArgumentException("Unknown residue '%s' at position %d in sequence '%s'"
+                .formatted(sequence.charAt(index), index, sequence));
+    }
+}
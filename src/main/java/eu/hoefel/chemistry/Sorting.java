@@ -0,0 +1,171 @@
+package eu.hoefel.chemistry;
+
+import java.util.Arrays;
+
+/**
+ * Sorting of primitive arrays by primitive keys, i.e. without boxing.
+ */
+final class Sorting {
+
+    /** Below this size, insertion sort is used. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** The bits per pass of the radix sort. */
+    private static final int RADIX_BITS = 8;
+
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private Sorting() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the permutation that sorts the given keys increasingly. The order of
+     * equal keys is unspecified.
+     *
+     * @param keys the keys, not modified
+     * @return the indices of the keys in increasing order of the keys
+     */
+    static int[] order(double[] keys) {
+        int[] indices = new int[keys.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sort(keys, indices, 0, indices.length - 1);
+        return indices;
+    }
+
+    /**
+     * Sorts the indices by the keys they point to via quicksort.
+     *
+     * @param keys    the keys
+     * @param indices the indices into the keys to sort
+     * @param lo      the first index (inclusive)
+     * @param hi      the last index (inclusive)
+     */
+    private static void sort(double[] keys, int[] indices, int lo, int hi) {
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            double pivot = keys[indices[(lo + hi) >>> 1]];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (keys[indices[i]] < pivot) i++;
+                while (keys[indices[j]] > pivot) j--;
+                if (i <= j) {
+                    int tmp = indices[i];
+                    indices[i++] = indices[j];
+                    indices[j--] = tmp;
+                }
+            }
+            // recurse into the smaller part to bound the stack depth
+            if (j - lo < hi - i) {
+                sort(keys, indices, lo, j);
+                lo = i;
+            } else {
+                sort(keys, indices, i, hi);
+                hi = j;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            int index = indices[i];
+            double key = keys[index];
+            int j = i - 1;
+            for (; j >= lo && keys[indices[j]] > key; j--) {
+                indices[j + 1] = indices[j];
+            }
+            indices[j + 1] = index;
+        }
+    }
+
+    /**
+     * Gets the permutation that sorts the given strings of tokens increasingly,
+     * comparing the tokens as unsigned integers in lexicographic order (a string
+     * sorts before all longer strings it is the start of). The order of equal
+     * strings is unspecified.
+     *
+     * @param tokens  the non-zero tokens of all strings, not modified
+     * @param offsets the offsets of the strings into the tokens, with the end of
+     *                the last string as last offset
+     * @return the indices of the strings in increasing order of the strings
+     */
+    static int[] order(int[] tokens, int[] offsets) {
+        int[] indices = new int[offsets.length - 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sort(tokens, offsets, indices, new int[indices.length], 0, indices.length, 0);
+        return indices;
+    }
+
+    /** Gets the token of the string at the given depth, 0 beyond its end. */
+    private static int token(int[] tokens, int[] offsets, int string, int depth) {
+        int position = offsets[string] + depth;
+        return position < offsets[string + 1] ? tokens[position] : 0;
+    }
+
+    /**
+     * Sorts the indices by the strings they point to, which are equal up to the
+     * given depth, via a most significant token first radix sort with a least
+     * significant digit first radix sort per token.
+     *
+     * @param tokens  the tokens
+     * @param offsets the offsets of the strings into the tokens
+     * @param indices the indices of the strings to sort
+     * @param buffer  a buffer of the size of the indices
+     * @param lo      the first index (inclusive)
+     * @param hi      the last index (exclusive)
+     * @param depth   the depth up to which the strings are equal
+     */
+    private static void sort(int[] tokens, int[] offsets, int[] indices, int[] buffer, int lo, int hi, int depth) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            for (int i = lo + 1; i < hi; i++) {
+                int index = indices[i];
+                int j = i - 1;
+                for (; j >= lo && compare(tokens, offsets, indices[j], index, depth) > 0; j--) {
+                    indices[j + 1] = indices[j];
+                }
+                indices[j + 1] = index;
+            }
+            return;
+        }
+
+        int[] histogram = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(histogram, 0);
+            for (int i = lo; i < hi; i++) {
+                histogram[(token(tokens, offsets, indices[i], depth) >>> shift & RADIX - 1) + 1]++;
+            }
+            // skip passes where all strings have the same digit
+            boolean sorted = false;
+            for (int digit = 1; digit <= RADIX && !sorted; digit++) {
+                sorted = histogram[digit] == hi - lo;
+            }
+            if (sorted) continue;
+
+            for (int digit = 0; digit < RADIX; digit++) {
+                histogram[digit + 1] += histogram[digit];
+            }
+            for (int i = lo; i < hi; i++) {
+                int index = indices[i];
+                buffer[lo + histogram[token(tokens, offsets, index, depth) >>> shift & RADIX - 1]++] = index;
+            }
+            System.arraycopy(buffer, lo, indices, lo, hi - lo);
+        }
+
+        // the strings that ended are equal, the others are sorted by their next token
+        for (int start = lo; start < hi;) {
+            int token = token(tokens, offsets, indices[start], depth);
+            int end = start + 1;
+            while (end < hi && token(tokens, offsets, indices[end], depth) == token) end++;
+            if (token != 0 && end - start > 1) sort(tokens, offsets, indices, buffer, start, end, depth + 1);
+            start = end;
+        }
+    }
+
+    /** Compares the given strings of tokens, which are equal up to the given depth. */
+    private static int compare(int[] tokens, int[] offsets, int a, int b, int depth) {
+        return Arrays.compareUnsigned(tokens, offsets[a] + depth, offsets[a + 1], tokens, offsets[b] + depth,
+                offsets[b + 1]);
+    }
+}
@@ -11,5 +11,6 @@ module eu.hoefel.chemistry {
     exports eu.hoefel.chemistry;
 
     requires eu.hoefel.utils;
+    requires jdk.jfr;
     requires transitive eu.hoefel.jatex;
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package eu.hoefel.chemistry;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels using the (incubating) Vector API. This class is compiled separately
+ * (cf. the build), and it must only be loaded if the module
+ * {@code jdk.incubator.vector} is available, cf.
+ * {@link CompositionMatrix#VECTORIZED}.
+ */
+final class VectorKernels implements MassKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /** The ints with as many lanes as {@link #DOUBLES}, i.e. of half the size. */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED
+            .withShape(VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    /** Creates the kernels, reflectively from {@link CompositionMatrix}. */
+    VectorKernels() {
+        // nothing to initialize
+    }
+
+    @Override
+    public void multiply(int[] counts, int offset, double factor, double[] out, int n, boolean add) {
+        DoubleVector f = DoubleVector.broadcast(DOUBLES, factor);
+        int bound = DOUBLES.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector c = (DoubleVector) IntVector.fromArray(INTS, counts, offset + i)
+                                                     .convertShape(VectorOperators.I2D, DOUBLES, 0);
+            DoubleVector v = add ? c.mul(f).add(DoubleVector.fromArray(DOUBLES, out, i)) : c.mul(f);
+            v.intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = add ? out[i] + counts[offset + i] * factor : counts[offset + i] * factor;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for adducts.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Adducts")
+class AdductTests {
+
+    @DisplayName("Testing adducts")
+    @Test
+    void testAdducts() {
+        Composition glucose = Composition.parse("C6H12O6");
+        double mass = glucose.mass(MassMode.MONOISOTOPIC);
+        assertEquals(181.07066, Adduct.M_PLUS_H.mz(mass), 1e-5);
+        assertEquals(179.05611, Adduct.M_MINUS_H.mz(mass), 1e-5);
+        assertEquals(203.05261, Adduct.M_PLUS_NA.mz(glucose, MassMode.MONOISOTOPIC), 1e-5);
+        assertEquals((mass + 2 * 1.007276467) / 2, Adduct.M_PLUS_2H.mz(mass), 1e-6);
+        assertEquals(mass, Adduct.M_PLUS_2H.neutralMass(Adduct.M_PLUS_2H.mz(mass)), 1e-9);
+
+        Adduct dimer = Adduct.parse("[2M-H2O+H]+");
+        assertEquals(2, dimer.multimer());
+        assertEquals(1, dimer.charge());
+        assertEquals(Composition.parse("H2O"), dimer.loss());
+        assertEquals(2 * mass - Composition.parse("H2O").mass(MassMode.MONOISOTOPIC) + 1.007276467, dimer.mz(mass), 1e-6);
+        assertEquals(Composition.parse("H2"), Adduct.M_PLUS_2H.gain());
+        assertThrows(IllegalArgumentException.class, () -> Adduct.parse("[M+H]"));
+        assertThrows(IllegalArgumentException.class, () -> Adduct.parse("[M+Xy]+"));
+
+        List<Adduct> adducts = List.of(Adduct.M_PLUS_H, Adduct.M_PLUS_NA, dimer);
+        double[] masses = { 100, mass, 1000 };
+        double[] mz = new double[masses.length * adducts.size()];
+        Adduct.mz(masses, adducts, mz);
+        for (int i = 0; i < masses.length; i++) {
+            for (int j = 0; j < adducts.size(); j++) {
+                assertEquals(adducts.get(j).mz(masses[i]), mz[i * adducts.size() + j], 1e-9);
+            }
+        }
+        double[] single = new double[masses.length];
+        dimer.mz(masses, single);
+        assertEquals(dimer.mz(1000), single[2], 1e-9);
+    }
+}
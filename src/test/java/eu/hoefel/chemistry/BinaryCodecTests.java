@@ -0,0 +1,70 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the binary encoding of compositions and molecules.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Binary codec")
+class BinaryCodecTests {
+
+    @DisplayName("Testing the binary codec")
+    @Test
+    void testBinaryCodec() throws IOException {
+        List<Composition> compositions = List.of(Composition.parse("H2O"), Composition.EMPTY,
+                Composition.parse("[13C]CH3D"), Composition.parse("C254H377N65O75S6"), Composition.parse("Og[294Og]2"));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        for (Composition composition : compositions) {
+            BinaryCodec.write(composition, buffer);
+        }
+        assertEquals(5, BinaryCodec.size(compositions.get(0)));
+        assertEquals(compositions.stream().mapToInt(BinaryCodec::size).sum(), buffer.position());
+        buffer.flip();
+        for (Composition composition : compositions) {
+            assertEquals(composition, BinaryCodec.readComposition(buffer));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodec.readComposition(ByteBuffer.wrap(new byte[] { 1, 3, 1, 1 })));
+
+        MoleculeInfo info = new MoleculeInfo("codec-test-molecule", "C6H12O6", true, "WQZGKKKJIJFFOK-GASJEMHNSA-N",
+                Map.of(Element.C, 6, Element.H, 12, Element.O, 6), 180.156, "(3R,4S,5S,6R)-6-(hydroxymethyl)oxane-2,3,4,5-tetrol",
+                List.of("D-glucose", "D-glucopyranose", "D-Glucose", "\u03b1-D-glucose", "\u03b1-D-glc \uD83C\uDF6C", "\uD83C\uDF6D"));
+        MoleculeInfo unpackable = new MoleculeInfo("x", "", false, "no key", Map.of(), Double.NaN, "", List.of());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryCodec.write(info, out);
+        BinaryCodec.write(unpackable, out);
+        BinaryCodec.write(MoleculeInfo.INVALID_NAME, out);
+        BinaryCodec.write(compositions.get(3), out);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(info, BinaryCodec.readMoleculeInfo(in));
+        assertEquals(unpackable, BinaryCodec.readMoleculeInfo(in));
+        assertEquals(MoleculeInfo.INVALID_NAME, BinaryCodec.readMoleculeInfo(in));
+        assertEquals(compositions.get(3), BinaryCodec.readComposition(in));
+        assertTrue(BinaryCodec.size(info) < 200);
+
+        // the cache of molecules
+        bytes.reset();
+        out.writeInt(1);
+        BinaryCodec.write(info, out);
+        assertEquals(1, Molecule.readCache(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        Molecule glucose = new Molecule("codec-test-molecule");
+        assertEquals(info.key(), glucose.key());
+        assertEquals(info.names(), glucose.names());
+    }
+}
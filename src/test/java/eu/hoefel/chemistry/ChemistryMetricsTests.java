@@ -0,0 +1,249 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import eu.hoefel.chemistry.ChemistryMetrics.CacheStats;
+import eu.hoefel.chemistry.ChemistryMetrics.EndpointStats;
+import eu.hoefel.chemistry.ChemistryMetrics.Snapshot;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests for the metrics and JFR events. The tests of the recording run in a
+ * separate fork with {@value ChemistryMetrics#ENABLED_PROPERTY} set and a local
+ * resolver stub, cf. the surefire configuration.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Metrics")
+class ChemistryMetricsTests {
+
+    @DisplayName("Testing latency percentiles")
+    @Test
+    void testPercentiles() {
+        long[] latencies = new long[32];
+        latencies[1] = 50;
+        latencies[3] = 49;
+        latencies[10] = 1;
+        EndpointStats stats = new EndpointStats(100, 2, latencies);
+        assertEquals(0.002, stats.percentile(0.5));
+        assertEquals(0.008, stats.percentile(0.99));
+        assertEquals(1.024, stats.percentile(0.999));
+        assertTrue(Double.isNaN(new EndpointStats(0, 0, new long[32]).percentile(0.5)));
+
+        // defensive copies
+        latencies[1] = 0;
+        assertEquals(50, stats.latencies()[1]);
+        stats.latencies()[1] = 0;
+        assertEquals(50, stats.latencies()[1]);
+        assertEquals(new EndpointStats(100, 2, stats.latencies()), stats);
+
+        assertEquals(0.75, new CacheStats(3, 1, 0, 4).hitRatio());
+        assertTrue(Double.isNaN(new CacheStats(0, 0, 0, 4).hitRatio()));
+    }
+
+    @DisplayName("Testing flattened snapshots")
+    @Test
+    void testSnapshotToMap() {
+        long[] latencies = new long[32];
+        latencies[2] = 4;
+        Snapshot snapshot = new Snapshot(Map.of("molecule", new CacheStats(3, 1, 2, 5)), 1,
+                Map.of("/formula", new EndpointStats(4, 1, latencies)));
+        Map<String, Number> map = snapshot.toMap();
+        assertEquals(3L, map.get("cache.molecule.hits"));
+        assertEquals(1L, map.get("cache.molecule.misses"));
+        assertEquals(2L, map.get("cache.molecule.evictions"));
+        assertEquals(5L, map.get("cache.molecule.size"));
+        assertEquals(1L, map.get("fetch.inflight"));
+        assertEquals(4L, map.get("endpoint./formula.requests"));
+        assertEquals(1L, map.get("endpoint./formula.errors"));
+        assertEquals(0.004, map.get("endpoint./formula.p99"));
+        assertEquals(List.copyOf(map.keySet()), map.keySet().stream().sorted().toList());
+    }
+
+    @DisplayName("Testing JFR events of formula parsing")
+    @Test
+    void testParseEvents(@TempDir Path dir) throws IOException {
+        List<RecordedEvent> events = record(dir, "eu.hoefel.chemistry.FormulaParse", () -> Composition.parse("C6H12O6"));
+        events = events.stream().filter(event -> "C6H12O6".equals(event.getString("formula"))).toList();
+        assertEquals(1, events.size());
+        assertEquals(3, events.get(0).getInt("components"));
+    }
+
+    @DisplayName("Testing disabled metrics")
+    @Test
+    @DisabledIfSystemProperty(named = ChemistryMetrics.ENABLED_PROPERTY, matches = "true")
+    void testDisabled() throws IOException {
+        assertFalse(ChemistryMetrics.isEnabled());
+        ChemistryMetrics.reset();
+
+        seed("disabled heavy water");
+        new Molecule("disabled heavy water");
+        Composition.parse("H2O");
+        ChemistryMetrics.fetchStarted();
+        ChemistryMetrics.request(MoleculeInfo.CHEMICAL_FORMULA_TARGET, 1_000, false);
+
+        Snapshot snapshot = ChemistryMetrics.snapshot();
+        CacheStats molecules = snapshot.caches().get(Molecule.CACHE_NAME);
+        assertEquals(0, molecules.hits());
+        assertEquals(0, molecules.misses());
+        assertTrue(molecules.size() > 0);
+        assertEquals(0, snapshot.inFlightFetches());
+        assertEquals(Map.of(), snapshot.endpoints());
+    }
+
+    @DisplayName("Testing recorded metrics")
+    @Test
+    @EnabledIfSystemProperty(named = ChemistryMetrics.ENABLED_PROPERTY, matches = "true")
+    void testEnabled() throws IOException {
+        assertTrue(ChemistryMetrics.isEnabled());
+        ChemistryMetrics.reset();
+
+        // a cached entry does not hit the resolver
+        seed("heavy water");
+        new Molecule("heavy water");
+        new Molecule("heavy water");
+        Snapshot snapshot = ChemistryMetrics.snapshot();
+        assertEquals(new CacheStats(2, 0, 0, snapshot.caches().get(Molecule.CACHE_NAME).size()),
+                snapshot.caches().get(Molecule.CACHE_NAME));
+        assertEquals(Map.of(), snapshot.endpoints());
+
+        // the stub resolver knows water (by name and by InChI key), but nothing else
+        new Molecule("water");
+        new Molecule("water");
+        assertThrows(IllegalArgumentException.class, () -> new Molecule("unobtainium"));
+
+        snapshot = ChemistryMetrics.snapshot();
+        CacheStats molecules = snapshot.caches().get(Molecule.CACHE_NAME);
+        assertEquals(3, molecules.hits());
+        assertEquals(2, molecules.misses());
+        assertEquals(0, snapshot.inFlightFetches());
+
+        Map<String, EndpointStats> endpoints = snapshot.endpoints();
+        assertEquals(3, endpoints.get(MoleculeInfo.CHEMICAL_FORMULA_TARGET).requests());
+        assertEquals(1, endpoints.get(MoleculeInfo.CHEMICAL_FORMULA_TARGET).errors());
+        for (String endpoint : List.of(MoleculeInfo.STD_IN_CH_I_TARGET, MoleculeInfo.IUPAC_NAME, MoleculeInfo.NAMES)) {
+            assertEquals(1, endpoints.get(endpoint).requests());
+            assertEquals(0, endpoints.get(endpoint).errors());
+        }
+        for (EndpointStats stats : endpoints.values()) {
+            assertEquals(stats.requests(), Arrays.stream(stats.latencies()).sum());
+        }
+        assertEquals(3L, snapshot.toMap().get("endpoint./formula.requests"));
+    }
+
+    @DisplayName("Testing concurrent cache misses")
+    @Test
+    @EnabledIfSystemProperty(named = ChemistryMetrics.ENABLED_PROPERTY, matches = "true")
+    void testConcurrentMisses() throws InterruptedException {
+        ChemistryMetrics.reset();
+
+        // the stub resolver knows oxidane, which no other test requests
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                return new Molecule("oxidane");
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        Snapshot snapshot = ChemistryMetrics.snapshot();
+        CacheStats molecules = snapshot.caches().get(Molecule.CACHE_NAME);
+        assertEquals(1, molecules.misses());
+        assertEquals(threads - 1, molecules.hits());
+        assertEquals(1, snapshot.endpoints().get(MoleculeInfo.STD_IN_CH_I_TARGET).requests());
+    }
+
+    @DisplayName("Testing latency buckets")
+    @Test
+    @EnabledIfSystemProperty(named = ChemistryMetrics.ENABLED_PROPERTY, matches = "true")
+    void testLatencyBuckets() {
+        ChemistryMetrics.reset();
+        long[] nanos = { 0, 999, 1_000, 3_000, 1_500_000, Long.MAX_VALUE };
+        for (long time : nanos) {
+            ChemistryMetrics.request("/test", time, time != 0);
+        }
+
+        EndpointStats stats = ChemistryMetrics.snapshot().endpoints().get("/test");
+        assertEquals(6, stats.requests());
+        assertEquals(1, stats.errors());
+        long[] expected = new long[32];
+        expected[0] = 2; // below 1 microsecond
+        expected[1] = 1; // 1 microsecond
+        expected[2] = 1; // 3 microseconds
+        expected[11] = 1; // 1500 microseconds
+        expected[31] = 1; // capped
+        assertArrayEquals(expected, stats.latencies());
+
+        ChemistryMetrics.reset();
+        assertEquals(Map.of(), ChemistryMetrics.snapshot().endpoints());
+    }
+
+    @DisplayName("Testing JFR events of molecule fetches")
+    @Test
+    @EnabledIfSystemProperty(named = ChemistryMetrics.ENABLED_PROPERTY, matches = "true")
+    void testFetchEvents(@TempDir Path dir) throws IOException {
+        List<RecordedEvent> events = record(dir, "eu.hoefel.chemistry.MoleculeFetch",
+                () -> assertThrows(IllegalArgumentException.class, () -> new Molecule("phlogiston")));
+        assertEquals(1, events.size());
+        assertEquals("phlogiston", events.get(0).getString("molecule"));
+        assertEquals(MoleculeInfo.CHEMICAL_FORMULA_TARGET, events.get(0).getString("endpoint"));
+        assertFalse(events.get(0).getBoolean("success"));
+    }
+
+    /** Records the events of the given type while running the action. */
+    private static List<RecordedEvent> record(Path dir, String event, Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(event).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+
+            Path file = dir.resolve("recording.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals(event))
+                    .toList();
+        }
+    }
+
+    /** Puts a molecule into the cache, such that it is not fetched from the resolver. */
+    private static void seed(String name) throws IOException {
+        MoleculeInfo info = new MoleculeInfo(name, "D2O", true, "XLYOFNOQVPJJNP-ZSJDYOACSA-N",
+                Map.of(Isotope.H.D, 2, Element.O, 1), 20.027, "(2H2)water", List.of(name));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(1);
+        BinaryCodec.write(info, out);
+        Molecule.readCache(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
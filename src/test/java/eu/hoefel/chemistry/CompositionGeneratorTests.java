@@ -0,0 +1,64 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the generation of compositions matching a mass.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Composition generation")
+class CompositionGeneratorTests {
+
+    @DisplayName("Testing composition generation")
+    @Test
+    void testCompositionGenerator() {
+        CompositionGenerator generator = CompositionGenerator.of("C0-30 H0-60 N0-5 O0-10 S0-2");
+        double mass = Composition.parse("C6H12O6").mass(MassMode.MONOISOTOPIC);
+
+        // brute force for comparison
+        Set<Composition> expected = new HashSet<>();
+        for (int c = 0; c <= 30; c++) {
+            for (int h = 0; h <= 60; h++) {
+                for (int n = 0; n <= 5; n++) {
+                    for (int o = 0; o <= 10; o++) {
+                        for (int s = 0; s <= 2; s++) {
+                            double m = c * Element.C.mass(MassMode.MONOISOTOPIC)
+                                    + h * Element.H.mass(MassMode.MONOISOTOPIC)
+                                    + n * Element.N.mass(MassMode.MONOISOTOPIC)
+                                    + o * Element.O.mass(MassMode.MONOISOTOPIC)
+                                    + s * Element.S.mass(MassMode.MONOISOTOPIC);
+                            if (Math.abs(m - mass) <= mass * 20e-6) {
+                                expected.add(Composition.parse("C%dH%dN%dO%dS%d".formatted(c, h, n, o, s)));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Composition> sequential = generator.generate(mass, 20).toList();
+        assertEquals(expected, Set.copyOf(sequential));
+        assertEquals(expected.size(), sequential.size());
+        assertEquals(expected, generator.generate(mass, 20).parallel().collect(Collectors.toSet()));
+        assertEquals(expected.size(), generator.count(mass, 20));
+
+        List<Composition> filtered = generator.withRdbe(0, 40).withValenceRules(true).generate(mass, 5).toList();
+        assertTrue(filtered.contains(Composition.parse("C6H12O6")));
+        assertTrue(filtered.size() < generator.generate(mass, 5).count());
+
+        assertEquals(List.of(Composition.parse("[13C]H4")),
+                CompositionGenerator.of("[13C]1 H0-4").generate(Composition.parse("[13C]H4").mass(MassMode.MONOISOTOPIC), 1).toList());
+        assertThrows(IllegalArgumentException.class, () -> CompositionGenerator.of("C5-1"));
+        assertThrows(IllegalArgumentException.class, () -> CompositionGenerator.of("C-5"));
+    }
+}
@@ -0,0 +1,50 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the interning of compositions.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Composition interning")
+class CompositionInternerTests {
+
+    @DisplayName("Testing composition interning")
+    @Test
+    void testCompositionInterner() {
+        CompositionInterner interner = new CompositionInterner();
+        Composition water = interner.intern(Composition.parse("H2O"));
+        assertTrue(water == interner.intern(Composition.parse("HOH")));
+        assertTrue(Composition.EMPTY == interner.intern(Composition.parse("")));
+        assertEquals(1, interner.size());
+
+        // many duplicates from several threads
+        List<Composition> compositions = IntStream.range(0, 100_000)
+                                                  .mapToObj(i -> Composition.parse("C%dH%dO%d".formatted(i % 50 + 1, i % 37, i % 3)))
+                                                  .toList();
+        List<Composition> interned = compositions.parallelStream().map(interner::intern).toList();
+        assertEquals(Set.copyOf(compositions).size() + 1, interner.size());
+        assertEquals(compositions, interned);
+        Map<Composition, Composition> canonical = new HashMap<>();
+        for (Composition composition : interned) {
+            assertTrue(canonical.computeIfAbsent(composition, c -> composition) == composition);
+        }
+
+        interner.clear();
+        assertEquals(0, interner.size());
+        Composition copy = Composition.parse("H2O");
+        assertTrue(copy == interner.intern(copy));
+        assertThrows(IllegalArgumentException.class, () -> new CompositionInterner(-1));
+    }
+}
@@ -0,0 +1,60 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for composition matrices.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Composition matrices")
+class CompositionMatrixTests {
+
+    @DisplayName("Testing composition matrices")
+    @Test
+    void testCompositionMatrix() {
+        List<Composition> compositions = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            compositions.add(Composition.parse("C%dH%dN%dO%d".formatted(i + 1, 2 * i + 2, i % 3, i % 5)));
+        }
+        compositions.add(Composition.parse("CH3[2H]"));
+        compositions.add(Composition.parse("Xe"));
+
+        CompositionMatrix matrix = CompositionMatrix.of(compositions);
+        assertEquals(compositions.size(), matrix.rows());
+        assertEquals(6, matrix.columns());
+        assertEquals(Element.H, matrix.nuclide(0));
+        assertEquals(Isotope.H.D, matrix.nuclide(1));
+        assertEquals(11, matrix.count(10, 2));
+        for (int r = 0; r < matrix.rows(); r++) {
+            assertEquals(compositions.get(r), matrix.composition(r));
+        }
+
+        for (MassMode mode : MassMode.values()) {
+            double[] masses = new double[matrix.rows()];
+            matrix.masses(mode, masses);
+            double[] scalar = new double[matrix.rows()];
+            matrix.masses(mode, scalar, false);
+            for (int r = 0; r < matrix.rows(); r++) {
+                assertEquals(compositions.get(r).mass(mode), masses[r], 1e-9);
+            }
+            // the kernels round like the scalar loop, i.e. without fused multiply-add
+            assertArrayEquals(scalar, masses);
+        }
+        assertTrue(CompositionMatrix.VECTORIZED, "the vector kernel is available via the surefire argLine");
+
+        CompositionMatrix water = CompositionMatrix.of(List.of(Element.O, Element.H), new int[] { 1, 2, 2, 4 });
+        assertEquals(Composition.parse("H4O2"), water.composition(1));
+        assertThrows(IllegalArgumentException.class, () -> CompositionMatrix.of(List.of(Element.O), new int[] { -1 }));
+        assertThrows(IllegalArgumentException.class, () -> CompositionMatrix.of(List.of(Element.O, Element.O), new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> CompositionMatrix.of(List.of(Element.O, Element.H), new int[3]));
+    }
+}
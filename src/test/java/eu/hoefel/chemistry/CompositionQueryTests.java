@@ -0,0 +1,50 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for queries on the elements of compositions.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Composition queries")
+class CompositionQueryTests {
+
+    @DisplayName("Testing composition queries")
+    @Test
+    void testCompositionQuery() {
+        Composition labelled = Composition.parse("[13C]CH3DClBr");
+        assertTrue(labelled.contains(Element.C));
+        assertTrue(labelled.contains(Element.Br));
+        assertTrue(!labelled.contains(Element.O));
+        assertTrue(Composition.parse("Og").contains(Element.Og));
+        assertEquals(2, labelled.atoms(Element.C));
+        assertEquals(4, labelled.atoms(Element.H));
+        assertEquals(0, labelled.atoms(Element.O));
+
+        CompositionQuery query = CompositionQuery.ALL.containing(Element.Cl, Element.Br)
+                                                     .excluding(element -> element.category().isMetal())
+                                                     .withCount(Element.C, 0, 20);
+        List<Composition> compositions = List.of(labelled, Composition.parse("C6H4ClBr"), Composition.parse("C6H5Cl"),
+                Composition.parse("C21H43ClBr"), Composition.parse("CHClBrNa"), Composition.parse("C2H5BrCl[195Pt]"),
+                Composition.parse("ClBr"), Composition.parse("C20[13C]H40ClBr"));
+        assertEquals(List.of(compositions.get(0), compositions.get(1), compositions.get(6)), query.filter(compositions));
+        assertEquals(3, query.count(compositions));
+        assertEquals(compositions.size(), CompositionQuery.ALL.count(compositions));
+        assertEquals(List.of(compositions.get(2)), CompositionQuery.ALL.withCount(Element.Cl, 1, 1)
+                                                                       .withCount(Element.Br, 0, 0)
+                                                                       .filter(compositions));
+        assertEquals(query, CompositionQuery.ALL.withCount(Element.C, 0, 20)
+                                                .withCount(Element.C, 0, 20)
+                                                .excluding(element -> element.category().isMetal())
+                                                .containing(Element.Br, Element.Cl));
+        assertThrows(IllegalArgumentException.class, () -> query.excluding(Element.Cl));
+        assertThrows(IllegalArgumentException.class, () -> query.withCount(Element.C, 2, 1));
+    }
+}
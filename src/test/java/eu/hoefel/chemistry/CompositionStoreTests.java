@@ -0,0 +1,65 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for composition stores.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Composition stores")
+class CompositionStoreTests {
+
+    @DisplayName("Testing composition stores")
+    @Test
+    void testCompositionStore(@TempDir Path dir) {
+        List<Composition> compositions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            compositions.add(Composition.parse("C%dH%dN%dO%d".formatted(i + 1, 2 * i + 2, i % 3, i % 5)));
+        }
+        compositions.add(Composition.parse("CH3[2H]"));
+        List<Nuclide> columns = List.of(Element.O, Element.C, Element.H, Element.N, Isotope.H.D);
+
+        Path file = dir.resolve("compositions.bin");
+        try (CompositionStore direct = CompositionStore.allocate(columns);
+                CompositionStore mapped = CompositionStore.create(file, columns)) {
+            for (Composition composition : compositions) {
+                direct.append(composition);
+                mapped.append(composition);
+            }
+            assertEquals(compositions.size(), direct.size());
+            assertEquals(Element.H, direct.nuclide(0));
+            assertEquals(Isotope.H.D, direct.nuclide(1));
+            assertEquals(11, direct.count(10, 2));
+            assertEquals(compositions.size(), mapped.append(new int[] { 1, 0, 2, 0, 1 }));
+            assertThrows(IllegalArgumentException.class, () -> direct.append(Composition.parse("NaCl")));
+            assertThrows(IllegalArgumentException.class, () -> direct.append(new int[] { 1 << 16, 0, 0, 0, 0 }));
+            assertThrows(IndexOutOfBoundsException.class, () -> direct.count(direct.size(), 0));
+
+            double[] masses = new double[compositions.size()];
+            direct.masses(MassMode.MONOISOTOPIC, 0, masses);
+            for (int i = 0; i < masses.length; i++) {
+                assertEquals(compositions.get(i), direct.composition(i));
+                assertEquals(compositions.get(i).mass(MassMode.MONOISOTOPIC), masses[i], 1e-9);
+                assertEquals(compositions.get(i).mass(MassMode.AVERAGE), mapped.mass(i, MassMode.AVERAGE), 1e-9);
+            }
+            assertEquals(List.of(4L), direct.filter(MassMode.NOMINAL, 148, 148).boxed().toList());
+        }
+
+        try (CompositionStore reopened = CompositionStore.open(file)) {
+            assertEquals(compositions.size() + 1, reopened.size());
+            assertEquals(Composition.parse("C2HO"), reopened.composition(compositions.size()));
+            assertEquals(compositions.get(50), reopened.composition(50));
+            assertEquals(19,
+                    reopened.filter(MassMode.MONOISOTOPIC, 500, Double.MAX_VALUE).parallel().count());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for compositions, i.e. parsing, masses, Hill formulas and arithmetic.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Compositions")
+class CompositionTests {
+
+    @DisplayName("Testing formula parsing")
+    @Test
+    void testParse() {
+        Composition water = Composition.parse("H2O");
+        assertEquals(Map.of(Element.H, 2, Element.O, 1), water.toMap());
+        assertEquals(3, water.atoms());
+        assertEquals(water, Composition.parse("HOH"));
+
+        Composition gypsum = Composition.parse("CaSO4·2H2O");
+        assertEquals(Map.of(Element.H, 4, Element.O, 6, Element.S, 1, Element.Ca, 1), gypsum.toMap());
+        assertEquals(gypsum, Composition.parse("CaSO4.2H2O"));
+        assertEquals(gypsum, Composition.parse("Ca(SO4)(H2O)2"));
+
+        Composition labelled = Composition.parse("[13C]CH3D");
+        assertEquals(1, labelled.count(Element.C));
+        assertEquals(1, labelled.count(Isotope.C.C13));
+        assertEquals(1, labelled.count(Isotope.H.D));
+        assertEquals(3, labelled.count(Element.H));
+        assertEquals(labelled, Composition.parse(labelled.toString()));
+        assertEquals("H3[2H]C[13C]", labelled.toString());
+        assertEquals(List.of(Element.H, Isotope.H.D, Element.C, Isotope.C.C13), List.copyOf(labelled.toMap().keySet()));
+        assertEquals("[2H]2O", Composition.parse("D2O").toString());
+        assertEquals("H12C4[13C]2O6", Composition.parse("C6H12O6").label(Isotope.C.C13, 2).toString());
+
+        assertEquals(Composition.EMPTY, Composition.parse(""));
+        assertEquals(Composition.of(Element.Co), Composition.parse("Co"));
+        assertEquals(Element.Na.mass() + Element.Cl.mass(), Composition.parse("NaCl").mass(), 1e-12);
+    }
+
+    @DisplayName("Testing invalid formulas")
+    @ParameterizedTest
+    @ValueSource(strings = { "Xy", "h2o", "Ca(OH", "[C]", "[3C]", "H2O.", "H2O)", "H99999999999",
+            "[99999999999C]", "(H2000000000)2", "H2000000000H2000000000", "CuSO4.2000000000H2O" })
+    void testParseInvalid(String formula) {
+        assertThrows(IllegalArgumentException.class, () -> Composition.parse(formula));
+    }
+
+    @DisplayName("Testing mass modes")
+    @Test
+    void testMassModes() {
+        Composition water = Composition.parse("H2O");
+        assertEquals(18.015, water.mass(MassMode.AVERAGE), 1e-3);
+        assertEquals(18.0105647, water.mass(MassMode.MONOISOTOPIC), 1e-7);
+        assertEquals(18, water.mass(MassMode.NOMINAL));
+
+        double[] masses = Composition.parse("C254H377N65O75S6").masses();
+        for (MassMode mode : MassMode.values()) {
+            assertEquals(Composition.parse("C254H377N65O75S6").mass(mode), masses[mode.ordinal()], 1e-9);
+        }
+
+        assertEquals(12, Element.C.mass(MassMode.MONOISOTOPIC));
+        assertEquals(Element.C.mass(), Element.C.mass(MassMode.AVERAGE));
+        assertEquals(13, Isotope.C.C13.mass(MassMode.NOMINAL));
+        assertEquals(Isotope.C.C13.mass(), Isotope.C.C13.mass(MassMode.AVERAGE));
+        assertEquals(Isotope.C.C13.mass(), Isotope.C.C13.mass(MassMode.MONOISOTOPIC));
+        assertEquals(98, Element.Tc.mass(MassMode.NOMINAL));
+        assertEquals(water.mass(MassMode.MONOISOTOPIC) - Element.H.mass(MassMode.MONOISOTOPIC) + Isotope.H.D.mass(),
+                Composition.parse("HDO").mass(MassMode.MONOISOTOPIC), 1e-9);
+    }
+
+    @DisplayName("Testing Hill formulas and sorting")
+    @Test
+    void testHill() {
+        assertEquals("C2H6O", Composition.parse("CH3CH2OH").hill());
+        assertEquals("ClNa", Composition.parse("NaCl").hill());
+        assertEquals("H2O4S", Composition.parse("H2SO4").hill());
+        assertEquals("CCl4", Composition.parse("Cl4C").hill());
+        assertEquals("C5[13C]H11[2H]O6",
+                Composition.parse("C6H12O6").label(Isotope.C.C13, 1).label(Isotope.H.D, 1).hill());
+        assertEquals("[13C]H4", Composition.parse("[13C]H4").hill());
+        assertEquals("", Composition.EMPTY.hill());
+        Composition ethanol = Composition.parse("C2H5OH");
+        assertTrue(ethanol.hill() == ethanol.hill());
+        assertEquals(ethanol, Composition.parse(ethanol.hill()));
+
+        assertEquals("[O4S]2-", Composition.parse("SO4").hill(-2));
+        assertEquals("[O4S2]-", Composition.parse("O4S2").hill(-1));
+        assertEquals("[H4N]+", Composition.parse("NH4").hill(1));
+        assertEquals("[Fe]3+", Composition.parse("Fe").hill(3));
+        assertEquals("H2O", Composition.parse("H2O").hill(0));
+
+        List<Composition> expected = Stream.of("BrI", "CCl4", "CH3I", "C2H5Br", "H2O4S")
+                .map(Composition::parse).toList();
+        List<Composition> compositions = new ArrayList<>(expected.reversed());
+        Composition.sortHill(compositions);
+        assertEquals(expected, compositions);
+        compositions = new ArrayList<>(expected.reversed());
+        compositions.sort(Composition.HILL_ORDER);
+        assertEquals(expected, compositions);
+
+        Random random = new Random(42);
+        compositions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int c = random.nextInt(4);
+            int h = random.nextInt(3);
+            compositions.add(Composition.parse("C%dH%dN%dO%dS%dCl%d".formatted(c, h, random.nextInt(2),
+                    random.nextInt(3), random.nextInt(2), random.nextInt(2))).label(Isotope.H.D, random.nextInt(h + 1)));
+        }
+        compositions.add(Composition.parse("C70000"));
+        compositions.add(Composition.parse("C65535"));
+        compositions.add(Composition.parse("C65534H"));
+        compositions.add(Composition.parse("C65536"));
+        List<Composition> sorted = new ArrayList<>(compositions);
+        Composition.sortHill(sorted);
+        compositions.sort(Composition.HILL_ORDER);
+        assertEquals(compositions, sorted);
+        assertEquals(List.of("C65534H", "C65535", "C65536", "C70000"),
+                sorted.stream().filter(composition -> composition.atoms() > 1000).map(Composition::hill).toList());
+    }
+
+    @DisplayName("Testing composition arithmetic")
+    @Test
+    void testArithmetic() {
+        Composition glucose = Composition.parse("C6H12O6");
+        Composition water = Composition.parse("H2O");
+        assertEquals(Composition.parse("C6H14O7"), glucose.plus(water));
+        assertEquals(Composition.parse("C6H10O5"), glucose.minus(water));
+        assertEquals(Composition.parse("C6H12O6Na"), glucose.plus(Composition.parse("Na")));
+        assertEquals(Composition.parse("C6O6"), glucose.minus(Composition.parse("H12")));
+        assertEquals(Composition.parse("C6H10O5"), glucose.minus(water).minus(Composition.EMPTY));
+        assertEquals(Composition.EMPTY, glucose.minus(glucose));
+        assertEquals(Composition.parse("C5[13C]H12O6"),
+                glucose.plus(Composition.parse("[13C]")).minus(Composition.parse("C")));
+        assertEquals(Composition.parse("C36H62O31"), glucose.times(6).minus(water.times(5)));
+        assertEquals(Composition.EMPTY, glucose.times(0));
+        assertTrue(glucose.contains(water));
+        assertTrue(glucose.contains(Composition.EMPTY));
+        assertTrue(!water.contains(glucose));
+        assertTrue(!glucose.contains(Composition.parse("[13C]")));
+        assertThrows(IllegalArgumentException.class, () -> water.minus(glucose));
+        assertThrows(IllegalArgumentException.class, () -> glucose.minus(Composition.parse("N")));
+        assertThrows(IllegalArgumentException.class, () -> glucose.times(-1));
+        assertThrows(ArithmeticException.class, () -> glucose.times(Integer.MAX_VALUE));
+
+        Composition.Builder builder = new Composition.Builder();
+        for (int n = 1; n <= 20; n++) {
+            builder.add(glucose);
+            if (n > 1) builder.subtract(water);
+            assertEquals(glucose.times(n).minus(water.times(n - 1)), builder.build());
+            assertEquals(builder.build().mass(MassMode.MONOISOTOPIC), builder.mass(MassMode.MONOISOTOPIC), 1e-9);
+        }
+        assertEquals(20 * 6, builder.count(Element.C));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(Element.N, -1));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(glucose, -100));
+        assertEquals(20 * 6, builder.count(Element.C));
+        assertEquals(Composition.parse("C240H404O202N"), builder.multiply(2).add(Element.N, 1).build());
+        assertTrue(builder.clear().isEmpty());
+        assertEquals(Composition.EMPTY, builder.build());
+
+        assertEquals(Composition.parse("C6H13O6"), Adduct.M_PLUS_H.ion(glucose));
+        assertEquals("[C6H11O5]+", Adduct.parse("[M-H2O+H]+").ion(glucose).hill(1));
+        assertEquals(Composition.parse("C12H23O12"), Adduct.parse("[2M-H]-").ion(glucose));
+        assertEquals(Adduct.M_PLUS_H.mz(glucose, MassMode.MONOISOTOPIC),
+                Adduct.M_PLUS_H.ion(glucose).mass(MassMode.MONOISOTOPIC) - Adduct.ELECTRON_MASS, 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> Adduct.M_MINUS_H.ion(Composition.parse("NaCl")));
+    }
+}
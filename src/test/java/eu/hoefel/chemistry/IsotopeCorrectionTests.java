@@ -0,0 +1,87 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the correction of natural isotope abundances.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Natural abundance correction")
+class IsotopeCorrectionTests {
+
+    @DisplayName("Testing natural abundance correction")
+    @Test
+    void testIsotopeCorrection() {
+        Composition glucose = Composition.parse("C6H12O6");
+        IsotopeCorrection correction = IsotopeCorrection.of(glucose, Label.C13);
+        assertEquals(7, correction.size());
+        assertTrue(correction == IsotopeCorrection.of(Composition.parse("C6H12O6"), Label.C13));
+
+        // the first column is the natural isotope pattern, the last one is fully labelled
+        IsotopePattern natural = IsotopePatternCalculator.COARSE.calculate(glucose);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(natural.probability(i), correction.get(i, 0), 1e-9);
+        }
+        assertEquals(0, correction.get(0, 6));
+        assertEquals(natural.probability(0) / Math.pow(0.9893, 6), correction.get(6, 6), 1e-3);
+
+        for (Label tracer : List.of(Label.C13, new Label(Isotope.C.C13, 0.99))) {
+            IsotopeCorrection c = IsotopeCorrection.of(glucose, tracer);
+            double[] expected = { 0.5, 0, 0.1, 0.1, 0, 0, 0.3 };
+            double[] measured = new double[14];
+            for (int i = 0; i < 7; i++) {
+                for (int k = 0; k < 7; k++) {
+                    measured[i] += c.get(i, k) * expected[k];
+                    measured[7 + i] += c.get(i, k) * expected[6 - k];
+                }
+            }
+            double[] corrected = new double[14];
+            c.correct(measured, corrected, 2);
+            for (int k = 0; k < 7; k++) {
+                assertEquals(expected[k], corrected[k], 1e-9);
+                assertEquals(expected[6 - k], corrected[7 + k], 1e-9);
+            }
+
+            List<double[]> results = List.of(new double[14], new double[7]);
+            IsotopeCorrection.correctAll(List.of(c, c), List.of(measured, Arrays.copyOf(measured, 7)), results);
+            assertEquals(Arrays.toString(corrected), Arrays.toString(results.get(0)));
+
+            c.correct(measured, measured);
+            assertEquals(expected[6], measured[6], 1e-9);
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> IsotopeCorrection.correctAll(List.of(correction), List.of(new double[8]), List.of(new double[8])));
+
+        // 18O shifts by 2 Da, so there are more isotopologues than label states
+        IsotopeCorrection oxygen = IsotopeCorrection.of(Composition.parse("C6H12N2O6"), Label.O18);
+        assertEquals(7, oxygen.size());
+        assertEquals(13, oxygen.isotopologues());
+        double[] expected = { 0.4, 0.1, 0, 0.2, 0, 0, 0.3 };
+        double[] measured = new double[2 * 13];
+        for (int i = 0; i < 13; i++) {
+            for (int k = 0; k < 7; k++) {
+                measured[i] += oxygen.get(i, k) * expected[k];
+                measured[13 + i] += oxygen.get(i, k) * expected[6 - k];
+            }
+        }
+        double[] corrected = new double[2 * 7];
+        oxygen.correct(measured, corrected, 2);
+        for (int k = 0; k < 7; k++) {
+            assertEquals(expected[k], corrected[k], 1e-9);
+            assertEquals(expected[6 - k], corrected[7 + k], 1e-9);
+        }
+        oxygen.correct(measured, measured, 2);
+        assertArrayEquals(corrected, Arrays.copyOf(measured, 14), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> IsotopeCorrection.of(Composition.parse("Li2O"), Label.of(Isotope.Li.Li6)));
+    }
+}
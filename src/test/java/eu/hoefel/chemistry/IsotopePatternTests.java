@@ -0,0 +1,47 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for isotope patterns.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Isotope patterns")
+class IsotopePatternTests {
+
+    @DisplayName("Testing isotope patterns")
+    @Test
+    void testIsotopePattern() {
+        IsotopePattern coarse = IsotopePatternCalculator.COARSE.calculate("C6H12O6");
+        assertEquals(0.9226, coarse.probability(0), 1e-4);
+        assertEquals(180.0634, coarse.mass(0), 1e-4);
+        assertEquals(0, coarse.mostProbable());
+        assertEquals(1, coarse.coverage(), 1e-5);
+        assertEquals(Composition.parse("C6H12O6").mass(), coarse.averageMass(), 1e-2);
+
+        // the M+1 peak splits mainly into 13C, 2H and 17O
+        IsotopePattern fine = IsotopePatternCalculator.FINE.calculate("C6H12O6");
+        assertTrue(fine.size() > coarse.size());
+        assertEquals(coarse.probability(0), fine.probability(0), 1e-12);
+        for (int i = 1; i < fine.size(); i++) {
+            assertTrue(fine.mass(i - 1) < fine.mass(i));
+        }
+
+        // a small protein, where the most probable peak is no longer the monoisotopic one
+        Composition protein = Composition.parse("C2000H3200N550O600S20");
+        IsotopePattern pattern = IsotopePatternCalculator.COARSE.calculate(protein);
+        assertTrue(pattern.mostProbable() > 10);
+        assertEquals(protein.mass(), pattern.averageMass(), 1);
+
+        List<IsotopePattern> patterns = IsotopePatternCalculator.COARSE.calculateAll(List.of(Element.Cl, protein));
+        assertEquals(pattern, patterns.get(1));
+        assertEquals(0.7576, patterns.get(0).probability(0), 1e-4);
+        assertEquals(1, IsotopePatternCalculator.COARSE.calculate(Isotope.C.C13).size());
+    }
+}
@@ -0,0 +1,50 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Kendrick masses and mass defects.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Kendrick mass defects")
+class KendrickCalculatorTests {
+
+    @DisplayName("Testing Kendrick mass defects")
+    @Test
+    void testKendrick() {
+        KendrickCalculator kendrick = KendrickCalculator.CH2;
+        assertEquals(14, kendrick.mass(Composition.parse("CH2").mass(MassMode.MONOISOTOPIC)), 1e-12);
+
+        List<String> formulas = List.of("C10H22", "C20H40", "C11H24", "C21H42", "C12H26", "C10H8", "C22H44");
+        double[] masses = new double[formulas.size()];
+        for (int i = 0; i < masses.length; i++) {
+            masses[i] = Composition.parse(formulas.get(i)).mass(MassMode.MONOISOTOPIC);
+        }
+
+        double[] defects = new double[masses.length];
+        kendrick.defects(masses, defects);
+        for (int i = 0; i < masses.length; i++) {
+            assertEquals(kendrick.defect(masses[i]), defects[i], 1e-12);
+        }
+        assertEquals(defects[0], defects[2], 1e-9);
+        assertEquals(defects[0], defects[4], 1e-9);
+
+        // alkanes, alkenes and naphthalene form separate series
+        int[] groups = new int[masses.length];
+        assertEquals(3, kendrick.series(masses, 1e-3, groups));
+        assertEquals("[0, 1, 0, 1, 0, 2, 1]", Arrays.toString(groups));
+
+        double[] kendricks = masses.clone();
+        kendrick.masses(kendricks, kendricks);
+        assertEquals(kendrick.mass(masses[3]), kendricks[3], 1e-12);
+        assertEquals(KendrickCalculator.of("C2H4O"), KendrickCalculator.C2H4O);
+        assertThrows(IllegalArgumentException.class, () -> KendrickCalculator.of(""));
+    }
+}
@@ -0,0 +1,67 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for isotope labels and labelled compositions.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Isotope labelling")
+class LabelTests {
+
+    @DisplayName("Testing isotope labelling")
+    @Test
+    void testLabelling() {
+        Composition glucose = Composition.parse("C6H12O6");
+        assertEquals(Composition.parse("C4[13C]2H12O6"), glucose.label(Isotope.C.C13, 2));
+        assertEquals(Composition.parse("[13C]6H12O6"), glucose.labelAll(Isotope.C.C13));
+        assertEquals(glucose, glucose.label(Isotope.N.N15, 0));
+        assertThrows(IllegalArgumentException.class, () -> glucose.label(Isotope.C.C13, 7));
+        assertThrows(IllegalArgumentException.class, () -> new Label(Isotope.C.C13, 0));
+
+        double[] masses = Label.C13.masses(glucose, MassMode.MONOISOTOPIC);
+        assertEquals(7, masses.length);
+        for (int k = 0; k < masses.length; k++) {
+            assertEquals(glucose.label(Isotope.C.C13, k).mass(MassMode.MONOISOTOPIC), masses[k], 1e-9);
+        }
+        assertEquals(1.00335, Label.C13.massShift(MassMode.MONOISOTOPIC), 1e-5);
+
+        // SILAC heavy lysine (+8) and arginine (+10)
+        SequenceCalculator heavy = SequenceCalculator.peptide().withLabel('K', Isotope.C.C13).withLabel('K', Isotope.N.N15)
+                .withLabel('R', Isotope.C.C13).withLabel('R', Isotope.N.N15);
+        SequenceCalculator light = SequenceCalculator.peptide();
+        assertEquals(8.01420, heavy.mass("K", MassMode.MONOISOTOPIC) - light.mass("K", MassMode.MONOISOTOPIC), 1e-5);
+        assertEquals(10.00827, heavy.mass("R", MassMode.MONOISOTOPIC) - light.mass("R", MassMode.MONOISOTOPIC), 1e-5);
+
+        for (IsotopePatternCalculator calculator : List.of(IsotopePatternCalculator.COARSE, IsotopePatternCalculator.FINE)) {
+            List<IsotopePattern> patterns = calculator.calculateLabelled(glucose, Label.C13);
+            assertEquals(7, patterns.size());
+            for (int k = 0; k < patterns.size(); k++) {
+                // the peaks only differ below the pruning threshold, as the convolutions are done in another order
+                assertSimilar(calculator.calculate(glucose.label(Isotope.C.C13, k)), patterns.get(k));
+                assertSimilar(calculator.calculate(glucose, Label.C13, k), patterns.get(k));
+            }
+        }
+
+        // at 50% enrichment, the fully "labelled" glucose has a binomial distribution of 13C
+        IsotopePattern half = IsotopePatternCalculator.COARSE.calculate(glucose, new Label(Isotope.C.C13, 0.5), 6);
+        assertEquals(20 / 64.0, half.probability(half.mostProbable()), 1e-2);
+        IsotopePattern carbon12 = IsotopePatternCalculator.COARSE.calculate(glucose.labelAll(Isotope.C.C12));
+        assertEquals(carbon12.averageMass() + 3 * Label.C13.massShift(MassMode.MONOISOTOPIC), half.averageMass(), 1e-4);
+    }
+
+    private static void assertSimilar(IsotopePattern expected, IsotopePattern actual) {
+        for (int i = 0, j = 0; i < expected.size(); i++) {
+            if (expected.probability(i) < 1e-3) continue;
+            while (actual.mass(j) < expected.mass(i) - 1e-4) j++;
+            assertEquals(expected.mass(i), actual.mass(j), 1e-4);
+            assertEquals(expected.probability(i), actual.probability(j), 1e-6);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for mass indices.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Mass indices")
+class MassIndexTests {
+
+    @DisplayName("Testing mass indices")
+    @Test
+    void testMassIndex() {
+        List<String> formulas = new ArrayList<>();
+        for (int c = 1; c <= 30; c++) {
+            for (int h = 0; h <= 2 * c + 2; h++) {
+                for (int o = 0; o <= 6; o++) {
+                    formulas.add("C" + c + "H" + h + "O" + o);
+                }
+            }
+        }
+        MassIndex<Composition> index = MassIndex.ofFormulas(formulas, MassMode.MONOISOTOPIC);
+        assertEquals(formulas.size(), index.size());
+        for (int i = 1; i < index.size(); i++) {
+            assertTrue(index.mass(i - 1) <= index.mass(i));
+        }
+
+        double glucose = Composition.parse("C6H12O6").mass(MassMode.MONOISOTOPIC);
+        assertEquals(List.of(Composition.parse("C6H12O6")), index.candidates(glucose, 5));
+        assertTrue(index.count(glucose, 1000) > 1);
+        assertEquals(0, index.count(1.5, 5));
+
+        double[] queries = { 1.5, 100, 180.0634, 180.0634, 180.07, 250.5, 1e4 };
+        int[] from = new int[queries.length];
+        int[] to = new int[queries.length];
+        index.query(queries, 50, from, to);
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(index.from(queries[i], 50), from[i]);
+            assertEquals(index.to(queries[i], 50), to[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> index.query(new double[] { 2, 1 }, 5, from, to));
+        assertThrows(IllegalArgumentException.class, () -> index.count(glucose, -10));
+        assertThrows(IllegalArgumentException.class, () -> index.candidates(glucose, -10));
+        assertThrows(IllegalArgumentException.class, () -> index.query(new double[0], -10, from, to));
+    }
+}
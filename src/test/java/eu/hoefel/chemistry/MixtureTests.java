@@ -0,0 +1,82 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for mixtures.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Mixtures")
+class MixtureTests {
+
+    @DisplayName("Testing mixtures")
+    @Test
+    void testMixture() {
+        Composition n2 = Composition.parse("N2");
+        Composition o2 = Composition.parse("O2");
+        Mixture air = Mixture.ofMoleFractions(List.of(n2, o2, Element.Ar), new double[] { 78.1, 20.9, 1.0 });
+        assertEquals(0.781, air.moleFraction(0), 1e-12);
+        assertEquals(28.96, air.mass(), 1e-2);
+        assertEquals(air.mass(), air.mass(MassMode.AVERAGE));
+        assertEquals(0.781 * 28 + 0.209 * 32 + 0.01 * 40, air.mass(MassMode.NOMINAL), 1e-1);
+        assertEquals(0.7552, air.massFraction(0), 1e-3);
+        assertEquals(1, Arrays.stream(air.massFractions()).sum(), 1e-12);
+        assertEquals(2 * 0.781, air.amount(Element.N), 1e-12);
+        assertEquals(air.massFraction(0), air.massFraction(Element.N), 1e-12);
+        assertEquals(Set.of(Element.N, Element.O, Element.Ar), air.nuclides());
+        assertEquals(List.of(Element.N, Element.O, Element.Ar), List.copyOf(air.elementalMassFractions().keySet()));
+        assertEquals("Mixture[N2 0.781, O2 0.209, Ar 0.0100]", air.toString());
+
+        // isotopes come after all elements internally, but are counted for their element
+        Mixture heavyWater = Mixture.ofMoleFractions(List.of(Composition.parse("[2H]2O")), new double[] { 1 });
+        Map<Element, Double> elemental = heavyWater.elementalMassFractions();
+        assertEquals(List.of(Element.H, Element.O), List.copyOf(elemental.keySet()));
+        assertEquals(1, elemental.get(Element.H) + elemental.get(Element.O), 1e-12);
+
+        // mass and mole fractions convert into each other
+        Mixture byMass = Mixture.ofMassFractions(air.components(), air.massFractions());
+        for (int i = 0; i < air.size(); i++) {
+            assertEquals(air.moleFraction(i), byMass.moleFraction(i), 1e-12);
+        }
+        double[] fractions = { 1, 1 };
+        Mixture.toMoleFractions(fractions, new double[] { 18, 46 }, fractions);
+        assertEquals(46.0 / 64, fractions[0], 1e-12);
+
+        // incremental updates match the mixtures built from scratch
+        Composition water = Composition.parse("H2O");
+        Composition ethanol = Composition.parse("C2H5OH");
+        Mixture blend = Mixture.ofMassFractions(List.of(water, ethanol, Composition.parse("C3H8O3")),
+                new double[] { 0.5, 0.4, 0.1 });
+        Random random = new Random(42);
+        for (int k = 0; k < 100; k++) {
+            int i = random.nextInt(3);
+            blend = k % 2 == 0 ? blend.withMoleFraction(i, random.nextDouble())
+                    : blend.withMassFraction(i, random.nextDouble());
+            Mixture expected = Mixture.ofMoleFractions(blend.components(), blend.moleFractions());
+            assertEquals(expected.mass(), blend.mass(), 1e-9);
+            assertEquals(expected.mass(MassMode.MONOISOTOPIC), blend.mass(MassMode.MONOISOTOPIC), 1e-9);
+            assertEquals(expected.massFraction(Element.C), blend.massFraction(Element.C), 1e-9);
+        }
+        blend = blend.withMassFraction(1, 0.3);
+        assertEquals(0.3, blend.massFraction(1), 1e-12);
+        Mixture pure = blend.withMoleFraction(0, 1);
+        assertEquals(water.mass(), pure.mass(), 1e-9);
+        assertEquals(Set.of(Element.H, Element.O), pure.nuclides());
+        assertEquals(0, pure.massFraction(Element.C), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> pure.withMoleFraction(0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> pure.withMoleFraction(1, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> Mixture.ofMoleFractions(List.of(water), new double[] { 0 }));
+        assertThrows(IllegalArgumentException.class, () -> Mixture.ofMoleFractions(List.of(water), new double[] { -1 }));
+        assertThrows(IllegalArgumentException.class, () -> Mixture.ofMoleFractions(List.of(water), new double[2]));
+    }
+}
@@ -2,8 +2,17 @@ package eu.hoefel.chemistry;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -47,4 +56,22 @@ class MoleculeTests {
         assertEquals(18.01528, new Molecule("water").mass(), 1e-14);
         assertEquals(2.01588, new Molecule("dihydrogen").mass());
     }
+
+    @DisplayName("Testing cached Hill formulas")
+    @Test
+    void testMoleculeHill() throws IOException {
+        String name = "hill-test-glucose";
+        MoleculeInfo info = new MoleculeInfo(name, "C6H12O6", true, "WQZGKKKJIJFFOK-GASJEMHNSA-N",
+                Map.of(Element.O, 6, Element.H, 12, Element.C, 6), 180.156, "D-glucose", List.of(name));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(1);
+        BinaryCodec.write(info, out);
+        Molecule.readCache(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Molecule glucose = new Molecule(name);
+        assertEquals("C6H12O6", glucose.hill());
+        assertSame(glucose.hill(), new Molecule(name).hill());
+        assertSame(glucose.composition(), Composition.of(new Molecule(name)));
+    }
 }
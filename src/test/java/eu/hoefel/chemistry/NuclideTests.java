@@ -2,11 +2,16 @@ package eu.hoefel.chemistry;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -35,6 +40,73 @@ class NuclideTests {
             assertEquals(1, isotope.nuclides().size());
             assertTrue(isotope.nuclides().contains(isotope));
         }
+
+        // callers get their own list
+        isotopes.clear();
+        assertEquals(numIsotopes, Isotope.ofElement(element).size());
+    }
+
+    @DisplayName("Testing isotope names")
+    @ParameterizedTest
+    @EnumSource(Element.class)
+    void testIsotopeNames(Element element) {
+        for (Isotope isotope : element.isotopes()) {
+            assertEquals(isotope, Isotope.named(isotope.toString()));
+            assertEquals(isotope, Isotope.parseName(isotope.toString().toLowerCase()));
+            assertEquals(isotope, Nuclide.named(isotope.toString()));
+        }
+        assertNull(Isotope.parseName(element.name()));
+        assertNull(Isotope.parseName(element.name() + "0"));
+        assertEquals(Isotope.H.D, Isotope.named("deuterium"));
+        assertEquals(Isotope.H.T, Isotope.named("t"));
+        assertNull(Isotope.parseName("water"));
+        assertNull(Isotope.parseName(null));
+    }
+
+    @DisplayName("Testing nuclide data")
+    @ParameterizedTest
+    @EnumSource(Element.class)
+    void testNuclideData(Element element) {
+        for (Isotope isotope : element.isotopes()) {
+            if (isotope != Isotope.H.D && isotope != Isotope.H.T) {
+                assertEquals(element.name() + isotope.massNumber(), isotope.toString());
+            }
+            assertEquals(isotope.massNumber(), isotope.mass(), 0.5);
+            assertTrue(isotope.massUncertainty() >= 0);
+            assertTrue(isotope.massUncertainty() < 1e-2);
+        }
+        assertEquals(2, Isotope.H.D.massNumber());
+        assertEquals(9e-11, Isotope.H.H1.massUncertainty(), 1e-20);
+        assertEquals(0, Isotope.C.C12.massUncertainty());
+    }
+
+    @DisplayName("Testing isotopic compositions")
+    @ParameterizedTest
+    @EnumSource(Element.class)
+    void testIsotopicComposition(Element element) {
+        IsotopicComposition composition = element.isotopicComposition();
+        assertEquals(element, composition.element());
+
+        double sum = 0;
+        for (int i = 0; i < composition.size(); i++) {
+            Isotope isotope = composition.isotope(i);
+            assertEquals(element, isotope.element());
+            assertEquals(isotope.abundance(), composition.abundance(i));
+            assertEquals(isotope.mass(), composition.mass(i));
+            if (i > 0) assertTrue(composition.abundance(i - 1) >= composition.abundance(i));
+            sum += composition.abundance(i);
+        }
+
+        if (composition.isEmpty()) {
+            assertTrue(element.isotopes().stream().allMatch(isotope -> isotope.abundance() == 0));
+        } else {
+            assertEquals(1, sum, 1e-4);
+            assertEquals(element.mass(), composition.averageMass(), 5e-2);
+            int sample = composition.sample(new SplittableRandom(42));
+            assertTrue(sample >= 0 && sample < composition.size());
+        }
+        assertEquals(0.9893, Isotope.C.C12.abundance());
+        assertEquals(Isotope.Cl.Cl35, Element.Cl.isotopicComposition().isotope(0));
     }
 
     @DisplayName("Testing elements")
@@ -47,4 +119,33 @@ class NuclideTests {
         assertEquals(element, element.element());
         assertEquals(element, Element.withAtomicNumber(element.atomicNumber()));
     }
+
+    @DisplayName("Testing nuclide table validation")
+    @Test
+    void testNuclideTableValidation() {
+        assertEquals(NuclideTable.size(), NuclideTable.first(NuclideTable.MAX_ATOMIC_NUMBER + 1));
+        NuclideTable.validate(table(2));
+
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(ByteBuffer.allocate(4)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(12, 3)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(12, -1)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(12, Integer.MAX_VALUE)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(NuclideTable.HEADER_SIZE + 4, 3)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(NuclideTable.HEADER_SIZE + 8, 1)
+                                                                                            .putInt(NuclideTable.HEADER_SIZE + 4, 2)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(NuclideTable.HEADER_SIZE + 4, -1)));
+        assertThrows(IllegalStateException.class, () -> NuclideTable.validate(table(2).putInt(12, 1)));
+    }
+
+    /** Creates a table with the given number of hydrogen records. */
+    private static ByteBuffer table(int records) {
+        ByteBuffer table = ByteBuffer.allocate(NuclideTable.HEADER_SIZE + NuclideTable.INDEX_SIZE
+                + records * NuclideTable.RECORD_SIZE);
+        table.putInt(NuclideTable.MAGIC).putShort(NuclideTable.VERSION).putShort(NuclideTable.RECORD_SIZE)
+             .putInt(20240101).putInt(records);
+        for (int z = 0; z <= NuclideTable.MAX_ATOMIC_NUMBER + 1; z++) {
+            table.putInt(z <= 1 ? 0 : records);
+        }
+        return table;
+    }
 }
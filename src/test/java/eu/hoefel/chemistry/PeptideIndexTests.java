@@ -0,0 +1,82 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for protein digestion and peptide indices.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Peptide indices")
+class PeptideIndexTests {
+
+    @DisplayName("Testing protein digestion")
+    @Test
+    void testDigestion(@TempDir Path dir) throws IOException {
+        String protein = "MKPEPTIDERACKPK";
+        assertEquals(List.of("MK", "PEPTIDER", "ACK", "PK"), new Digestion(Protease.TRYPSIN_P, 0, 1, 50).digest(protein));
+        assertEquals(List.of("MKPEPTIDER", protein, "ACKPK"), new Digestion(Protease.TRYPSIN, 1, 5, 50).digest(protein));
+        assertEquals(List.of(protein), new Digestion(Protease.LYS_C, 0, 1, 50).digest(protein));
+        assertThrows(IllegalArgumentException.class, () -> new Digestion(Protease.TRYPSIN, 0, 10, 5));
+        assertThrows(NullPointerException.class, () -> new Protease("Trypsin", "KR", null));
+        assertThrows(NullPointerException.class, () -> new Protease("Trypsin", null, "P"));
+        assertThrows(IllegalArgumentException.class, () -> new Protease("Trypsin", "", "P"));
+
+        Path fasta = dir.resolve("proteins.fasta");
+        Files.writeString(fasta, """
+                >sp|P1|FIRST first protein
+                MKPEPTIDERACKPK
+                GGGGGKPEPTIDER*
+                >sp|P2|SECOND
+                PEPTIDERXXXXXKLLLLLLLK
+                """);
+        PeptideIndex index = PeptideIndex.of(fasta, new Digestion(Protease.TRYPSIN, 1, 3, 50),
+                SequenceCalculator.peptide(), MassMode.MONOISOTOPIC);
+        assertEquals(2, index.proteins());
+        assertEquals("sp|P2|SECOND", index.accession(1));
+
+        Set<String> sequences = new HashSet<>();
+        for (int i = 0; i < index.size(); i++) {
+            assertTrue(sequences.add(index.sequence(i)), "duplicate " + index.sequence(i));
+            assertEquals(SequenceCalculator.peptide().mass(index.sequence(i), MassMode.MONOISOTOPIC), index.mass(i), 1e-9);
+            if (i > 0) assertTrue(index.mass(i - 1) <= index.mass(i));
+        }
+        assertTrue(sequences.containsAll(List.of("PEPTIDER", "ACKPK", "GGGGGKPEPTIDER", "LLLLLLLK")));
+        assertTrue(sequences.stream().noneMatch(sequence -> sequence.contains("X")));
+
+        double mass = SequenceCalculator.peptide().mass("PEPTIDER", MassMode.MONOISOTOPIC);
+        assertEquals(List.of("PEPTIDER"), index.candidates(mass, 5));
+        int i = index.from(mass, 5);
+        // trypsin does not cleave before proline, so only the second protein contains it
+        assertEquals(1, index.protein(i));
+        assertEquals(0, index.position(i));
+        assertEquals(8, index.length(i));
+        i = index.from(SequenceCalculator.peptide().mass("ACKPK", MassMode.MONOISOTOPIC), 5);
+        assertEquals(0, index.protein(i));
+        assertEquals(10, index.position(i));
+
+        PeptideIndex fromList = PeptideIndex.of(List.of("MKPEPTIDERACKPKGGGGGKPEPTIDER", "PEPTIDERXXXXXKLLLLLLLK"),
+                new Digestion(Protease.TRYPSIN, 1, 3, 50), SequenceCalculator.peptide(), MassMode.MONOISOTOPIC);
+        assertEquals(index.size(), fromList.size());
+        double[] queries = { mass, mass + 1e-4, 2000 };
+        int[] from = new int[3];
+        int[] to = new int[3];
+        fromList.query(queries, 5, from, to);
+        assertEquals(1, to[0] - from[0]);
+        assertEquals(0, to[2] - from[2]);
+        assertThrows(IllegalArgumentException.class, () -> fromList.candidates(mass, -5));
+        assertThrows(IllegalArgumentException.class, () -> fromList.count(mass, Double.NaN));
+    }
+}
@@ -0,0 +1,58 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for chemical reactions and their balancing.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Reactions")
+class ReactionTests {
+
+    @DisplayName("Testing reaction balancing")
+    @Test
+    void testReaction() {
+        Reaction combustion = Reaction.parse("C6H12O6 + O2 -> CO2 + H2O");
+        assertTrue(!combustion.isBalanced());
+        Reaction balanced = combustion.balance();
+        assertEquals("C6H12O6 + 6 O2 -> 6 CO2 + 6 H2O", balanced.toString());
+        assertTrue(balanced.isBalanced());
+        assertEquals(0, balanced.massBalance(MassMode.MONOISOTOPIC), 1e-9);
+        assertEquals(balanced, Reaction.parse(balanced.toString()));
+        assertEquals(balanced, balanced.balance());
+        assertEquals(List.of(Composition.parse("CO2"), Composition.parse("H2O")), balanced.products());
+        assertEquals(6, balanced.productCoefficients()[0]);
+
+        assertEquals("2 H2 + O2 -> 2 H2O", Reaction.parse("H2 + O2 = H2O").balance().toString());
+        assertEquals("2 KMnO4 + 16 ClH -> 2 ClK + 2 Cl2Mn + 8 H2O + 5 Cl2",
+                Reaction.parse("KMnO4 + HCl -> KCl + MnCl2 + H2O + Cl2").balance().toString());
+        assertEquals("[13C]O2 + 4 H2 -> [13C]H4 + 2 H2O",
+                Reaction.parse("[13C]O2 + H2 -> [13C]H4 + H2O").balance().toString());
+        assertEquals(Reaction.of(List.of(Element.Fe, Composition.parse("O2")), List.of(Composition.parse("Fe2O3")))
+                .balance().reactantCoefficients()[0], 4);
+
+        // no solution, no positive solution and no unique solution
+        assertThrows(IllegalStateException.class, () -> Reaction.parse("H2 -> O2").balance());
+        assertThrows(IllegalStateException.class, () -> Reaction.parse("H2O -> H2O + O2").balance());
+        assertThrows(IllegalStateException.class, () -> Reaction.parse("H2 + O2 -> H2O + H2O2").balance());
+        assertThrows(IllegalArgumentException.class, () -> Reaction.parse("H2 + O2"));
+        assertThrows(IllegalArgumentException.class, () -> Reaction.parse("H2 + O2 -> "));
+        assertThrows(IllegalArgumentException.class, () -> Reaction.parse("0 H2 -> H2"));
+
+        List<Reaction> reactions = List.of(combustion, Reaction.parse("H2 -> O2"),
+                Reaction.parse("NaOH + H2SO4 -> Na2SO4 + H2O"), Reaction.parse("H2147483647 + O2147483646 -> H2O"));
+        assertThrows(IllegalStateException.class, () -> reactions.get(3).balance());
+        List<Reaction> balancedReactions = Reaction.balance(reactions);
+        assertEquals(balanced, balancedReactions.get(0));
+        assertEquals(reactions.get(1), balancedReactions.get(1));
+        assertEquals("2 HNaO + H2O4S -> Na2O4S + 2 H2O", balancedReactions.get(2).toString());
+        assertEquals(reactions.get(3), balancedReactions.get(3));
+    }
+}
@@ -0,0 +1,48 @@
+package eu.hoefel.chemistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the masses of sequences.
+ */
+@SuppressWarnings("javadoc")
+@DisplayName("Sequences")
+class SequenceCalculatorTests {
+
+    @DisplayName("Testing sequences")
+    @Test
+    void testSequences() {
+        SequenceCalculator peptide = SequenceCalculator.peptide();
+        assertEquals(Composition.parse("C34H53N7O15"), peptide.composition("PEPTIDE"));
+        assertEquals(799.35996, peptide.mass("PEPTIDE", MassMode.MONOISOTOPIC), 1e-5);
+        assertEquals(peptide.composition("PEPTIDE").mass(), peptide.mass("PEPTIDE", MassMode.AVERAGE), 1e-9);
+        assertEquals(Composition.parse("H2O"), peptide.composition(""));
+
+        SequenceCalculator modified = peptide.withFixedModification('C', "+C2H3NO")
+                                             .withVariableModification('m', 'M', "+O");
+        assertEquals(peptide.mass("ACM", MassMode.MONOISOTOPIC) + 57.02146 + 15.99491,
+                modified.mass("ACm", MassMode.MONOISOTOPIC), 1e-5);
+        assertEquals(Composition.parse("C3H5NOS.C2H3NO.H2O"), modified.composition("C"));
+        assertTrue(modified.isResidue('m'));
+        assertTrue(!peptide.isResidue('m'));
+        assertThrows(IllegalArgumentException.class, () -> peptide.mass("PEPmTIDE", MassMode.MONOISOTOPIC));
+        assertThrows(IllegalArgumentException.class, () -> peptide.withFixedModification('G', "-C3"));
+
+        assertEquals(Composition.parse("C39H50N15O22P3"), SequenceCalculator.dna().composition("ACGT"));
+        assertEquals(Composition.parse("C38H48N15O26P3"), SequenceCalculator.rna().composition("ACGU"));
+
+        List<String> sequences = List.of("PEPTIDE", "ACDEFGHIKLMNPQRSTVWY", "K");
+        double[] masses = new double[sequences.size()];
+        peptide.masses(sequences, MassMode.MONOISOTOPIC, masses);
+        for (int i = 0; i < masses.length; i++) {
+            assertEquals(peptide.composition(sequences.get(i)).mass(MassMode.MONOISOTOPIC), masses[i], 1e-9);
+        }
+    }
+}